@@ -0,0 +1,49 @@
+package com.jabaddon.pomodorotimer.adapter.in.ui.javafx;
+
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Arc;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.Circle;
+
+/**
+ * Circular progress indicator for the running session.
+ * It is moved on each pushed state and by the controller's rate-limited
+ * interpolation, and the arc only changes when the progress moves by at least a
+ * tenth of a degree, so a repeated position does not dirty the scene graph.
+ * The full track circle fixes the group bounds, so the ring does not shift as the arc grows.
+ */
+class ProgressRing extends Group {
+    private static final double MIN_ANGLE_STEP = 0.1;
+
+    private final Arc arc;
+    private double currentAngle = -1;
+
+    ProgressRing(double radius, double strokeWidth, Color trackColor, Color progressColor) {
+        Circle track = new Circle(radius);
+        track.setFill(Color.TRANSPARENT);
+        track.setStroke(trackColor);
+        track.setStrokeWidth(strokeWidth);
+
+        arc = new Arc(0, 0, radius, radius, 90, 0);
+        arc.setType(ArcType.OPEN);
+        arc.setFill(Color.TRANSPARENT);
+        arc.setStroke(progressColor);
+        arc.setStrokeWidth(strokeWidth);
+
+        getChildren().addAll(track, arc);
+    }
+
+    /**
+     * Sets the elapsed fraction of the session (0 = just started, 1 = finished).
+     */
+    void setProgress(double progress) {
+        double angle = 360.0 * Math.min(Math.max(progress, 0.0), 1.0);
+        if (Math.abs(angle - currentAngle) < MIN_ANGLE_STEP) {
+            return;
+        }
+        currentAngle = angle;
+        // Negative length draws clockwise from twelve o'clock
+        arc.setLength(-angle);
+    }
+}
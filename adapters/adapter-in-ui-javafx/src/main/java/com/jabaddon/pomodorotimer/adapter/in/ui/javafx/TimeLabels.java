@@ -0,0 +1,89 @@
+package com.jabaddon.pomodorotimer.adapter.in.ui.javafx;
+
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeEnumDTO;
+
+import java.util.Locale;
+
+/**
+ * Precomputed label texts for the timer views.
+ * "mm:ss" strings are built once per second value and then reused, so
+ * rendering a tick never formats or allocates. Covers the spinner's full
+ * 120 minute range; anything longer is formatted on demand.
+ */
+final class TimeLabels {
+    private static final int MAX_CACHED_SECONDS = 120 * 60;
+    private static final int CYCLE_LENGTH = 4;
+
+    private static final String[] MINUTES_SECONDS = new String[MAX_CACHED_SECONDS + 1];
+    private static final String[] WHOLE_MINUTES = new String[MAX_CACHED_SECONDS / 60 + 1];
+    private static final String[] CYCLE_INDICATORS = new String[CYCLE_LENGTH + 1];
+    private static final String[] SESSION_TITLES = new String[SessionTypeEnumDTO.values().length];
+
+    static {
+        for (int minutes = 0; minutes < WHOLE_MINUTES.length; minutes++) {
+            WHOLE_MINUTES[minutes] = minutes + "m";
+        }
+        for (int cycle = 0; cycle <= CYCLE_LENGTH; cycle++) {
+            StringBuilder indicator = new StringBuilder();
+            for (int i = 0; i < CYCLE_LENGTH; i++) {
+                indicator.append(i < cycle ? "● " : "○ ");
+            }
+            CYCLE_INDICATORS[cycle] = indicator.toString().trim();
+        }
+    }
+
+    private TimeLabels() {
+        // Utility class
+    }
+
+    /**
+     * Returns the remaining time as "mm:ss".
+     * Filled lazily; a racing fill just stores an equal string.
+     */
+    static String minutesSeconds(int totalSeconds) {
+        if (totalSeconds < 0 || totalSeconds > MAX_CACHED_SECONDS) {
+            return format(totalSeconds);
+        }
+        String text = MINUTES_SECONDS[totalSeconds];
+        if (text == null) {
+            text = format(totalSeconds);
+            MINUTES_SECONDS[totalSeconds] = text;
+        }
+        return text;
+    }
+
+    /**
+     * Returns the remaining time rounded up to whole minutes, e.g. "25m".
+     * Changes once a minute, which is all the tray needs by default.
+     */
+    static String wholeMinutes(int totalSeconds) {
+        int minutes = (Math.max(totalSeconds, 0) + 59) / 60;
+        return minutes < WHOLE_MINUTES.length ? WHOLE_MINUTES[minutes] : minutes + "m";
+    }
+
+    /**
+     * Returns the cycle dots, e.g. "● ● ○ ○" for cycle 2.
+     */
+    static String cycleIndicator(int cycle) {
+        return CYCLE_INDICATORS[Math.min(Math.max(cycle, 0), CYCLE_LENGTH)];
+    }
+
+    /**
+     * Returns the display name in capitals, e.g. "WORK SESSION".
+     * Cached per session type, like {@link #minutesSeconds(int)}.
+     */
+    static String sessionTitle(SessionTypeDTO sessionType) {
+        int index = sessionType.sessionType().ordinal();
+        String title = SESSION_TITLES[index];
+        if (title == null) {
+            title = sessionType.displayName().toUpperCase(Locale.ROOT);
+            SESSION_TITLES[index] = title;
+        }
+        return title;
+    }
+
+    private static String format(int totalSeconds) {
+        return String.format("%02d:%02d", totalSeconds / 60, totalSeconds % 60);
+    }
+}
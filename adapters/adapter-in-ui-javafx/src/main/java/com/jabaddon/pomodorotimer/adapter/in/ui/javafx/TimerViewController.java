@@ -1,10 +1,18 @@
 package com.jabaddon.pomodorotimer.adapter.in.ui.javafx;
 
+import com.jabaddon.pomodorotimer.application.diagnostics.StallWatchdog;
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceRing;
+import com.jabaddon.pomodorotimer.application.diagnostics.jfr.FlightEvents;
+import com.jabaddon.pomodorotimer.application.diagnostics.jfr.FxRenderEvent;
 import com.jabaddon.pomodorotimer.application.service.TimerApplicationService;
 import javafx.scene.Cursor;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
 import javafx.scene.input.MouseButton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -13,15 +21,16 @@ import com.jabaddon.pomodorotimer.adapter.in.ui.javafx.systemtray.MacOsSystemTra
 import com.jabaddon.pomodorotimer.adapter.in.ui.javafx.systemtray.NoOpSystemTrayManager;
 import com.jabaddon.pomodorotimer.adapter.in.ui.javafx.systemtray.SystemTrayManager;
 import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeEnumDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerStateDTO;
 import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
 import com.jabaddon.pomodorotimer.application.port.out.UIPort;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
-import javafx.util.Duration;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.Spinner;
@@ -32,6 +41,8 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+
 /**
  * Primary adapter for JavaFX UI (Driving adapter).
  * Supports dual-view mode:
@@ -53,6 +64,24 @@ public class TimerViewController implements UIPort {
     // System tray integration (OS-specific UI component)
     private final SystemTrayManager systemTrayManager;
 
+    // Tray shows "mm:ss" when true, otherwise whole minutes ("25m") to update once a minute
+    private final boolean trayShowsSeconds;
+    private String renderedTrayText;
+    private boolean systemTrayInitialized;
+
+    // Lazy startup shows the full view first; the compact view and tray come later
+    private final boolean lazyStartup;
+    private long createSceneStartNanos;
+    private Runnable firstFrameListener;
+
+    // FX thread stall detection: scene pulses (CSS + layout) and pushed state renders
+    private final StallWatchdog stallWatchdog;
+    private final StallWatchdog.Probe pulseProbe;
+    private final StallWatchdog.Probe renderProbe;
+    private final TraceRing traceRing;
+    // Flight Recorder event of the pulse in progress, null while not recording
+    private FxRenderEvent pulseEvent;
+
     // Stage reference for dynamic resizing
     private Stage stage;
     private Scene scene;
@@ -74,13 +103,24 @@ public class TimerViewController implements UIPort {
     private Button pauseButton;
     private Button resetButton;
 
+    // Session progress, interpolated from the pushed deadline at most ten times a second,
+    // and only while the full view is visible and the timer is running
+    private static final long PROGRESS_FRAME_NANOS = 100_000_000L;
+    private ProgressRing progressRing;
+    private AnimationTimer progressAnimation;
+    private long lastProgressFrameNanos;
+    private GetTimerStateQuery.TimerCurrentStateDTO lastState;
+
+    // Last rendered values; nodes are only touched when these change
+    private int renderedRemainingSeconds = -1;
+    private SessionTypeEnumDTO renderedSessionType;
+    private int renderedCompletedPomodoros = -1;
+    private int renderedCycle = -1;
+
     // UI Components (Compact Mode)
     private Label compactTimerLabel;
     private Label compactInfoLabel;
 
-    // UI update timeline
-    private Timeline updateTimeline;
-
     // ========== Style Constants ==========
 
     /**
@@ -109,6 +149,11 @@ public class TimerViewController implements UIPort {
         static final int FONT_SIZE_MINUTE_LABEL = 16;
         static final int FONT_SIZE_BUTTON = 14;
 
+        // Progress ring
+        static final double PROGRESS_RING_RADIUS = 28;
+        static final double PROGRESS_RING_STROKE = 6;
+        static final String COLOR_PROGRESS_TRACK = "#444444";
+
         // Button styles
         static final String BUTTON_BASE_STYLE = "-fx-text-fill: white; -fx-font-size: 14px; -fx-font-weight: bold;";
         static final String BUTTON_START = "-fx-background-color: " + COLOR_WORK + "; " + BUTTON_BASE_STYLE;
@@ -135,9 +180,21 @@ public class TimerViewController implements UIPort {
         static final int SPINNER_WIDTH = 100;
     }
 
-    public TimerViewController(TimerApplicationService timerService, ApplicationContext applicationContext) {
+    public TimerViewController(
+            TimerApplicationService timerService,
+            ApplicationContext applicationContext,
+            @Value("${app.ui.tray.show-seconds:false}") boolean trayShowsSeconds,
+            @Value("${app.ui.lazy-startup:true}") boolean lazyStartup,
+            StallWatchdog stallWatchdog,
+            TraceRing traceRing) {
         this.timerService = timerService;
         this.applicationContext = applicationContext;
+        this.trayShowsSeconds = trayShowsSeconds;
+        this.lazyStartup = lazyStartup;
+        this.stallWatchdog = stallWatchdog;
+        this.pulseProbe = stallWatchdog.probe("fx-pulse");
+        this.renderProbe = stallWatchdog.probe("fx-ui-update");
+        this.traceRing = traceRing;
 
         // Create OS-specific system tray manager (UI component)
         this.systemTrayManager = createSystemTrayManager();
@@ -157,14 +214,18 @@ public class TimerViewController implements UIPort {
         }
     }
 
+    /**
+     * Builds the scene for the stage.
+     * With lazy startup only the full view is built here; the compact view is
+     * built the first time it is shown and the system tray is initialized right
+     * after the first frame, so neither delays the window appearing.
+     */
     public Scene createScene(Stage stage) {
         this.stage = stage;
-
-        // Build both layouts
-        fullModeLayout = buildFullModeLayout();
-        compactModeLayout = buildCompactModeLayout();
+        this.createSceneStartNanos = System.nanoTime();
 
         // Start with full mode
+        fullModeLayout = buildFullModeLayout();
         scene = new Scene(fullModeLayout, 600, 400);
         // double click makes fullmoode go to compact mode
         fullModeLayout.setOnMouseClicked(event -> {
@@ -174,27 +235,65 @@ public class TimerViewController implements UIPort {
                 }
             }
         });
-        // double click makes compact mode go to full mode again
-        compactModeLayout.setOnMouseClicked(event -> {
-            if (event.getButton() == MouseButton.PRIMARY) {
-                if (event.getClickCount() == 2) {
-                    switchToFullMode();
-                }
-            }
-        });
 
         // Setup focus listener for automatic view switching
         //setupFocusListener();
 
-        // Initialize system tray
-        initializeSystemTray();
+        // Hidden or minimized windows get no scene updates; catch up when shown again
+        stage.showingProperty().addListener((obs, wasShowing, isShowing) -> onVisibilityChanged());
+        stage.iconifiedProperty().addListener((obs, wasIconified, isIconified) -> onVisibilityChanged());
+
+        firstFrameListener = this::onFirstFrame;
+        scene.addPostLayoutPulseListener(firstFrameListener);
+
+        // Time each pulse from before CSS/layout to after it; animations and rendering are not covered
+        scene.addPreLayoutPulseListener(this::onPulseStart);
+        scene.addPostLayoutPulseListener(this::onPulseEnd);
+
+        // Ctrl/Cmd+Shift+D writes the stall report to the log
+        scene.getAccelerators().put(
+                new KeyCodeCombination(KeyCode.D, KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN),
+                () -> log.info("\n{}", stallWatchdog.dump()));
+        // Ctrl/Cmd+Shift+T writes the trace ring to the data directory
+        scene.getAccelerators().put(
+                new KeyCodeCombination(KeyCode.T, KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN),
+                this::writeTrace);
+
+        if (!lazyStartup) {
+            ensureCompactModeLayout();
+            initializeSystemTray();
+        }
 
-        // Start UI update loop
-        startUIUpdateLoop();
+        // Render the initial state; later updates are pushed through onTimerStateChanged
+        updateUI(timerService.getCurrentState());
 
         return scene;
     }
 
+    /**
+     * Runs after the first laid-out pulse of the shown stage: logs time to first
+     * frame and, with lazy startup, initializes the tray once the frame is up.
+     */
+    private void onFirstFrame() {
+        if (!stage.isShowing()) {
+            return;
+        }
+        scene.removePostLayoutPulseListener(firstFrameListener);
+        firstFrameListener = null;
+
+        long sinceCreateScene = (System.nanoTime() - createSceneStartNanos) / 1_000_000;
+        long sinceProcessStart = ProcessHandle.current().info().startInstant()
+                .map(start -> System.currentTimeMillis() - start.toEpochMilli())
+                .orElse(-1L);
+        log.info("First frame {} ms after process start, {} ms after createScene (lazy startup: {})",
+                sinceProcessStart, sinceCreateScene, lazyStartup);
+
+        if (lazyStartup) {
+            // Let the frame reach the screen before the AWT toolkit starts
+            Platform.runLater(this::initializeSystemTray);
+        }
+    }
+
     // ========== Full Mode Layout ==========
 
     private VBox buildFullModeLayout() {
@@ -205,12 +304,13 @@ public class TimerViewController implements UIPort {
 
         // Setup UI components
         setupFullModeLabels();
+        HBox timerBox = createTimerBox();
         HBox spinnerBox = createSpinnerBox();
         HBox controlBox = createControlButtons();
 
         root.getChildren().addAll(
                 sessionTypeLabel,
-                timerLabel,
+                timerBox,
                 spinnerBox,
                 controlBox,
                 cycleIndicatorLabel,
@@ -238,6 +338,30 @@ public class TimerViewController implements UIPort {
         dailyCountLabel.setTextFill(Color.web(StyleConstants.COLOR_INFO));
     }
 
+    private HBox createTimerBox() {
+        progressRing = new ProgressRing(
+                StyleConstants.PROGRESS_RING_RADIUS,
+                StyleConstants.PROGRESS_RING_STROKE,
+                Color.web(StyleConstants.COLOR_PROGRESS_TRACK),
+                Color.web(StyleConstants.COLOR_WORK));
+
+        progressAnimation = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (now - lastProgressFrameNanos >= PROGRESS_FRAME_NANOS) {
+                    lastProgressFrameNanos = now;
+                    updateProgress(lastState, now / 1_000_000);
+                }
+            }
+        };
+
+        HBox timerBox = new HBox(20);
+        timerBox.setAlignment(Pos.CENTER);
+        timerBox.getChildren().addAll(progressRing, timerLabel);
+
+        return timerBox;
+    }
+
     private HBox createSpinnerBox() {
         Label minuteLabel = new Label("Minutes:");
         minuteLabel.setTextFill(Color.WHITE);
@@ -280,6 +404,27 @@ public class TimerViewController implements UIPort {
 
     // ========== Compact Mode Layout ==========
 
+    private void ensureCompactModeLayout() {
+        if (compactModeLayout != null) {
+            return;
+        }
+        compactModeLayout = buildCompactModeLayout();
+        // double click makes compact mode go to full mode again
+        compactModeLayout.setOnMouseClicked(event -> {
+            if (event.getButton() == MouseButton.PRIMARY) {
+                if (event.getClickCount() == 2) {
+                    switchToFullMode();
+                }
+            }
+        });
+        // Catch up with the values already rendered in the full view
+        if (lastState != null) {
+            compactTimerLabel.setText(TimeLabels.minutesSeconds(lastState.getRemainingSeconds()));
+            compactInfoLabel.setText(TimeLabels.cycleIndicator(lastState.getCurrentCycle())
+                    + "  (" + lastState.getCompletedPomodoros() + ")");
+        }
+    }
+
     private VBox buildCompactModeLayout() {
         VBox root = new VBox(8);
         root.setPadding(new Insets(15));
@@ -332,17 +477,20 @@ public class TimerViewController implements UIPort {
         stage.setHeight(500);
         stage.setAlwaysOnTop(false);
         stage.setOpacity(1.0);
+        updateProgressAnimation();
     }
 
     private void switchToCompactMode() {
         if (currentMode == ViewMode.COMPACT) return;
 
         currentMode = ViewMode.COMPACT;
+        ensureCompactModeLayout();
         scene.setRoot(compactModeLayout);
         stage.setWidth(220);
         stage.setHeight(120);
         stage.setAlwaysOnTop(true);
         stage.setOpacity(0.95);
+        updateProgressAnimation();
 
         // Keep position (don't recenter in compact mode)
     }
@@ -396,49 +544,138 @@ public class TimerViewController implements UIPort {
         minuteSpinner.setDisable(false);
     }
 
-    // ========== UI Update Loop ==========
+    // ========== UI Updates ==========
 
     /**
-     * Periodically polls the application service for state updates.
-     * Updates UI based on current state.
+     * Renders a state snapshot pushed by the application service.
+     * The service only pushes on ticks and state transitions, so the UI does
+     * no work at all while the timer is idle or paused.
+     *
+     * Refresh follows visibility: a hidden or minimized stage gets no scene
+     * updates and the tray only changes when its text does. Between pushes the
+     * progress ring is interpolated from the deadline, but only while the full
+     * view is visible and the timer is running.
      */
-    private void startUIUpdateLoop() {
-        updateTimeline = new Timeline(new KeyFrame(Duration.millis(100), e -> updateUI()));
-        updateTimeline.setCycleCount(Timeline.INDEFINITE);
-        updateTimeline.play();
+    private void updateUI(GetTimerStateQuery.TimerCurrentStateDTO state) {
+        FxRenderEvent event = FlightEvents.fxRender();
+        renderProbe.enter();
+        try {
+            applyState(state);
+        } finally {
+            renderProbe.exit();
+            if (event != null) {
+                event.commit(FxRenderEvent.STATE_UPDATE);
+            }
+        }
     }
 
-    private void updateUI() {
-        GetTimerStateQuery.TimerCurrentStateDTO state = timerService.getCurrentState();
+    private void writeTrace() {
+        try {
+            log.info("Trace written to {}", traceRing.dumpToFile());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write trace: {}", e.getMessage());
+        }
+    }
 
-        // Update full mode UI
-        timerLabel.setText(getFormattedTime(state));
-        sessionTypeLabel.setText(state.getSessionType().displayName().toUpperCase());
-        dailyCountLabel.setText("Today's Pomodoros: " + state.getCompletedPomodoros());
-        cycleIndicatorLabel.setText(buildCycleIndicator(state.getCurrentCycle()));
+    private void onPulseStart() {
+        pulseProbe.enter();
+        pulseEvent = FlightEvents.fxRender();
+    }
 
-        // Update compact mode UI
-        compactTimerLabel.setText(getFormattedTime(state));
-        compactInfoLabel.setText(
-            buildCycleIndicator(state.getCurrentCycle()) + "  (" + state.getCompletedPomodoros() + ")"
-        );
+    private void onPulseEnd() {
+        pulseProbe.exit();
+        if (pulseEvent != null) {
+            pulseEvent.commit(FxRenderEvent.PULSE);
+            pulseEvent = null;
+        }
+    }
+
+    private void applyState(GetTimerStateQuery.TimerCurrentStateDTO state) {
+        lastState = state;
+        updateTray(state);
+        if (isSceneVisible()) {
+            renderScene(state);
+        }
+        updateProgressAnimation();
+    }
+
+    /**
+     * Compares the state with what was last rendered and only updates changed
+     * nodes, so CSS and layout passes happen at most once per second.
+     */
+    private void renderScene(GetTimerStateQuery.TimerCurrentStateDTO state) {
+        updateProgress(state, System.nanoTime() / 1_000_000);
+
+        int remainingSeconds = state.getRemainingSeconds();
+        if (remainingSeconds != renderedRemainingSeconds) {
+            renderedRemainingSeconds = remainingSeconds;
+            String formattedTime = TimeLabels.minutesSeconds(remainingSeconds);
+            timerLabel.setText(formattedTime);
+            if (compactTimerLabel != null) {
+                compactTimerLabel.setText(formattedTime);
+            }
+        }
+
+        SessionTypeEnumDTO sessionType = state.getSessionType().sessionType();
+        if (sessionType != renderedSessionType) {
+            renderedSessionType = sessionType;
+            sessionTypeLabel.setText(TimeLabels.sessionTitle(state.getSessionType()));
+        }
+
+        int completedPomodoros = state.getCompletedPomodoros();
+        int cycle = state.getCurrentCycle();
+        if (completedPomodoros != renderedCompletedPomodoros || cycle != renderedCycle) {
+            renderedCompletedPomodoros = completedPomodoros;
+            renderedCycle = cycle;
+            String cycleIndicator = TimeLabels.cycleIndicator(cycle);
+            dailyCountLabel.setText("Today's Pomodoros: " + completedPomodoros);
+            cycleIndicatorLabel.setText(cycleIndicator);
+            if (compactInfoLabel != null) {
+                compactInfoLabel.setText(cycleIndicator + "  (" + completedPomodoros + ")");
+            }
+        }
+    }
+
+    private void updateTray(GetTimerStateQuery.TimerCurrentStateDTO state) {
+        String trayText = trayShowsSeconds
+                ? TimeLabels.minutesSeconds(state.getRemainingSeconds())
+                : TimeLabels.wholeMinutes(state.getRemainingSeconds());
+        if (!trayText.equals(renderedTrayText)) {
+            renderedTrayText = trayText;
+            systemTrayManager.updateTimer(trayText);
+        }
+    }
 
-        // Update system tray
-        systemTrayManager.updateTimer(getFormattedTime(state));
+    private boolean isSceneVisible() {
+        return stage.isShowing() && !stage.isIconified();
     }
 
-    private String getFormattedTime(GetTimerStateQuery.TimerCurrentStateDTO state) {
-        int mins = state.getRemainingSeconds() / 60;
-        int secs = state.getRemainingSeconds() % 60;
-        return String.format("%02d:%02d", mins, secs);
+    private void onVisibilityChanged() {
+        if (lastState != null && isSceneVisible()) {
+            renderScene(lastState);
+        }
+        updateProgressAnimation();
     }
 
-    private String buildCycleIndicator(int cycle) {
-        StringBuilder indicator = new StringBuilder();
-        for (int i = 0; i < 4; i++) {
-            indicator.append(i < cycle ? "● " : "○ ");
+    /**
+     * Starts the ring interpolation only when someone can see it move: full view,
+     * stage visible and timer running. Otherwise the pushed state moves the ring.
+     */
+    private void updateProgressAnimation() {
+        if (lastState != null && lastState.isRunning() && currentMode == ViewMode.FULL && isSceneVisible()) {
+            progressAnimation.start();
+        } else {
+            progressAnimation.stop();
         }
-        return indicator.toString().trim();
+    }
+
+    private void updateProgress(GetTimerStateQuery.TimerCurrentStateDTO state, long nowMillis) {
+        if (state == null || state.getDurationSeconds() == 0 || state.getState() == TimerStateDTO.IDLE) {
+            progressRing.setProgress(0);
+            return;
+        }
+        double durationMillis = state.getDurationSeconds() * 1000.0;
+        progressRing.setProgress(1.0 - state.getRemainingMillisAt(nowMillis) / durationMillis);
     }
 
     // ========== System Tray Integration ==========
@@ -447,6 +684,10 @@ public class TimerViewController implements UIPort {
      * Initializes the system tray icon with menu bar integration.
      */
     private void initializeSystemTray() {
+        if (systemTrayInitialized) {
+            return;
+        }
+        systemTrayInitialized = true;
         systemTrayManager.initialize(stage);
 
         // Wire up menu actions
@@ -472,14 +713,32 @@ public class TimerViewController implements UIPort {
      * Cleanup method called when application closes.
      */
     public void shutdown() {
-        if (updateTimeline != null) {
-            updateTimeline.stop();
+        if (progressAnimation != null) {
+            progressAnimation.stop();
+        }
+        if (systemTrayInitialized) {
+            systemTrayManager.cleanup();
         }
-        systemTrayManager.cleanup();
     }
 
     // ========== UIPort Implementation ==========
 
+    /**
+     * Called by the application service on every tick and state transition.
+     * Ticks from the JavaFX scheduler already arrive on the FX thread.
+     */
+    @Override
+    public void onTimerStateChanged(GetTimerStateQuery.TimerCurrentStateDTO state) {
+        if (scene == null) {
+            return; // Scene not built yet; createScene renders the initial state
+        }
+        if (Platform.isFxApplicationThread()) {
+            updateUI(state);
+        } else {
+            Platform.runLater(() -> updateUI(state));
+        }
+    }
+
     /**
      * Called by the application service when a timer completes.
      * Resets the UI controls to their initial state for the next session.
@@ -489,7 +748,7 @@ public class TimerViewController implements UIPort {
         log.info("Timer completed notification received: {} -> {}", completedType, nextType);
 
         // Use Platform.runLater to ensure UI updates happen on JavaFX Application Thread
-        javafx.application.Platform.runLater(() -> {
+        Platform.runLater(() -> {
             // Reset button states
             startButton.setDisable(false);
             pauseButton.setDisable(true);
@@ -1,15 +1,15 @@
 package com.jabaddon.pomodorotimer.adapter.in.ui.javafx.systemtray;
 
 import java.awt.AWTException;
-import java.awt.Font;
-import java.awt.FontMetrics;
-import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.MenuItem;
 import java.awt.PopupMenu;
-import java.awt.RenderingHints;
 import java.awt.SystemTray;
 import java.awt.TrayIcon;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,12 +21,25 @@ import javafx.stage.Stage;
  * macOS-specific implementation of system tray/menu bar integration.
  * Displays timer in the macOS menu bar with a popup menu for controls.
  * This is a UI presentation component, not an adapter for business logic.
+ *
+ * Timer images are composited from a glyph cache on the AWT thread; unchanged
+ * texts are dropped before the hop and bursts of updates are coalesced. The
+ * tooltip for each displayed time is built once and reused.
  */
 public class MacOsSystemTrayManager implements SystemTrayManager {
     private static final Logger log = LoggerFactory.getLogger(MacOsSystemTrayManager.class);
+    private static final String TOOLTIP_PREFIX = "Pomodoro Timer - ";
+    private static final Function<String, String> TOOLTIP_TEXT = TOOLTIP_PREFIX::concat;
 
     private SystemTray systemTray;
-    private TrayIcon trayIcon;
+    private volatile TrayIcon trayIcon;
+    private TrayImageRenderer trayImageRenderer;
+    private final AtomicReference<String> pendingTime = new AtomicReference<>();
+    private final Runnable applyPendingTime = this::applyPendingTime;
+    private volatile String requestedTime;
+    private String displayedTime;
+    // Tooltip per displayed time, built once; only touched on the AWT thread
+    private final Map<String, String> tooltips = new HashMap<>();
     private Stage stage;
     private Runnable onStartPauseAction;
     private Runnable onResetAction;
@@ -48,21 +61,33 @@ public class MacOsSystemTrayManager implements SystemTrayManager {
             try {
                 systemTray = SystemTray.getSystemTray();
 
-                // Create a simple image for the tray icon
-                Image image = createTrayImage("25:00");
+                // Rasterize the glyphs once; every later timer image reuses them
+                trayImageRenderer = new TrayImageRenderer();
+                // Updates may have been requested before the tray existed
+                String initialTime = requestedTime;
+                displayedTime = initialTime != null ? initialTime : "25:00";
+                Image image = trayImageRenderer.render(displayedTime);
 
                 // Create popup menu
                 PopupMenu popup = createPopupMenu();
 
                 // Create tray icon
-                trayIcon = new TrayIcon(image, "Pomodoro Timer", popup);
-                trayIcon.setImageAutoSize(true);
+                TrayIcon icon = new TrayIcon(image, "Pomodoro Timer", popup);
+                icon.setImageAutoSize(true);
 
                 // Double-click to show/hide window
-                trayIcon.addActionListener(e -> toggleWindowVisibility());
+                icon.addActionListener(e -> toggleWindowVisibility());
 
                 // Add to system tray
-                systemTray.add(trayIcon);
+                systemTray.add(icon);
+                trayIcon = icon;
+
+                // Catch up with a time requested while the icon was being created
+                String latestTime = requestedTime;
+                if (latestTime != null && !latestTime.equals(displayedTime)) {
+                    pendingTime.set(latestTime);
+                    applyPendingTime();
+                }
 
                 log.info("System tray icon added successfully");
 
@@ -123,63 +148,38 @@ public class MacOsSystemTrayManager implements SystemTrayManager {
         return popup;
     }
 
-    /**
-     * Creates a simple image for the tray icon with timer text (MM:SS format).
-     * White background with black text for consistent visibility.
-     */
-    private Image createTrayImage(String text) {
-        // Make icon wider to accommodate MM:SS format with larger font
-        int width = 60;  // Wider for larger text
-        int height = 32; // Standard macOS menu bar height
-
-        java.awt.image.BufferedImage bufferedImage = new java.awt.image.BufferedImage(
-            width, height, java.awt.image.BufferedImage.TYPE_INT_ARGB
-        );
-
-        Graphics2D g2d = bufferedImage.createGraphics();
-
-        // Enable antialiasing for smooth rendering
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-
-        // Draw white background
-        g2d.setColor(java.awt.Color.WHITE);
-        g2d.fillRect(0, 0, width, height);
-
-        // Draw black text
-        g2d.setColor(java.awt.Color.BLACK);
-        g2d.setFont(new Font("SF Mono", Font.PLAIN, 22)); // Larger monospace font
-
-        // Center the text
-        FontMetrics fm = g2d.getFontMetrics();
-        int textWidth = fm.stringWidth(text);
-        int textHeight = fm.getAscent();
-        int x = (width - textWidth) / 2;
-        int y = (height + textHeight) / 2 - 1; // Slight vertical adjustment
-
-        g2d.drawString(text, x, y);
-
-        g2d.dispose();
-
-        return bufferedImage;
-    }
-
     @Override
     public void updateTimer(String formattedTime) {
-        if (trayIcon != null) {
-            // Update icon with new time
-            Image newImage = createTrayImage(formattedTime);
-            trayIcon.setImage(newImage);
+        if (formattedTime.equals(requestedTime)) {
+            return;
+        }
+        requestedTime = formattedTime;
+        if (trayIcon == null) {
+            return; // Not initialized yet; initialize picks up the latest requested time
+        }
+        // Coalesce: only one pending hop to the AWT thread, which picks up the latest text
+        if (pendingTime.getAndSet(formattedTime) == null) {
+            java.awt.EventQueue.invokeLater(applyPendingTime);
+        }
+    }
 
-            // Update tooltip
-            trayIcon.setToolTip("Pomodoro Timer - " + formattedTime);
+    /**
+     * Runs on the AWT thread and composites the latest requested time from the glyph cache.
+     */
+    private void applyPendingTime() {
+        String formattedTime = pendingTime.getAndSet(null);
+        if (trayIcon == null || formattedTime == null || formattedTime.equals(displayedTime)) {
+            return;
         }
+        displayedTime = formattedTime;
+        trayIcon.setImage(trayImageRenderer.render(formattedTime));
+        trayIcon.setToolTip(tooltips.computeIfAbsent(formattedTime, TOOLTIP_TEXT));
     }
 
     @Override
     public void updateStatus(String status) {
         if (trayIcon != null) {
-            trayIcon.setToolTip("Pomodoro Timer - " + status);
+            trayIcon.setToolTip(TOOLTIP_PREFIX + status);
         }
     }
 
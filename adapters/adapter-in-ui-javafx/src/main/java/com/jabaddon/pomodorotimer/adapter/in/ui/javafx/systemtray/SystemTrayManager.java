@@ -19,7 +19,8 @@ public interface SystemTrayManager {
 
     /**
      * Updates the timer display in the system tray.
-     * @param formattedTime The time in "MM:SS" format
+     * Only called when the text changes.
+     * @param formattedTime The time in "MM:SS" format, or whole minutes such as "25m"
      */
     void updateTimer(String formattedTime);
 
@@ -0,0 +1,124 @@
+package com.jabaddon.pomodorotimer.adapter.in.ui.javafx.systemtray;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * Renders the tray timer text from pre-rasterized glyph tiles.
+ *
+ * Every digit, the colon and the minute suffix are drawn once with font
+ * metrics and anti-aliasing; afterwards a text is composited by copying tile
+ * rows into one of two reused image buffers. The buffers alternate because
+ * the tray peer may keep the previous image, so the one on screen is never
+ * overwritten. Texts with other characters, or too wide for the icon, fall
+ * back to drawing the string directly.
+ *
+ * Not thread-safe; only used on the AWT event thread.
+ */
+final class TrayImageRenderer {
+    static final int WIDTH = 60;  // Wide enough for MM:SS with the larger font
+    static final int HEIGHT = 32; // Standard macOS menu bar height
+
+    private static final String GLYPHS = "0123456789:m";
+    private static final int BACKGROUND = Color.WHITE.getRGB();
+    private static final Font FONT = new Font("SF Mono", Font.PLAIN, 22);
+
+    private final int[][] tilePixels = new int[GLYPHS.length()][];
+    private final int[] tileWidths = new int[GLYPHS.length()];
+    private final BufferedImage[] buffers = new BufferedImage[2];
+    private int currentBuffer;
+
+    TrayImageRenderer() {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        }
+        for (int i = 0; i < GLYPHS.length(); i++) {
+            rasterizeGlyph(i, GLYPHS.charAt(i));
+        }
+    }
+
+    /**
+     * Renders the text into the next buffer and returns it.
+     */
+    BufferedImage render(String text) {
+        currentBuffer = (currentBuffer + 1) % buffers.length;
+        BufferedImage image = buffers[currentBuffer];
+
+        int textWidth = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int glyph = GLYPHS.indexOf(text.charAt(i));
+            if (glyph < 0) {
+                textWidth = Integer.MAX_VALUE;
+                break;
+            }
+            textWidth += tileWidths[glyph];
+        }
+        if (textWidth > WIDTH) {
+            drawString(image, text);
+            return image;
+        }
+
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        Arrays.fill(pixels, BACKGROUND);
+        int x = (WIDTH - textWidth) / 2;
+        for (int i = 0; i < text.length(); i++) {
+            int glyph = GLYPHS.indexOf(text.charAt(i));
+            int tileWidth = tileWidths[glyph];
+            int[] tile = tilePixels[glyph];
+            for (int row = 0; row < HEIGHT; row++) {
+                System.arraycopy(tile, row * tileWidth, pixels, row * WIDTH + x, tileWidth);
+            }
+            x += tileWidth;
+        }
+        return image;
+    }
+
+    private void rasterizeGlyph(int index, char glyph) {
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D measure = scratch.createGraphics();
+        measure.setFont(FONT);
+        int width = Math.max(1, measure.getFontMetrics().charWidth(glyph));
+        measure.dispose();
+
+        BufferedImage tile = new BufferedImage(width, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = createGraphics(tile, width);
+        FontMetrics fm = g2d.getFontMetrics();
+        g2d.drawString(String.valueOf(glyph), 0, baseline(fm));
+        g2d.dispose();
+
+        tileWidths[index] = width;
+        tilePixels[index] = tile.getRGB(0, 0, width, HEIGHT, null, 0, width);
+    }
+
+    private static void drawString(BufferedImage image, String text) {
+        Graphics2D g2d = createGraphics(image, WIDTH);
+        FontMetrics fm = g2d.getFontMetrics();
+        int x = (WIDTH - fm.stringWidth(text)) / 2;
+        g2d.drawString(text, x, baseline(fm));
+        g2d.dispose();
+    }
+
+    /**
+     * White background, black anti-aliased text, as the menu bar icon always had.
+     */
+    private static Graphics2D createGraphics(BufferedImage image, int width) {
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, width, HEIGHT);
+        g2d.setColor(Color.BLACK);
+        g2d.setFont(FONT);
+        return g2d;
+    }
+
+    private static int baseline(FontMetrics fm) {
+        return (HEIGHT + fm.getAscent()) / 2 - 1; // Slight vertical adjustment
+    }
+}
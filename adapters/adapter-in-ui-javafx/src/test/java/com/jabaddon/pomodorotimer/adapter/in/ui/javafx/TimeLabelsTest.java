@@ -0,0 +1,59 @@
+package com.jabaddon.pomodorotimer.adapter.in.ui.javafx;
+
+import static com.jabaddon.pomodorotimer.application.testing.AllocationMeter.SLACK_BYTES;
+import static com.jabaddon.pomodorotimer.application.testing.AllocationMeter.allocatedBytes;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeEnumDTO;
+
+@DisplayName("TimeLabels Tests")
+class TimeLabelsTest {
+    private static final int CALLS = 10_000;
+    private static final SessionTypeDTO WORK = new SessionTypeDTO(SessionTypeEnumDTO.WORK, 25, "Work Session");
+
+    private static volatile String sink;
+
+    @Nested
+    @DisplayName("Formatting Tests")
+    class FormattingTests {
+
+        @Test
+        @DisplayName("Should format remaining time, minutes, cycles and titles")
+        void shouldFormatLabels() {
+            assertThat(TimeLabels.minutesSeconds(25 * 60), is(equalTo("25:00")));
+            assertThat(TimeLabels.minutesSeconds(61), is(equalTo("01:01")));
+            assertThat(TimeLabels.wholeMinutes(61), is(equalTo("2m")));
+            assertThat(TimeLabels.cycleIndicator(2), is(equalTo("● ● ○ ○")));
+            assertThat(TimeLabels.sessionTitle(WORK), is(equalTo("WORK SESSION")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Allocation Budget Tests")
+    class AllocationBudgetTests {
+
+        @Test
+        @DisplayName("Should label every second of a session without allocating")
+        void shouldLabelTicksWithoutAllocating() {
+            long bytes = allocatedBytes(() -> {
+                for (int i = 0; i < CALLS; i++) {
+                    int remainingSeconds = i % (120 * 60);
+                    sink = TimeLabels.minutesSeconds(remainingSeconds);
+                    sink = TimeLabels.wholeMinutes(remainingSeconds);
+                    sink = TimeLabels.cycleIndicator(i % 5);
+                    sink = TimeLabels.sessionTitle(WORK);
+                }
+            });
+
+            assertThat(bytes, is(lessThanOrEqualTo(SLACK_BYTES)));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.jabaddon.pomodorotimer.adapter.in.ui.shell;
+
+/**
+ * Glyph table for the multi-row clock in watch mode.
+ * Every glyph row is a precomputed string, so drawing the clock only
+ * copies existing strings to the screen.
+ */
+final class LargeDigits {
+    static final int HEIGHT = 5;
+    static final int GAP = 1;
+
+    private static final String[][] DIGITS = {
+            {"█████", "█   █", "█   █", "█   █", "█████"},
+            {"    █", "    █", "    █", "    █", "    █"},
+            {"█████", "    █", "█████", "█    ", "█████"},
+            {"█████", "    █", "█████", "    █", "█████"},
+            {"█   █", "█   █", "█████", "    █", "    █"},
+            {"█████", "█    ", "█████", "    █", "█████"},
+            {"█████", "█    ", "█████", "█   █", "█████"},
+            {"█████", "    █", "    █", "    █", "    █"},
+            {"█████", "█   █", "█████", "█   █", "█████"},
+            {"█████", "█   █", "█████", "    █", "█████"},
+    };
+    private static final String[] COLON = {" ", "█", " ", "█", " "};
+
+    private LargeDigits() {
+        // Utility class
+    }
+
+    /**
+     * Returns the glyph rows for a digit (0-9) or ':'.
+     */
+    static String[] glyph(char c) {
+        return c == ':' ? COLON : DIGITS[c - '0'];
+    }
+
+    static int width(char c) {
+        return glyph(c)[0].length();
+    }
+
+    /**
+     * Total width of the glyphs including the gaps between them.
+     */
+    static int width(char[] text, int length) {
+        int width = 0;
+        for (int i = 0; i < length; i++) {
+            width += width(text[i]);
+        }
+        return width + Math.max(0, length - 1) * GAP;
+    }
+}
@@ -3,22 +3,22 @@ package com.jabaddon.pomodorotimer.adapter.in.ui.shell;
 import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
 import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
 import com.jabaddon.pomodorotimer.application.port.out.UIPort;
-import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Primary adapter implementing UIPort for Spring Shell.
  * Provides callbacks from the application layer to the UI layer.
- * Also maintains current timer state by polling the query port.
+ * Keeps the last state pushed by the application service; there is no
+ * background polling, so an idle or paused timer costs no wake-ups.
+ * Views such as watch mode register listeners to be told about each new state.
  * Active when shell profile is enabled.
  */
 @Component
@@ -28,47 +28,35 @@ public class SpringShellUIAdapter implements UIPort {
 
     private final GetTimerStateQuery stateQuery;
     private volatile GetTimerStateQuery.TimerCurrentStateDTO currentState;
-    private ScheduledExecutorService statePollingExecutor;
+    private final List<Consumer<GetTimerStateQuery.TimerCurrentStateDTO>> stateListeners = new CopyOnWriteArrayList<>();
 
     @Autowired
     public SpringShellUIAdapter(GetTimerStateQuery stateQuery) {
         this.stateQuery = stateQuery;
     }
 
-    @PostConstruct
-    public void initialize() {
-        // Start background polling to keep state fresh
-        statePollingExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
-            Thread thread = new Thread(runnable, "shell-ui-state-poller");
-            thread.setDaemon(true);
-            return thread;
-        });
-
-        // Poll state every 100ms
-        statePollingExecutor.scheduleAtFixedRate(
-            this::updateState,
-            0,
-            500,
-            TimeUnit.MILLISECONDS
-        );
-
-        logger.info("Spring Shell UI adapter initialized");
+    @Override
+    public void onTimerStateChanged(GetTimerStateQuery.TimerCurrentStateDTO state) {
+        currentState = state;
+        for (Consumer<GetTimerStateQuery.TimerCurrentStateDTO> listener : stateListeners) {
+            try {
+                listener.accept(state);
+            } catch (Exception e) {
+                logger.error("Error notifying timer state listener", e);
+            }
+        }
     }
 
-    @PreDestroy
-    public void shutdown() {
-        if (statePollingExecutor != null && !statePollingExecutor.isShutdown()) {
-            statePollingExecutor.shutdownNow();
-        }
-        logger.info("Spring Shell UI adapter shut down");
+    /**
+     * Registers a listener called with every state pushed by the application service.
+     * Listeners run on the pushing thread and must return quickly.
+     */
+    public void addStateListener(Consumer<GetTimerStateQuery.TimerCurrentStateDTO> listener) {
+        stateListeners.add(listener);
     }
 
-    private void updateState() {
-        try {
-            currentState = stateQuery.getCurrentState();
-        } catch (Exception e) {
-            logger.error("Error updating timer state", e);
-        }
+    public void removeStateListener(Consumer<GetTimerStateQuery.TimerCurrentStateDTO> listener) {
+        stateListeners.remove(listener);
     }
 
     @Override
@@ -87,12 +75,13 @@ public class SpringShellUIAdapter implements UIPort {
     }
 
     /**
-     * Gets the current timer state.
-     * This is called by commands and watch mode to display state.
+     * Gets the last state pushed by the application service.
+     * This is called by commands and watch mode to display state; only before
+     * the first push is the service queried.
      */
     public GetTimerStateQuery.TimerCurrentStateDTO getCurrentState() {
-        updateState();
-        return currentState;
+        GetTimerStateQuery.TimerCurrentStateDTO state = currentState;
+        return state != null ? state : stateQuery.getCurrentState();
     }
 
     private String getDisplayName(SessionTypeDTO sessionType) {
@@ -1,7 +1,11 @@
 package com.jabaddon.pomodorotimer.adapter.in.ui.shell;
 
+import com.jabaddon.pomodorotimer.application.diagnostics.StallWatchdog;
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceRing;
 import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
 import com.jabaddon.pomodorotimer.application.dto.TimerStateDTO;
+import com.jabaddon.pomodorotimer.application.port.in.GetTickStatisticsQuery;
 import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
 import com.jabaddon.pomodorotimer.application.port.in.PauseTimerUseCase;
 import com.jabaddon.pomodorotimer.application.port.in.ResetTimerUseCase;
@@ -27,7 +31,10 @@ public class TimerCommands {
     private final StartTimerUseCase startTimer;
     private final PauseTimerUseCase pauseTimer;
     private final ResetTimerUseCase resetTimer;
+    private final GetTickStatisticsQuery tickStatistics;
     private final SpringShellUIAdapter uiAdapter;
+    private final StallWatchdog stallWatchdog;
+    private final TraceRing traceRing;
     private final TimerWatchMode watchMode;
 
     @Autowired
@@ -35,11 +42,17 @@ public class TimerCommands {
             StartTimerUseCase startTimer,
             PauseTimerUseCase pauseTimer,
             ResetTimerUseCase resetTimer,
-            SpringShellUIAdapter uiAdapter) {
+            GetTickStatisticsQuery tickStatistics,
+            SpringShellUIAdapter uiAdapter,
+            StallWatchdog stallWatchdog,
+            TraceRing traceRing) {
         this.startTimer = startTimer;
         this.pauseTimer = pauseTimer;
         this.resetTimer = resetTimer;
+        this.tickStatistics = tickStatistics;
         this.uiAdapter = uiAdapter;
+        this.stallWatchdog = stallWatchdog;
+        this.traceRing = traceRing;
         this.watchMode = new TimerWatchMode(uiAdapter);
     }
 
@@ -141,6 +154,36 @@ public class TimerCommands {
         }
     }
 
+    @ShellMethod(key = "timer ticks", value = "Show tick lateness and drift for the current session")
+    public String ticks() {
+        try {
+            return formatTickStatistics(tickStatistics.getTickStatistics());
+        } catch (Exception e) {
+            logger.error("Error getting tick statistics", e);
+            return "✗ Error getting tick statistics: " + e.getMessage();
+        }
+    }
+
+    @ShellMethod(key = "timer stalls", value = "Show tick callback durations and recent stalls with stack samples")
+    public String stalls() {
+        try {
+            return stallWatchdog.dump();
+        } catch (Exception e) {
+            logger.error("Error getting stall report", e);
+            return "✗ Error getting stall report: " + e.getMessage();
+        }
+    }
+
+    @ShellMethod(key = "timer trace", value = "Write recent ticks, transitions and history I/O to a trace file")
+    public String trace() {
+        try {
+            return "✓ Trace written to " + traceRing.dumpToFile();
+        } catch (Exception e) {
+            logger.error("Error writing trace", e);
+            return "✗ Error writing trace: " + e.getMessage();
+        }
+    }
+
     @ShellMethod(key = "timer watch", value = "Watch timer with live updates (press Ctrl+Q to exit)")
     public String watch() {
         try {
@@ -160,11 +203,35 @@ public class TimerCommands {
         sb.append(String.format("│ Time:   %-27s │\n", formatTime(state.getRemainingSeconds())));
         sb.append(String.format("│ Type:   %-27s │\n", getSessionTypeDisplay(state.getSessionType())));
         sb.append(String.format("│ Cycle:  %-27s │\n", formatCycle(state.getCurrentCycle())));
-        sb.append(String.format("│ Today:  🍅 %-24d │\n", state.getCompletedPomodoros()));
+        if (state.isReady()) {
+            sb.append(String.format("│ Today:  🍅 %-24d │\n", state.getCompletedPomodoros()));
+        } else {
+            sb.append(String.format("│ Today:  %-27s │\n", "restoring history..."));
+        }
+        sb.append("└─────────────────────────────────────┘\n");
+        return sb.toString();
+    }
+
+    private String formatTickStatistics(TickStatisticsDTO stats) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n");
+        sb.append("┌─────────────────────────────────────┐\n");
+        sb.append(String.format("│ Ticks:        %-21d │\n", stats.tickCount()));
+        sb.append(String.format("│ Late mean:    %-21s │\n", formatMicros(stats.meanLatenessMicros())));
+        sb.append(String.format("│ Late p50:     %-21s │\n", formatMicros(stats.p50LatenessMicros())));
+        sb.append(String.format("│ Late p90:     %-21s │\n", formatMicros(stats.p90LatenessMicros())));
+        sb.append(String.format("│ Late p99:     %-21s │\n", formatMicros(stats.p99LatenessMicros())));
+        sb.append(String.format("│ Late max:     %-21s │\n", formatMicros(stats.maxLatenessMicros())));
+        sb.append(String.format("│ Drift:        %-21s │\n", formatMicros(stats.cumulativeDriftMicros())));
+        sb.append(String.format("│ Drift max:    %-21s │\n", formatMicros(stats.maxDriftMicros())));
         sb.append("└─────────────────────────────────────┘\n");
         return sb.toString();
     }
 
+    private String formatMicros(long micros) {
+        return String.format("%.3f ms", micros / 1000.0);
+    }
+
     private String getStateDisplay(TimerStateDTO state) {
         return switch (state) {
             case RUNNING -> "⏱  RUNNING";
@@ -1,5 +1,6 @@
 package com.jabaddon.pomodorotimer.adapter.in.ui.shell;
 
+import com.googlecode.lanterna.TerminalSize;
 import com.googlecode.lanterna.graphics.TextGraphics;
 import com.googlecode.lanterna.input.KeyStroke;
 import com.googlecode.lanterna.input.KeyType;
@@ -8,22 +9,66 @@ import com.googlecode.lanterna.screen.TerminalScreen;
 import com.googlecode.lanterna.terminal.DefaultTerminalFactory;
 import com.googlecode.lanterna.terminal.Terminal;
 import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeEnumDTO;
 import com.jabaddon.pomodorotimer.application.dto.TimerStateDTO;
 import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * TUI (Terminal User Interface) mode for watching the timer in real-time.
  * Displays timer with live updates and handles keyboard shortcuts using Lanterna.
+ *
+ * Rendering is driven by state changes pushed through {@link SpringShellUIAdapter}
+ * and happens on a dedicated thread, while the calling thread blocks on keyboard
+ * input. The frame is drawn once; afterwards only the fields and clock glyphs
+ * that changed are written and the screen is flushed with a delta refresh, so
+ * an idle timer costs nothing and a running one a few cells per second.
+ * Terminals tall enough get a large multi-row clock, smaller ones a single row.
  */
 public class TimerWatchMode {
     private static final Logger logger = LoggerFactory.getLogger(TimerWatchMode.class);
 
+    private static final int FRAME_LEFT = 4;
+    private static final int FRAME_TOP = 2;
+    private static final int INNER_WIDTH = 40;
+    private static final int TEXT_INDENT = 6;
+    private static final int SESSION_ROW = 2;
+    private static final int CLOCK_ROW = 4;
+    private static final int SMALL_LAYOUT_ROWS = 16;
+    private static final int MAX_CLOCK_CHARS = 6;
+
+    private static final String BORDER_TOP = "╔" + "═".repeat(INNER_WIDTH) + "╗";
+    private static final String BORDER_BOTTOM = "╚" + "═".repeat(INNER_WIDTH) + "╝";
+    private static final String EMPTY_ROW = "║" + " ".repeat(INNER_WIDTH) + "║";
+    private static final String BLANK = " ".repeat(INNER_WIDTH);
+
+    private enum WatchEvent { REDRAW, STATE_CHANGED, EXIT }
+
     private final SpringShellUIAdapter uiAdapter;
-    private volatile boolean running = true;
+    private final BlockingQueue<WatchEvent> events = new LinkedBlockingQueue<>();
+    private final AtomicBoolean stateChangePending = new AtomicBoolean();
+    private final Consumer<GetTimerStateQuery.TimerCurrentStateDTO> stateListener = this::onStateChanged;
+    private volatile GetTimerStateQuery.TimerCurrentStateDTO latestState;
+
+    // Render thread only
+    private Screen screen;
+    private TextGraphics graphics;
+    private int clockHeight;
+    private final char[] clockChars = new char[MAX_CLOCK_CHARS];
+    private final char[] renderedClock = new char[MAX_CLOCK_CHARS];
+    private int renderedClockLength;
+    private SessionTypeEnumDTO renderedSessionType;
+    private TimerStateDTO renderedTimerState;
+    private int renderedCycle;
+    private int renderedCompletedPomodoros;
 
     public TimerWatchMode(SpringShellUIAdapter uiAdapter) {
         this.uiAdapter = uiAdapter;
@@ -33,112 +78,254 @@ public class TimerWatchMode {
      * Enters watch mode - blocks until user exits.
      */
     public void enter() {
-        running = true;
         Terminal terminal = null;
-        Screen screen = null;
+        Thread renderThread = null;
+        events.clear();
         try {
             terminal = new DefaultTerminalFactory().createTerminal();
             screen = new TerminalScreen(terminal);
             screen.startScreen();
             screen.setCursorPosition(null);
-            
-            runWatchLoop(screen);
-            
+
+            latestState = uiAdapter.getCurrentState();
+            uiAdapter.addStateListener(stateListener);
+            terminal.addResizeListener((resizedTerminal, newSize) -> events.offer(WatchEvent.REDRAW));
+            events.offer(WatchEvent.REDRAW);
+
+            renderThread = new Thread(this::renderLoop, "watch-render");
+            renderThread.setDaemon(true);
+            renderThread.start();
+
+            waitForExitKey();
+
         } catch (IOException e) {
             logger.error("Error in watch mode", e);
             System.err.println("Error entering watch mode: " + e.getMessage());
         } finally {
-            running = false;
+            uiAdapter.removeStateListener(stateListener);
+            stopRenderThread(renderThread);
             if (screen != null) {
                 try {
                     screen.stopScreen();
                 } catch (IOException e) {
                     logger.error("Error stopping screen", e);
                 }
+                screen = null;
             }
             System.out.println("Exited watch mode");
             System.out.println();
         }
     }
 
-    private void runWatchLoop(Screen screen) throws IOException {
-        long lastUpdateTime = 0;
-        final long UPDATE_INTERVAL_MS = 500;
-
-        while (running) {
-            long currentTime = System.currentTimeMillis();
-            if (currentTime - lastUpdateTime >= UPDATE_INTERVAL_MS) {
-                updateDisplay(screen);
-                lastUpdateTime = currentTime;
+    /**
+     * Blocks on keyboard input; nothing runs on this thread between key presses.
+     */
+    private void waitForExitKey() throws IOException {
+        while (true) {
+            KeyStroke keyStroke = screen.readInput();
+            if (keyStroke == null
+                    || keyStroke.getKeyType() == KeyType.Escape
+                    || keyStroke.getKeyType() == KeyType.EOF) {
+                return;
             }
+        }
+    }
+
+    private void onStateChanged(GetTimerStateQuery.TimerCurrentStateDTO state) {
+        latestState = state;
+        // Coalesce: at most one pending render, which always draws the latest state
+        if (stateChangePending.compareAndSet(false, true)) {
+            events.offer(WatchEvent.STATE_CHANGED);
+        }
+    }
+
+    private void stopRenderThread(Thread renderThread) {
+        if (renderThread == null) {
+            return;
+        }
+        events.offer(WatchEvent.EXIT);
+        try {
+            renderThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-            KeyStroke keyStroke = screen.pollInput();
-            if (keyStroke != null) {
-                if (keyStroke.getKeyType() == KeyType.Escape || 
-                    keyStroke.getKeyType() == KeyType.EOF) {
-                    running = false;
-                    break;
+    private void renderLoop() {
+        try {
+            while (true) {
+                WatchEvent event = events.take();
+                if (event == WatchEvent.EXIT) {
+                    return;
+                }
+                try {
+                    if (event == WatchEvent.REDRAW) {
+                        redrawAll();
+                    } else {
+                        stateChangePending.set(false);
+                        if (renderState(latestState)) {
+                            screen.refresh(Screen.RefreshType.DELTA);
+                        }
+                    }
+                } catch (Exception e) {
+                    logger.error("Error updating display", e);
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== Frame ==========
 
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                running = false;
-                break;
+    /**
+     * Draws the static frame and every field from scratch, after start or a resize.
+     */
+    private void redrawAll() throws IOException {
+        TerminalSize size = screen.doResizeIfNecessary();
+        if (size == null) {
+            size = screen.getTerminalSize();
+        }
+        screen.clear();
+        graphics = screen.newTextGraphics();
+        clockHeight = size.getRows() >= FRAME_TOP + SMALL_LAYOUT_ROWS + LargeDigits.HEIGHT - 1
+                ? LargeDigits.HEIGHT
+                : 1;
+        drawFrame();
+
+        renderedClockLength = 0;
+        renderedSessionType = null;
+        renderedTimerState = null;
+        renderedCycle = -1;
+        renderedCompletedPomodoros = -1;
+        renderState(latestState);
+        screen.refresh(Screen.RefreshType.COMPLETE);
+    }
+
+    private void drawFrame() {
+        int bottomRow = stateRow() + 5;
+        graphics.putString(FRAME_LEFT, FRAME_TOP, BORDER_TOP);
+        for (int row = 1; row < bottomRow; row++) {
+            graphics.putString(FRAME_LEFT, FRAME_TOP + row, EMPTY_ROW);
+        }
+        graphics.putString(FRAME_LEFT, FRAME_TOP + bottomRow, BORDER_BOTTOM);
+
+        int helpRow = FRAME_TOP + bottomRow + 2;
+        graphics.putString(FRAME_LEFT, helpRow, "┌────────────────────────────────────────┐");
+        graphics.putString(FRAME_LEFT, helpRow + 1, "│  ESC: Exit watch mode                  │");
+        graphics.putString(FRAME_LEFT, helpRow + 2, "└────────────────────────────────────────┘");
+    }
+
+    private int stateRow() {
+        return CLOCK_ROW + clockHeight + 1;
+    }
+
+    // ========== Fields ==========
+
+    /**
+     * Writes only the fields that differ from what is on screen.
+     * Returns whether anything was written.
+     */
+    private boolean renderState(GetTimerStateQuery.TimerCurrentStateDTO state) {
+        boolean changed = renderClock(state.getRemainingSeconds());
+
+        SessionTypeDTO sessionType = state.getSessionType();
+        if (sessionType.sessionType() != renderedSessionType) {
+            renderedSessionType = sessionType.sessionType();
+            putField(SESSION_ROW, getSessionEmoji(sessionType) + " " + sessionType.displayName().toUpperCase());
+            changed = true;
+        }
+
+        TimerStateDTO timerState = state.getState();
+        if (timerState != renderedTimerState) {
+            renderedTimerState = timerState;
+            putField(stateRow(), getStateIcon(timerState) + "  " + getStateText(timerState));
+            changed = true;
+        }
+
+        if (state.getCurrentCycle() != renderedCycle) {
+            renderedCycle = state.getCurrentCycle();
+            putField(stateRow() + 2, "Cycle: " + formatCycle(renderedCycle));
+            changed = true;
+        }
+
+        if (state.getCompletedPomodoros() != renderedCompletedPomodoros) {
+            renderedCompletedPomodoros = state.getCompletedPomodoros();
+            putField(stateRow() + 3, "Today: 🍅 " + renderedCompletedPomodoros);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private void putField(int row, String text) {
+        String line = " ".repeat(TEXT_INDENT) + text;
+        if (line.length() < INNER_WIDTH) {
+            line = line + " ".repeat(INNER_WIDTH - line.length());
+        }
+        graphics.putString(FRAME_LEFT + 1, FRAME_TOP + row, line);
+    }
+
+    // ========== Clock ==========
+
+    /**
+     * Redraws only the clock glyphs that changed; usually just the last second digit.
+     */
+    private boolean renderClock(int remainingSeconds) {
+        int length = toClockChars(remainingSeconds, clockChars);
+        if (length != renderedClockLength) {
+            // Glyph positions shift, so start from an empty clock area
+            for (int row = 0; row < clockHeight; row++) {
+                graphics.putString(FRAME_LEFT + 1, FRAME_TOP + CLOCK_ROW + row, BLANK);
             }
+            Arrays.fill(renderedClock, '\0');
+            renderedClockLength = length;
         }
+
+        boolean large = clockHeight == LargeDigits.HEIGHT;
+        int width = large ? LargeDigits.width(clockChars, length) : length;
+        int column = FRAME_LEFT + 1 + (INNER_WIDTH - width) / 2;
+        boolean changed = false;
+        for (int i = 0; i < length; i++) {
+            char c = clockChars[i];
+            if (c != renderedClock[i]) {
+                renderedClock[i] = c;
+                drawClockChar(c, column, large);
+                changed = true;
+            }
+            column += large ? LargeDigits.width(c) + LargeDigits.GAP : 1;
+        }
+        return changed;
     }
 
-    private void updateDisplay(Screen screen) {
-        try {
-            GetTimerStateQuery.TimerCurrentStateDTO state = uiAdapter.getCurrentState();
-            
-            screen.clear();
-            TextGraphics textGraphics = screen.newTextGraphics();
-            
-            printTimerDisplay(state, textGraphics);
-            
-            screen.refresh();
-        } catch (Exception e) {
-            logger.error("Error updating display", e);
-        }
-    }
-
-    private void printTimerDisplay(GetTimerStateQuery.TimerCurrentStateDTO state, TextGraphics textGraphics) {
-        int startRow = 2;
-        int startCol = 2;
-        
-        textGraphics.putString(startCol, startRow++, "  ╔════════════════════════════════════════╗");
-        textGraphics.putString(startCol, startRow++, "  ║                                        ║");
-        textGraphics.putString(startCol, startRow++, String.format("  ║      %s %-25s ║",
-                getSessionEmoji(state.getSessionType()),
-                getSessionName(state.getSessionType()).toUpperCase()));
-        textGraphics.putString(startCol, startRow++, "  ║                                        ║");
-        textGraphics.putString(startCol, startRow++, String.format("  ║           %s                    ║",
-                formatLargeTime(state.getRemainingSeconds())));
-        textGraphics.putString(startCol, startRow++, "  ║                                        ║");
-        textGraphics.putString(startCol, startRow++, String.format("  ║      %s  %-26s ║",
-                getStateIcon(state.getState()),
-                getStateText(state.getState())));
-        textGraphics.putString(startCol, startRow++, "  ║                                        ║");
-        textGraphics.putString(startCol, startRow++, String.format("  ║      Cycle: %-27s ║",
-                formatCycle(state.getCurrentCycle())));
-        textGraphics.putString(startCol, startRow++, String.format("  ║      Today: 🍅 %-24d ║",
-                state.getCompletedPomodoros()));
-        textGraphics.putString(startCol, startRow++, "  ║                                        ║");
-        textGraphics.putString(startCol, startRow++, "  ╚════════════════════════════════════════╝");
-        startRow++;
-        textGraphics.putString(startCol, startRow++, "  ┌────────────────────────────────────────┐");
-        textGraphics.putString(startCol, startRow++, "  │  ESC: Exit watch mode                  │");
-        textGraphics.putString(startCol, startRow++, "  └────────────────────────────────────────┘");
-    }
-
-    private String formatLargeTime(int seconds) {
-        int minutes = seconds / 60;
+    private void drawClockChar(char c, int column, boolean large) {
+        int top = FRAME_TOP + CLOCK_ROW;
+        if (!large) {
+            graphics.setCharacter(column, top, c);
+            return;
+        }
+        String[] glyph = LargeDigits.glyph(c);
+        for (int row = 0; row < LargeDigits.HEIGHT; row++) {
+            graphics.putString(column, top + row, glyph[row]);
+        }
+    }
+
+    /**
+     * Writes "mm:ss" (or "mmm:ss" for long custom sessions) into the buffer without allocating.
+     * Returns the number of characters written.
+     */
+    static int toClockChars(int totalSeconds, char[] out) {
+        int seconds = Math.max(totalSeconds, 0);
+        int minutes = Math.min(seconds / 60, 999);
+        int minuteDigits = minutes >= 100 ? 3 : 2;
+        for (int i = minuteDigits - 1; i >= 0; i--) {
+            out[i] = (char) ('0' + minutes % 10);
+            minutes /= 10;
+        }
         int secs = seconds % 60;
-        return String.format("%02d:%02d", minutes, secs);
+        out[minuteDigits] = ':';
+        out[minuteDigits + 1] = (char) ('0' + secs / 10);
+        out[minuteDigits + 2] = (char) ('0' + secs % 10);
+        return minuteDigits + 3;
     }
 
     private String formatCycle(int cycle) {
@@ -154,10 +341,6 @@ public class TimerWatchMode {
         return sb.toString();
     }
 
-    private String getSessionName(SessionTypeDTO type) {
-        return type.displayName();
-    }
-
     private String getSessionEmoji(SessionTypeDTO type) {
         return switch (type.sessionType()) {
             case WORK -> "🍅";
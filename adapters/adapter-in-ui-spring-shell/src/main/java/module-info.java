@@ -2,12 +2,13 @@
  * Spring Shell UI adapter for Pomodoro Timer application.
  *
  * This is a driving adapter (inbound) that implements the UI port via CLI.
- * All classes are internal - this module does not export any packages.
+ * The adapter package is exported for the bootstrap's idle cost harness.
  * Spring Boot requires open packages for component scanning and dependency injection.
  */
 module com.jabaddon.pomodorotimer.adapter.ui.shell {
-    // No exports - this is an adapter implementation (not a library)
-    // All adapter classes are internal and wired via Spring Boot
+    // Export the adapter package for the bootstrap's idle cost harness, which
+    // opens the watch mode directly; everywhere else it is wired via Spring Boot
+    exports com.jabaddon.pomodorotimer.adapter.in.ui.shell;
 
     // Dependencies on other modules
     requires com.jabaddon.pomodorotimer.core;
@@ -0,0 +1,68 @@
+package com.jabaddon.pomodorotimer.adapter.in.ui.shell;
+
+import static com.jabaddon.pomodorotimer.application.testing.AllocationMeter.SLACK_BYTES;
+import static com.jabaddon.pomodorotimer.application.testing.AllocationMeter.allocatedBytes;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Watch Mode Clock Formatting Tests")
+class ClockFormattingTest {
+    private static final int CALLS = 10_000;
+
+    private static volatile String[] sink;
+    private static volatile int widthSink;
+
+    @Nested
+    @DisplayName("Formatting Tests")
+    class FormattingTests {
+
+        @Test
+        @DisplayName("Should write mm:ss, or mmm:ss for long sessions")
+        void shouldWriteClockChars() {
+            char[] clock = new char[6];
+
+            int length = TimerWatchMode.toClockChars(25 * 60, clock);
+            assertThat(new String(clock, 0, length), is(equalTo("25:00")));
+
+            length = TimerWatchMode.toClockChars(150 * 60 + 9, clock);
+            assertThat(new String(clock, 0, length), is(equalTo("150:09")));
+        }
+
+        @Test
+        @DisplayName("Should measure the large clock including the gaps")
+        void shouldMeasureLargeClock() {
+            char[] clock = "25:00".toCharArray();
+
+            assertThat(LargeDigits.width(clock, clock.length), is(equalTo(4 * 5 + 1 + 4 * LargeDigits.GAP)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Allocation Budget Tests")
+    class AllocationBudgetTests {
+
+        @Test
+        @DisplayName("Should format and lay out every second of a session without allocating")
+        void shouldFormatTicksWithoutAllocating() {
+            char[] clock = new char[6];
+
+            long bytes = allocatedBytes(() -> {
+                for (int i = 0; i < CALLS; i++) {
+                    int length = TimerWatchMode.toClockChars(i, clock);
+                    widthSink = LargeDigits.width(clock, length);
+                    for (int c = 0; c < length; c++) {
+                        sink = LargeDigits.glyph(clock[c]);
+                    }
+                }
+            });
+
+            assertThat(bytes, is(lessThanOrEqualTo(SLACK_BYTES)));
+        }
+    }
+}
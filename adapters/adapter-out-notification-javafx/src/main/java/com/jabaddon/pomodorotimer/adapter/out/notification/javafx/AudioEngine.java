@@ -0,0 +1,266 @@
+package com.jabaddon.pomodorotimer.adapter.out.notification.javafx;
+
+import com.jabaddon.pomodorotimer.application.metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Plays pre-synthesized PCM sounds through a single SourceDataLine.
+ *
+ * A dedicated mixer thread sums the active voices into small chunks and writes
+ * them to the line, so triggering a sound only enqueues a request and never
+ * touches the audio system. The line is opened on the first sound with a small
+ * buffer and released again after it has been idle for a while; nothing runs
+ * while no sound is playing.
+ *
+ * Latency from a play request to its first sample reaching the speaker
+ * (including samples already queued in the line) and underruns while a sound
+ * is playing are recorded for diagnostics.
+ */
+public class AudioEngine {
+    private static final Logger log = LoggerFactory.getLogger(AudioEngine.class);
+
+    static final float SAMPLE_RATE = 44100.0F;
+    static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 1, true, false);
+
+    private static final int CHUNK_FRAMES = 256;       // ~6ms per write
+    private static final int LINE_BUFFER_FRAMES = 1024; // ~23ms queued at most
+    private static final int MAX_VOICES = 4;
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    private record PlayRequest(short[] samples, long requestedAtNanos) {
+    }
+
+    /**
+     * One sound being played; slots are preallocated and reused.
+     */
+    private static final class Voice {
+        short[] samples;
+        int position;
+        long requestedAtNanos;
+        boolean latencyRecorded;
+    }
+
+    private final long idleReleaseNanos;
+    private final BlockingQueue<PlayRequest> requests = new LinkedBlockingQueue<>();
+    private final Voice[] voices = new Voice[MAX_VOICES];
+    private final int[] mixBuffer = new int[CHUNK_FRAMES];
+    private final byte[] outputBuffer = new byte[CHUNK_FRAMES * 2];
+    private final LatencyHistogram latencyMicros = new LatencyHistogram();
+    private final LongAdder underruns = new LongAdder();
+    private final Thread mixerThread;
+    private volatile boolean running = true;
+
+    // Mixer thread only
+    private SourceDataLine line;
+    private long lastActiveNanos;
+
+    public AudioEngine(long idleReleaseMillis) {
+        this.idleReleaseNanos = TimeUnit.MILLISECONDS.toNanos(idleReleaseMillis);
+        for (int i = 0; i < voices.length; i++) {
+            voices[i] = new Voice();
+        }
+        this.mixerThread = new Thread(this::mixLoop, "audio-mixer");
+        mixerThread.setDaemon(true);
+        mixerThread.start();
+    }
+
+    /**
+     * Requests playback of 16-bit mono PCM samples at {@link #SAMPLE_RATE}.
+     * Playing a sound that is still playing restarts it.
+     */
+    public void play(short[] samples) {
+        if (running) {
+            requests.offer(new PlayRequest(samples, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Time from play request to the first sample reaching the output, in microseconds.
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyMicros;
+    }
+
+    /**
+     * Number of times the line ran dry while a sound was playing.
+     */
+    public long getUnderrunCount() {
+        return underruns.sum();
+    }
+
+    public void close() {
+        running = false;
+        mixerThread.interrupt();
+        try {
+            mixerThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void mixLoop() {
+        try {
+            while (running) {
+                if (!hasActiveVoices()) {
+                    waitForRequest();
+                }
+                PlayRequest request;
+                while ((request = requests.poll()) != null) {
+                    startVoice(request);
+                }
+                if (hasActiveVoices() && ensureLineOpen()) {
+                    writeChunk();
+                } else {
+                    clearVoices();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            releaseLine();
+        }
+    }
+
+    /**
+     * Blocks until a sound is requested, releasing the line once the idle timeout passes.
+     */
+    private void waitForRequest() throws InterruptedException {
+        PlayRequest request;
+        if (line == null) {
+            request = requests.take();
+        } else {
+            long idleRemaining = idleReleaseNanos - (System.nanoTime() - lastActiveNanos);
+            request = requests.poll(Math.max(0, idleRemaining), TimeUnit.NANOSECONDS);
+            if (request == null) {
+                releaseLine();
+                request = requests.take();
+            }
+        }
+        startVoice(request);
+    }
+
+    private void startVoice(PlayRequest request) {
+        Voice slot = null;
+        for (Voice voice : voices) {
+            if (voice.samples == request.samples()) {
+                slot = voice; // Restart the same sound instead of layering it
+                break;
+            }
+            if (slot == null && voice.samples == null) {
+                slot = voice;
+            }
+        }
+        if (slot == null) {
+            slot = voices[0];
+        }
+        slot.samples = request.samples();
+        slot.position = 0;
+        slot.requestedAtNanos = request.requestedAtNanos();
+        slot.latencyRecorded = false;
+    }
+
+    private void writeChunk() {
+        Arrays.fill(mixBuffer, 0);
+        for (Voice voice : voices) {
+            if (voice.samples == null) {
+                continue;
+            }
+            int frames = Math.min(CHUNK_FRAMES, voice.samples.length - voice.position);
+            for (int i = 0; i < frames; i++) {
+                mixBuffer[i] += voice.samples[voice.position + i];
+            }
+            voice.position += frames;
+        }
+        for (int i = 0; i < CHUNK_FRAMES; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mixBuffer[i]));
+            outputBuffer[i * 2] = (byte) sample;
+            outputBuffer[i * 2 + 1] = (byte) (sample >> 8);
+        }
+
+        // An empty line while a sound is mid-playback means the output ran dry
+        int queuedBytes = line.getBufferSize() - line.available();
+        if (queuedBytes == 0 && isMidPlayback()) {
+            underruns.increment();
+        }
+        line.write(outputBuffer, 0, outputBuffer.length);
+
+        // Samples still ahead of this chunk once the write returned delay its first sample
+        long now = System.nanoTime();
+        int aheadBytes = Math.max(0, line.getBufferSize() - line.available() - outputBuffer.length);
+        long queuedNanos = (long) (aheadBytes / FORMAT.getFrameSize() / SAMPLE_RATE * 1_000_000_000L);
+        for (Voice voice : voices) {
+            if (voice.samples == null) {
+                continue;
+            }
+            if (!voice.latencyRecorded) {
+                voice.latencyRecorded = true;
+                latencyMicros.record((now - voice.requestedAtNanos + queuedNanos) / NANOS_PER_MICRO);
+            }
+            if (voice.position >= voice.samples.length) {
+                voice.samples = null;
+            }
+        }
+        lastActiveNanos = now;
+    }
+
+    private boolean isMidPlayback() {
+        for (Voice voice : voices) {
+            if (voice.samples != null && voice.latencyRecorded) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasActiveVoices() {
+        for (Voice voice : voices) {
+            if (voice.samples != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void clearVoices() {
+        for (Voice voice : voices) {
+            voice.samples = null;
+        }
+    }
+
+    private boolean ensureLineOpen() {
+        if (line != null) {
+            return true;
+        }
+        try {
+            SourceDataLine newLine = AudioSystem.getSourceDataLine(FORMAT);
+            newLine.open(FORMAT, LINE_BUFFER_FRAMES * FORMAT.getFrameSize());
+            newLine.start();
+            line = newLine;
+            log.debug("Audio line opened with {} byte buffer", line.getBufferSize());
+            return true;
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            log.warn("Audio line unavailable, dropping sound: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLine() {
+        if (line != null) {
+            line.drain();
+            line.close();
+            line = null;
+            log.debug("Audio line released");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.jabaddon.pomodorotimer.adapter.out.notification.javafx;
 import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
 import com.jabaddon.pomodorotimer.application.dto.SessionTypeEnumDTO;
 import com.jabaddon.pomodorotimer.application.port.out.NotificationPort;
+import jakarta.annotation.PreDestroy;
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,14 +11,24 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 @Component
 @Profile("javafx")
 public class JavaFxSoundNotificationAdapter implements NotificationPort {
     private final SoundManager soundManager;
+    // Created on the first completion and reused; only touched on the FX thread
+    private Alert completionAlert;
 
     @Autowired
-    public JavaFxSoundNotificationAdapter(@Value("${app.sound.enabled:true}") boolean soundEnabled) {
-        this.soundManager = new SoundManager(soundEnabled);
+    public JavaFxSoundNotificationAdapter(
+            @Value("${app.sound.enabled:true}") boolean soundEnabled,
+            @Value("${app.data.directory}") String dataDirectory,
+            @Value("${app.sound.pack:}") String soundPack,
+            @Value("${app.sound.cache-max-bytes:8388608}") long soundCacheMaxBytes) {
+        Path soundsDirectory = Paths.get(System.getProperty("user.home"), dataDirectory, "sounds");
+        this.soundManager = new SoundManager(soundEnabled, soundsDirectory, soundPack, soundCacheMaxBytes);
     }
 
     public JavaFxSoundNotificationAdapter(SoundManager soundManager) {
@@ -46,11 +57,15 @@ public class JavaFxSoundNotificationAdapter implements NotificationPort {
         String title = var10000 + " Complete!";
         String message = this.buildCompletionMessage(completedType, nextType);
         Platform.runLater(() -> {
-            Alert alert = new Alert(Alert.AlertType.INFORMATION);
-            alert.setTitle(title);
-            alert.setHeaderText((String)null);
-            alert.setContentText(message);
-            alert.show();
+            if (this.completionAlert == null) {
+                this.completionAlert = new Alert(Alert.AlertType.INFORMATION);
+                this.completionAlert.setHeaderText((String)null);
+            }
+            this.completionAlert.setTitle(title);
+            this.completionAlert.setContentText(message);
+            if (!this.completionAlert.isShowing()) {
+                this.completionAlert.show();
+            }
         });
     }
 
@@ -73,6 +88,7 @@ public class JavaFxSoundNotificationAdapter implements NotificationPort {
         };
     }
 
+    @PreDestroy
     public void cleanup() {
         if (this.soundManager != null) {
             this.soundManager.cleanup();
@@ -0,0 +1,68 @@
+package com.jabaddon.pomodorotimer.adapter.out.notification.javafx;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of decoded PCM sounds, bounded by total bytes.
+ * Keys are "pack/sound". A sound larger than the whole budget is not cached,
+ * which {@link #put} reports so that the caller does not decode it again.
+ */
+final class PcmCache {
+    private final long maxBytes;
+    private final LinkedHashMap<String, short[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes;
+
+    PcmCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized short[] get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Caches the sound, evicting the least recently used ones as needed.
+     *
+     * @return false if the sound alone is larger than the budget and was not cached
+     */
+    synchronized boolean put(String key, short[] samples) {
+        long bytes = bytesOf(samples);
+        if (bytes > maxBytes) {
+            return false;
+        }
+        short[] previous = entries.put(key, samples);
+        if (previous != null) {
+            sizeBytes -= bytesOf(previous);
+        }
+        sizeBytes += bytes;
+
+        Iterator<Map.Entry<String, short[]>> eldest = entries.entrySet().iterator();
+        while (sizeBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, short[]> entry = eldest.next();
+            if (entry.getKey().equals(key)) {
+                continue;
+            }
+            sizeBytes -= bytesOf(entry.getValue());
+            eldest.remove();
+        }
+        return true;
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static long bytesOf(short[] samples) {
+        return (long) samples.length * Short.BYTES;
+    }
+}
@@ -1,17 +1,27 @@
 package com.jabaddon.pomodorotimer.adapter.out.notification.javafx;
 
+import com.jabaddon.pomodorotimer.application.metrics.LatencyHistogram;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.sound.sampled.*;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
+import java.nio.file.Path;
 
+/**
+ * Synthesizes the tick and alarm sounds once and plays them through an {@link AudioEngine}.
+ * When a sound pack is selected, its recorded sounds are used as soon as the
+ * background loader has decoded them; until then the synthesized ones play.
+ */
 public class SoundManager {
     private static final Logger log = LoggerFactory.getLogger(SoundManager.class);
     private static final int SAMPLE_RATE = 44100;
-    private Clip tickClip;
-    private Clip alarmClip;
+    private static final long LINE_IDLE_RELEASE_MILLIS = 30_000;
+    private static final String TICK = "tick";
+    private static final String ALARM = "alarm";
+    private AudioEngine audioEngine;
+    private SoundPackLoader soundPackLoader;
+    private volatile String soundPack;
+    private short[] tickSound;
+    private short[] alarmSound;
     private boolean soundEnabled;
 
     public SoundManager() {
@@ -19,7 +29,20 @@ public class SoundManager {
     }
 
     public SoundManager(boolean soundEnabled) {
+        this(soundEnabled, null, null, 0);
+    }
+
+    /**
+     * @param soundsDirectory directory holding one subdirectory per sound pack, or null for none
+     * @param soundPack name of the pack to use, or null/blank for the synthesized sounds
+     * @param cacheMaxBytes upper bound for decoded sound pack audio kept in memory
+     */
+    public SoundManager(boolean soundEnabled, Path soundsDirectory, String soundPack, long cacheMaxBytes) {
         this.soundEnabled = soundEnabled;
+        if (soundsDirectory != null) {
+            this.soundPackLoader = new SoundPackLoader(soundsDirectory, cacheMaxBytes);
+            this.selectSoundPack(soundPack);
+        }
 
         try {
             this.initializeSounds();
@@ -30,29 +53,29 @@ public class SoundManager {
 
     }
 
-    private void initializeSounds() throws LineUnavailableException, IOException {
-        this.tickClip = this.generateTickSound();
-        this.alarmClip = this.generateAlarmSound();
+    private void initializeSounds() {
+        this.tickSound = this.generateTickSound();
+        this.alarmSound = this.generateAlarmSound();
+        this.audioEngine = new AudioEngine(LINE_IDLE_RELEASE_MILLIS);
     }
 
-    private Clip generateTickSound() throws LineUnavailableException, IOException {
+    private short[] generateTickSound() {
         int duration = 50;
         int frequency = 800;
-        byte[] buffer = this.generateTone(frequency, duration, 0.1);
-        return this.createClipFromBuffer(buffer);
+        return this.generateTone(frequency, duration, 0.1);
     }
 
-    private Clip generateAlarmSound() throws LineUnavailableException, IOException {
+    private short[] generateAlarmSound() {
         int beepDuration = 200;
         int pauseDuration = 100;
         int frequency1 = 800;
         int frequency2 = 1000;
-        byte[] beep1 = this.generateTone(frequency1, beepDuration, 0.3);
-        byte[] pause = this.generateTone(0, pauseDuration, (double)0.0F);
-        byte[] beep2 = this.generateTone(frequency2, beepDuration, 0.3);
-        byte[] pause2 = this.generateTone(0, pauseDuration, (double)0.0F);
-        byte[] beep3 = this.generateTone(frequency1, beepDuration, 0.3);
-        byte[] combined = new byte[beep1.length + pause.length + beep2.length + pause2.length + beep3.length];
+        short[] beep1 = this.generateTone(frequency1, beepDuration, 0.3);
+        short[] pause = this.generateTone(0, pauseDuration, 0.0);
+        short[] beep2 = this.generateTone(frequency2, beepDuration, 0.3);
+        short[] pause2 = this.generateTone(0, pauseDuration, 0.0);
+        short[] beep3 = this.generateTone(frequency1, beepDuration, 0.3);
+        short[] combined = new short[beep1.length + pause.length + beep2.length + pause2.length + beep3.length];
         int pos = 0;
         System.arraycopy(beep1, 0, combined, pos, beep1.length);
         pos += beep1.length;
@@ -63,52 +86,57 @@ public class SoundManager {
         System.arraycopy(pause2, 0, combined, pos, pause2.length);
         pos += pause2.length;
         System.arraycopy(beep3, 0, combined, pos, beep3.length);
-        return this.createClipFromBuffer(combined);
+        return combined;
     }
 
-    private byte[] generateTone(int frequency, int durationMs, double volume) {
-        int numSamples = '걄' * durationMs / 1000;
-        byte[] buffer = new byte[numSamples * 2];
+    private short[] generateTone(int frequency, int durationMs, double volume) {
+        int numSamples = SAMPLE_RATE * durationMs / 1000;
+        short[] samples = new short[numSamples];
 
         for(int i = 0; i < numSamples; ++i) {
-            double angle = (Math.PI * 2D) * (double)i * (double)frequency / (double)44100.0F;
-            short sample = (short)((int)(Math.sin(angle) * (double)32767.0F * volume));
-            buffer[i * 2] = (byte)(sample & 255);
-            buffer[i * 2 + 1] = (byte)(sample >> 8 & 255);
+            double angle = (Math.PI * 2D) * (double)i * (double)frequency / (double)SAMPLE_RATE;
+            samples[i] = (short)((int)(Math.sin(angle) * (double)32767.0F * volume));
         }
 
-        return buffer;
-    }
-
-    private Clip createClipFromBuffer(byte[] buffer) throws LineUnavailableException, IOException {
-        AudioFormat format = new AudioFormat(44100.0F, 16, 1, true, false);
-        ByteArrayInputStream bais = new ByteArrayInputStream(buffer);
-        AudioInputStream audioInputStream = new AudioInputStream(bais, format, (long)(buffer.length / 2));
-        Clip clip = AudioSystem.getClip();
-        clip.open(audioInputStream);
-        return clip;
+        return samples;
     }
 
     public void playTick() {
-        if (this.soundEnabled && this.tickClip != null) {
-            if (this.tickClip.isRunning()) {
-                this.tickClip.stop();
-            }
-
-            this.tickClip.setFramePosition(0);
-            this.tickClip.start();
+        if (this.soundEnabled && this.audioEngine != null) {
+            this.audioEngine.play(this.resolveSound(TICK, this.tickSound));
         }
     }
 
     public void playAlarm() {
-        if (this.soundEnabled && this.alarmClip != null) {
-            if (this.alarmClip.isRunning()) {
-                this.alarmClip.stop();
-            }
+        if (this.soundEnabled && this.audioEngine != null) {
+            this.audioEngine.play(this.resolveSound(ALARM, this.alarmSound));
+        }
+    }
+
+    /**
+     * Selects the sound pack to play from and starts decoding it in the background.
+     * Null or blank selects the synthesized sounds.
+     */
+    public void setSoundPack(String soundPack) {
+        this.selectSoundPack(soundPack);
+    }
 
-            this.alarmClip.setFramePosition(0);
-            this.alarmClip.start();
+    private void selectSoundPack(String soundPack) {
+        if (soundPack == null || soundPack.isBlank() || this.soundPackLoader == null) {
+            this.soundPack = null;
+            return;
         }
+        this.soundPack = soundPack.strip();
+        this.soundPackLoader.preload(this.soundPack, ALARM, TICK);
+    }
+
+    private short[] resolveSound(String sound, short[] synthesized) {
+        String pack = this.soundPack;
+        if (pack == null) {
+            return synthesized;
+        }
+        short[] samples = this.soundPackLoader.getIfLoaded(pack, sound);
+        return samples != null ? samples : synthesized;
     }
 
     public void setSoundEnabled(boolean enabled) {
@@ -119,15 +147,28 @@ public class SoundManager {
         return this.soundEnabled;
     }
 
+    /**
+     * Request-to-output latency of played sounds, in microseconds.
+     */
+    public LatencyHistogram getPlaybackLatency() {
+        return this.audioEngine != null ? this.audioEngine.getLatencyHistogram() : new LatencyHistogram();
+    }
+
+    public long getUnderrunCount() {
+        return this.audioEngine != null ? this.audioEngine.getUnderrunCount() : 0;
+    }
+
     public void cleanup() {
-        if (this.tickClip != null) {
-            this.tickClip.close();
+        if (this.audioEngine != null) {
+            LatencyHistogram latency = this.audioEngine.getLatencyHistogram();
+            log.info("Sound playback: {} sounds, latency p50 {}us, p99 {}us, max {}us, {} underruns",
+                    latency.getCount(), latency.getValueAtPercentile(50), latency.getValueAtPercentile(99),
+                    latency.getMax(), this.audioEngine.getUnderrunCount());
+            this.audioEngine.close();
         }
-
-        if (this.alarmClip != null) {
-            this.alarmClip.close();
+        if (this.soundPackLoader != null) {
+            this.soundPackLoader.close();
         }
 
     }
 }
-
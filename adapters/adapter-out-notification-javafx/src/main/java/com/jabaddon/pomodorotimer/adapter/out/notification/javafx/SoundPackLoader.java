@@ -0,0 +1,186 @@
+package com.jabaddon.pomodorotimer.adapter.out.notification.javafx;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Decodes user-supplied sound packs into the PCM cache on a background thread.
+ *
+ * A pack is a directory under the sounds directory holding files named after
+ * the sounds, e.g. {@code sounds/forest/alarm.wav} and {@code sounds/forest/tick.aiff}.
+ * Files are converted to the engine format (16-bit mono at 44.1kHz) once and
+ * kept in a bounded {@link PcmCache}. Lookups never decode on the calling
+ * thread: a sound that is not cached yet is queued for decoding and the caller
+ * falls back to the synthesized sound meanwhile. A sound too large for the
+ * cache is not decoded again; the synthesized sound stays in its place.
+ */
+class SoundPackLoader {
+    private static final Logger log = LoggerFactory.getLogger(SoundPackLoader.class);
+    private static final String[] EXTENSIONS = {".wav", ".aiff", ".aif", ".au"};
+
+    private final Path soundsDirectory;
+    private final PcmCache cache;
+    private final ExecutorService decoder;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+    SoundPackLoader(Path soundsDirectory, long cacheMaxBytes) {
+        this.soundsDirectory = soundsDirectory.toAbsolutePath().normalize();
+        this.cache = new PcmCache(cacheMaxBytes);
+        this.decoder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sound-pack-loader");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues decoding of the given sounds of a pack.
+     */
+    void preload(String pack, String... sounds) {
+        for (String sound : sounds) {
+            scheduleDecode(pack, sound);
+        }
+    }
+
+    /**
+     * Returns the decoded sound, or null when it is not cached (yet) or the pack does not have it.
+     */
+    short[] getIfLoaded(String pack, String sound) {
+        String key = key(pack, sound);
+        short[] samples = cache.get(key);
+        if (samples == null) {
+            scheduleDecode(pack, sound);
+        }
+        return samples;
+    }
+
+    long getCacheSizeBytes() {
+        return cache.getSizeBytes();
+    }
+
+    void close() {
+        decoder.shutdownNow();
+    }
+
+    private void scheduleDecode(String pack, String sound) {
+        String key = key(pack, sound);
+        if (missing.contains(key) || cache.get(key) != null || !pending.add(key)) {
+            return;
+        }
+        try {
+            decoder.execute(() -> {
+                try {
+                    decodeIntoCache(pack, sound, key);
+                } finally {
+                    pending.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+        }
+    }
+
+    private void decodeIntoCache(String pack, String sound, String key) {
+        Path file = findSoundFile(pack, sound);
+        if (file == null) {
+            missing.add(key);
+            log.debug("Sound pack '{}' has no '{}' sound", pack, sound);
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            short[] samples = decode(file);
+            if (!cache.put(key, samples)) {
+                missing.add(key);
+                log.warn("Sound file {} decodes to {} bytes, more than app.sound.cache-max-bytes ({});"
+                        + " using the synthesized sound instead", file, (long) samples.length * Short.BYTES,
+                        cache.getMaxBytes());
+                return;
+            }
+            log.info("Decoded {} ({} samples) in {} ms", file, samples.length,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | UnsupportedAudioFileException | IllegalArgumentException e) {
+            missing.add(key);
+            log.warn("Could not decode sound file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path findSoundFile(String pack, String sound) {
+        Path packDirectory = soundsDirectory.resolve(pack).normalize();
+        if (!packDirectory.startsWith(soundsDirectory)) {
+            return null;
+        }
+        for (String extension : EXTENSIONS) {
+            Path file = packDirectory.resolve(sound + extension);
+            if (Files.isRegularFile(file)) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Decodes a WAV/AIFF/AU file to 16-bit mono samples at the engine sample rate.
+     * Java Sound converts encoding and sample size; channel mixing and
+     * resampling are done here because the built-in converters do not.
+     */
+    static short[] decode(Path file) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(file.toFile())) {
+            AudioFormat sourceFormat = source.getFormat();
+            int channels = sourceFormat.getChannels();
+            AudioFormat pcmFormat = new AudioFormat(
+                    AudioFormat.Encoding.PCM_SIGNED, sourceFormat.getSampleRate(), 16,
+                    channels, channels * 2, sourceFormat.getSampleRate(), false);
+            try (AudioInputStream pcm = AudioSystem.getAudioInputStream(pcmFormat, source)) {
+                byte[] bytes = pcm.readAllBytes();
+                int frames = bytes.length / (channels * 2);
+                short[] mono = new short[frames];
+                for (int frame = 0; frame < frames; frame++) {
+                    int sum = 0;
+                    for (int channel = 0; channel < channels; channel++) {
+                        int offset = (frame * channels + channel) * 2;
+                        sum += (short) ((bytes[offset] & 0xFF) | (bytes[offset + 1] << 8));
+                    }
+                    mono[frame] = (short) (sum / channels);
+                }
+                return resample(mono, sourceFormat.getSampleRate(), AudioEngine.SAMPLE_RATE);
+            }
+        }
+    }
+
+    private static short[] resample(short[] samples, float fromRate, float toRate) {
+        if (fromRate == toRate || samples.length == 0) {
+            return samples;
+        }
+        double step = fromRate / toRate;
+        int length = (int) (samples.length / step);
+        short[] resampled = new short[length];
+        for (int i = 0; i < length; i++) {
+            double position = i * step;
+            int index = (int) position;
+            double fraction = position - index;
+            int next = Math.min(index + 1, samples.length - 1);
+            resampled[i] = (short) Math.round(samples[index] * (1 - fraction) + samples[next] * fraction);
+        }
+        return resampled;
+    }
+
+    private static String key(String pack, String sound) {
+        return pack + "/" + sound;
+    }
+}
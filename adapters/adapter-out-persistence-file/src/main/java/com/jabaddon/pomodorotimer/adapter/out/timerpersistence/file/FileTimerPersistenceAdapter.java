@@ -2,7 +2,14 @@ package com.jabaddon.pomodorotimer.adapter.out.timerpersistence.file;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceEvent;
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceRing;
+import com.jabaddon.pomodorotimer.application.diagnostics.jfr.FlightEvents;
+import com.jabaddon.pomodorotimer.application.diagnostics.jfr.HistoryLoadEvent;
+import com.jabaddon.pomodorotimer.application.diagnostics.jfr.HistorySaveEvent;
 import com.jabaddon.pomodorotimer.application.dto.*;
+import com.jabaddon.pomodorotimer.application.metrics.LatencyHistogram;
+import com.jabaddon.pomodorotimer.application.metrics.MetricsRegistry;
 import com.jabaddon.pomodorotimer.application.port.out.TimerPersistencePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +23,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 @Component
@@ -23,11 +31,23 @@ public class FileTimerPersistenceAdapter implements TimerPersistencePort {
     private static final Logger log = LoggerFactory.getLogger(FileTimerPersistenceAdapter.class);
     private final Path historyFilePath;
     private final ObjectMapper objectMapper;
+    private final LongAdder bytesRead;
+    private final LongAdder bytesWritten;
+    private final LatencyHistogram saveBytes;
+    private volatile long recordCount;
+    private final TraceRing trace;
 
-    public FileTimerPersistenceAdapter(PersistenceConfiguration appConfig, ObjectMapper objectMapper) {
+    public FileTimerPersistenceAdapter(PersistenceConfiguration appConfig, ObjectMapper objectMapper,
+                                       MetricsRegistry metrics, TraceRing trace) {
         Path timerDir = appConfig.getDataDirectoryPath();
         this.historyFilePath = timerDir.resolve(appConfig.getHistoryFile());
         this.objectMapper = objectMapper;
+        this.trace = trace;
+        this.bytesRead = metrics.counter("pomodoro_history_read_bytes_total", "Bytes of history file read");
+        this.bytesWritten = metrics.counter("pomodoro_history_written_bytes_total", "Bytes of history file written");
+        this.saveBytes = metrics.summary("pomodoro_history_save_bytes", "Size of the history file written per save");
+        metrics.gauge("pomodoro_history_records", null, null, "Records in the history file when last read or written",
+                () -> recordCount);
 
         try {
             if (!Files.exists(timerDir)) {
@@ -40,21 +60,26 @@ public class FileTimerPersistenceAdapter implements TimerPersistencePort {
 
     }
 
-    @Override
-    public DailyStatisticsDTO loadTodayStatistics() {
-        return loadTodayStatistics(LocalDate.now());
-    }
-
     public void saveRecord(TimerRecordDTO record) {
+        HistorySaveEvent event = FlightEvents.historySave();
+        long start = System.nanoTime();
         try {
             List<TimerRecordDTO> records = this.loadAllRecords();
             records.add(record);
             records.sort(Comparator.comparing(TimerRecordDTO::getFinishedAt).reversed());
-            String json = this.objectMapper.writeValueAsString(records);
-            Files.writeString(this.historyFilePath, json);
-            log.debug("Saved timer record: {}", record);
+            byte[] json = this.objectMapper.writeValueAsBytes(records);
+            Files.write(this.historyFilePath, json);
+            this.bytesWritten.add(json.length);
+            this.saveBytes.record(json.length);
+            this.recordCount = records.size();
+            if (event != null) {
+                event.commit(records.size(), json.length);
+            }
+            this.trace.record(TraceEvent.HISTORY_SAVE, (System.nanoTime() - start) / 1_000,
+                    records.size(), json.length);
         } catch (IOException e) {
             log.error("Failed to save timer record: {}", e.getMessage(), e);
+            this.trace.record(TraceEvent.HISTORY_SAVE_FAILED, 0);
         }
 
     }
@@ -63,22 +88,39 @@ public class FileTimerPersistenceAdapter implements TimerPersistencePort {
         if (!Files.exists(this.historyFilePath)) {
             return new ArrayList<>();
         } else {
+            HistoryLoadEvent event = FlightEvents.historyLoad();
+            long start = System.nanoTime();
             try {
-                String json = Files.readString(this.historyFilePath);
-                if (json.trim().isEmpty()) {
-                    return new ArrayList<>();
-                } else {
-                    List<TimerRecordDTO> records = this.objectMapper.readValue(json, new TypeReference<>() {
-                    });
-                    return records != null ? records : new ArrayList<>();
+                byte[] json = Files.readAllBytes(this.historyFilePath);
+                this.bytesRead.add(json.length);
+                List<TimerRecordDTO> records = isBlank(json)
+                        ? null
+                        : this.objectMapper.readValue(json, new TypeReference<List<TimerRecordDTO>>() {
+                        });
+                int count = records != null ? records.size() : 0;
+                this.recordCount = count;
+                if (event != null) {
+                    event.commit(count, json.length);
                 }
+                this.trace.record(TraceEvent.HISTORY_LOAD, (System.nanoTime() - start) / 1_000, count, json.length);
+                return records != null ? records : new ArrayList<>();
             } catch (IOException e) {
                 log.error("Failed to load timer records: {}", e.getMessage(), e);
+                this.trace.record(TraceEvent.HISTORY_LOAD_FAILED, 0);
                 return new ArrayList<>();
             }
         }
     }
 
+    private static boolean isBlank(byte[] json) {
+        for (byte b : json) {
+            if (!Character.isWhitespace(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public List<TimerRecordDTO> loadRecordsByDate(LocalDate date) {
         return this.loadAllRecords().stream().filter((record) ->
                 record.getFinishedAt().toLocalDate().equals(date)).collect(Collectors.toList());
@@ -103,6 +145,7 @@ public class FileTimerPersistenceAdapter implements TimerPersistencePort {
 
     }
 
+    @Override
     public DailyStatisticsDTO loadTodayStatistics(LocalDate date) {
         List<TimerRecordDTO> records = this.loadRecordsByDate(date);
         long completedPomodoros = records.stream()
@@ -18,6 +18,17 @@ public class PersistenceConfiguration {
     @Value("${app.data.history-file}")
     private String historyFile;
 
+    public PersistenceConfiguration() {
+    }
+
+    /**
+     * For wiring without Spring, e.g. by the headless bootstrap.
+     */
+    public PersistenceConfiguration(String dataDirectory, String historyFile) {
+        this.dataDirectory = dataDirectory;
+        this.historyFile = historyFile;
+    }
+
     public Path getDataDirectoryPath() {
         String userHome = System.getProperty("user.home");
         return Paths.get(userHome, this.dataDirectory);
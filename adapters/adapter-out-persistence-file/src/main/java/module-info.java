@@ -2,12 +2,13 @@
  * File persistence adapter for Pomodoro Timer application.
  *
  * This is a driven adapter (outbound) that implements the persistence port.
- * All classes are internal - this module does not export any packages.
+ * The adapter package is exported for the Spring-free headless bootstrap.
  * Spring Boot requires open packages for component scanning and dependency injection.
  */
 module com.jabaddon.pomodorotimer.adapter.persistence.file {
-    // No exports - this is an adapter implementation (not a library)
-    // All adapter classes are internal and wired via Spring Boot
+    // Export the adapter package for the bootstrap's Spring-free headless wiring
+    // Everywhere else the adapter is still wired via Spring Boot
+    exports com.jabaddon.pomodorotimer.adapter.out.timerpersistence.file;
 
     // Dependencies on other modules
     requires com.jabaddon.pomodorotimer.core;
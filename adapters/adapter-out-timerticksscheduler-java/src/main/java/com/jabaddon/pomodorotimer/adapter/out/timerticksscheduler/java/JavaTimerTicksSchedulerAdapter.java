@@ -1,6 +1,10 @@
 package com.jabaddon.pomodorotimer.adapter.out.timerticksscheduler.java;
 
+import com.jabaddon.pomodorotimer.application.diagnostics.StallWatchdog;
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.metrics.TickTimingRecorder;
 import com.jabaddon.pomodorotimer.application.port.out.TimerTicksSchedulerPort;
+import jakarta.annotation.PreDestroy;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
@@ -9,43 +13,124 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Timer ticks scheduler backed by a single ScheduledExecutorService thread.
+ *
+ * Ticks are scheduled one at a time against absolute deadlines, so nothing is
+ * scheduled while the timer is idle or paused. Pausing remembers how far away
+ * the next tick was and resuming schedules it exactly that far ahead, keeping
+ * the sub-second position of the countdown.
+ * Every tick's lateness against its deadline is recorded for diagnostics, and
+ * tick callbacks that overrun the stall budget are reported to the watchdog.
+ */
 @Component
 @Profile("shell")
 public class JavaTimerTicksSchedulerAdapter implements TimerTicksSchedulerPort {
+    private static final long TICK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
 
-    private ScheduledExecutorService scheduler;
-    private ScheduledFuture<?> scheduledFuture;
+    private final ScheduledExecutorService scheduler;
+    private final TickTimingRecorder tickTimingRecorder = new TickTimingRecorder();
+    private final StallWatchdog.Probe tickProbe;
+    private ScheduledFuture<?> pendingTick;
     private Runnable onTick;
-    private volatile boolean paused = false;
+    private long nextTickAtNanos;
+    private long remainingAtPauseNanos = -1;
+    private long scheduleGeneration;
+
+    public JavaTimerTicksSchedulerAdapter(StallWatchdog stallWatchdog) {
+        this.tickProbe = stallWatchdog.probe("timer-tick");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timer-ticks");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
     @Override
-    public void startTicking(Runnable onTick) {
+    public synchronized void startTicking(Runnable onTick) {
+        cancelPendingTick();
         this.onTick = onTick;
-        scheduler = Executors.newSingleThreadScheduledExecutor();
-        scheduledFuture = scheduler.scheduleAtFixedRate(() -> {
-            if (!paused) {
-                this.onTick.run();
-            }
-        }, 1, 1, TimeUnit.SECONDS);
+        this.remainingAtPauseNanos = -1;
+        long now = System.nanoTime();
+        tickTimingRecorder.sessionStarted(now);
+        this.nextTickAtNanos = now + TICK_INTERVAL_NANOS;
+        scheduleNextTick();
     }
 
     @Override
-    public void stopTicking() {
-        if (scheduledFuture != null) {
-            scheduledFuture.cancel(false);
-        }
-        if (scheduler != null) {
-            scheduler.shutdown();
+    public synchronized void stopTicking() {
+        cancelPendingTick();
+        this.onTick = null;
+        this.remainingAtPauseNanos = -1;
+    }
+
+    @Override
+    public synchronized void resumeTicking() {
+        if (onTick == null || remainingAtPauseNanos < 0) {
+            return;
         }
+        long now = System.nanoTime();
+        tickTimingRecorder.resumed(now);
+        nextTickAtNanos = now + remainingAtPauseNanos;
+        remainingAtPauseNanos = -1;
+        scheduleNextTick();
     }
 
     @Override
-    public void resumeTicking() {
-        paused = false;
+    public synchronized void pauseTicking() {
+        if (pendingTick == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        tickTimingRecorder.paused(now);
+        remainingAtPauseNanos = Math.max(0, nextTickAtNanos - now);
+        cancelPendingTick();
     }
 
     @Override
-    public void pauseTicking() {
-        paused = true;
+    public TickStatisticsDTO getTickStatistics() {
+        return tickTimingRecorder.snapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopTicking();
+        scheduler.shutdownNow();
+    }
+
+    private void fireTick(long generation) {
+        long firedAt = System.nanoTime();
+        Runnable callback;
+        synchronized (this) {
+            // Ignore ticks that were cancelled after they had already started running
+            if (generation != scheduleGeneration || onTick == null) {
+                return;
+            }
+            callback = onTick;
+            tickTimingRecorder.tickFired(nextTickAtNanos, firedAt);
+            // Deadlines are absolute, so a late tick does not push later ones back
+            nextTickAtNanos += TICK_INTERVAL_NANOS;
+            scheduleNextTick();
+        }
+        tickProbe.enter();
+        try {
+            callback.run();
+        } finally {
+            tickProbe.exit();
+        }
+    }
+
+    private void scheduleNextTick() {
+        long generation = ++scheduleGeneration;
+        long delay = nextTickAtNanos - System.nanoTime();
+        pendingTick = scheduler.schedule(() -> fireTick(generation), Math.max(0, delay), TimeUnit.NANOSECONDS);
+    }
+
+    private void cancelPendingTick() {
+        if (pendingTick != null) {
+            pendingTick.cancel(false);
+            pendingTick = null;
+            scheduleGeneration++;
+        }
     }
 }
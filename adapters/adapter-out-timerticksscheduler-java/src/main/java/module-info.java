@@ -3,12 +3,13 @@
  *
  * This is a driven adapter (outbound) that implements the timer ticks scheduler port
  * using Java's ScheduledExecutorService for periodic updates.
- * All classes are internal - this module does not export any packages.
+ * The adapter package is exported for the Spring-free headless bootstrap.
  * Spring Boot requires open packages for component scanning and dependency injection.
  */
 module com.jabaddon.pomodorotimer.adapter.scheduler.java {
-    // No exports - this is an adapter implementation (not a library)
-    // All adapter classes are internal and wired via Spring Boot
+    // Export the adapter package for the bootstrap's Spring-free headless wiring
+    // Everywhere else the adapter is still wired via Spring Boot
+    exports com.jabaddon.pomodorotimer.adapter.out.timerticksscheduler.java;
 
     // Dependencies on other modules
     requires com.jabaddon.pomodorotimer.core;
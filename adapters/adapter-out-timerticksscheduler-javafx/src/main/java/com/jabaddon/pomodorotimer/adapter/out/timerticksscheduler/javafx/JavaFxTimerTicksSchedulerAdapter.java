@@ -1,50 +1,160 @@
 package com.jabaddon.pomodorotimer.adapter.out.timerticksscheduler.javafx;
 
+import com.jabaddon.pomodorotimer.application.diagnostics.StallWatchdog;
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.metrics.TickTimingRecorder;
 import com.jabaddon.pomodorotimer.application.port.out.TimerTicksSchedulerPort;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.util.Duration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Timer ticks scheduler backed by a JavaFX Timeline.
+ *
+ * A paused Timeline is removed from the pulse loop, so no wake-ups happen while
+ * the timer is paused, and playing it again continues from the exact position
+ * inside the current second. The Timeline is discarded when ticking stops.
+ * Tick lateness is measured against the ideal one-per-second schedule, since
+ * the Timeline fires on pulse boundaries rather than exact deadlines.
+ * Tick callbacks run on the FX thread and are timed by the stall watchdog.
+ * Timelines must be driven from the FX thread, so every call is queued and the
+ * queue is applied there: immediately when the call is made on the FX thread,
+ * otherwise through Platform.runLater (e.g. commands applied after the service's
+ * warm-up). Calls therefore take effect in the order they were made, whichever
+ * thread made them, and a tick applies the queue before it runs, so it never
+ * fires for a timer that was already stopped or paused.
+ */
 @Component
 @Profile("javafx")
 public class JavaFxTimerTicksSchedulerAdapter implements TimerTicksSchedulerPort {
+    private static final long TICK_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final TickTimingRecorder tickTimingRecorder = new TickTimingRecorder();
+    private final StallWatchdog.Probe tickProbe;
+    // Scheduler commands not yet applied on the FX thread, in call order
+    private final Queue<Runnable> pendingCommands = new ArrayDeque<>();
     private Timeline timeline;
     private Runnable currentCallback;
+    private long nextTickAtNanos;
+    private long pausedAtNanos = -1;
+    private long timelineGeneration;
+
+    public JavaFxTimerTicksSchedulerAdapter(StallWatchdog stallWatchdog) {
+        this.tickProbe = stallWatchdog.probe("fx-timer-tick");
+    }
 
     public void startTicking(Runnable onTick) {
-        this.currentCallback = onTick;
-        this.timeline = new Timeline(new KeyFrame(Duration.seconds(1.0F), (event) -> {
-            if (this.currentCallback != null) {
-                this.currentCallback.run();
-            }
+        submit(() -> applyStart(onTick));
+    }
+
+    public void stopTicking() {
+        submit(this::applyStop);
+    }
+
+    public void pauseTicking() {
+        submit(this::applyPause);
+    }
+
+    public void resumeTicking() {
+        submit(this::applyResume);
+    }
+
+    @Override
+    public TickStatisticsDTO getTickStatistics() {
+        return this.tickTimingRecorder.snapshot();
+    }
+
+    /**
+     * Queues a command in call order and applies the queue on the FX thread:
+     * right away when called from it, otherwise through Platform.runLater.
+     */
+    private void submit(Runnable command) {
+        synchronized (this.pendingCommands) {
+            this.pendingCommands.add(command);
+        }
+        if (Platform.isFxApplicationThread()) {
+            applyPendingCommands();
+        } else {
+            Platform.runLater(this::applyPendingCommands);
+        }
+    }
+
+    private void applyPendingCommands() {
+        Runnable command;
+        while ((command = pollCommand()) != null) {
+            command.run();
+        }
+    }
 
-        }));
+    private Runnable pollCommand() {
+        synchronized (this.pendingCommands) {
+            return this.pendingCommands.poll();
+        }
+    }
+
+    private void applyStart(Runnable onTick) {
+        if (this.timeline != null) {
+            this.timeline.stop();
+        }
+        long generation = ++this.timelineGeneration;
+        this.currentCallback = onTick;
+        long now = System.nanoTime();
+        this.tickTimingRecorder.sessionStarted(now);
+        this.nextTickAtNanos = now + TICK_INTERVAL_NANOS;
+        this.pausedAtNanos = -1;
+        this.timeline = new Timeline(new KeyFrame(Duration.seconds(1.0F), (event) -> fireTick(generation)));
         this.timeline.setCycleCount(-1);
         this.timeline.play();
     }
 
-    public void stopTicking() {
+    private void applyStop() {
         if (this.timeline != null) {
             this.timeline.stop();
+            this.timeline = null;
         }
-
+        this.timelineGeneration++;
         this.currentCallback = null;
     }
 
-    public void pauseTicking() {
+    private void applyPause() {
         if (this.timeline != null) {
             this.timeline.pause();
+            this.pausedAtNanos = System.nanoTime();
+            this.tickTimingRecorder.paused(this.pausedAtNanos);
         }
-
     }
 
-    public void resumeTicking() {
+    private void applyResume() {
         if (this.timeline != null) {
+            if (this.pausedAtNanos >= 0) {
+                long now = System.nanoTime();
+                this.nextTickAtNanos += now - this.pausedAtNanos;
+                this.tickTimingRecorder.resumed(now);
+                this.pausedAtNanos = -1;
+            }
             this.timeline.play();
         }
+    }
 
+    private void fireTick(long generation) {
+        // Commands issued before this pulse are applied first, so a tick never overtakes them
+        applyPendingCommands();
+        if (generation != this.timelineGeneration || this.currentCallback == null || this.pausedAtNanos >= 0) {
+            return;
+        }
+        this.tickTimingRecorder.tickFired(this.nextTickAtNanos, System.nanoTime());
+        this.nextTickAtNanos += TICK_INTERVAL_NANOS;
+        this.tickProbe.enter();
+        try {
+            this.currentCallback.run();
+        } finally {
+            this.tickProbe.exit();
+        }
     }
 }
-
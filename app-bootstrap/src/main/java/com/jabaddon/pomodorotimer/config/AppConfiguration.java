@@ -1,15 +1,24 @@
 package com.jabaddon.pomodorotimer.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 
+import com.jabaddon.pomodorotimer.adapter.out.timerpersistence.file.PersistenceConfiguration;
+import com.jabaddon.pomodorotimer.application.diagnostics.StallWatchdog;
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceRing;
+import com.jabaddon.pomodorotimer.application.metrics.MetricsRegistry;
 import com.jabaddon.pomodorotimer.application.port.out.NotificationPort;
 import com.jabaddon.pomodorotimer.application.port.out.TimerPersistencePort;
 import com.jabaddon.pomodorotimer.application.port.out.TimerTicksSchedulerPort;
 import com.jabaddon.pomodorotimer.application.port.out.UIPort;
 import com.jabaddon.pomodorotimer.application.service.TimerApplicationService;
+import com.jabaddon.pomodorotimer.metrics.MetricsMBean;
+import com.jabaddon.pomodorotimer.metrics.PrometheusFileWriter;
 
 @Configuration
 public class AppConfiguration {
@@ -28,17 +37,76 @@ public class AppConfiguration {
         return soundEnabled;
     }
 
+    /**
+     * Watches the FX application thread and the tick scheduler thread for callbacks over budget.
+     */
+    @Bean(destroyMethod = "close")
+    public StallWatchdog stallWatchdog(
+            @Value("${app.diagnostics.stall-budget-ms:16}") long budgetMillis,
+            @Value("${app.diagnostics.stall-capacity:64}") int capacity) {
+        return new StallWatchdog(budgetMillis, capacity).start();
+    }
+
+    /**
+     * Recent activity of the service and the persistence adapter, dumped to the data directory on demand.
+     */
+    @Bean
+    public TraceRing traceRing(
+            PersistenceConfiguration persistenceConfiguration,
+            @Value("${app.diagnostics.trace-capacity:1024}") int capacity) {
+        return new TraceRing(capacity, persistenceConfiguration.getDataDirectoryPath());
+    }
+
+    /**
+     * Shared by the service and the adapters; exported over JMX and optionally to a text file.
+     */
+    @Bean
+    public MetricsRegistry metricsRegistry() {
+        return new MetricsRegistry();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.metrics.jmx.enabled", havingValue = "true", matchIfMissing = true)
+    public MetricsMBean metricsMBean(MetricsRegistry metricsRegistry) {
+        return MetricsMBean.register(metricsRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.metrics.prometheus-file.enabled", havingValue = "true")
+    public PrometheusFileWriter prometheusFileWriter(
+            MetricsRegistry metricsRegistry,
+            PersistenceConfiguration persistenceConfiguration,
+            @Value("${app.metrics.prometheus-file.name:metrics.prom}") String fileName,
+            @Value("${app.metrics.prometheus-file.interval-seconds:15}") long intervalSeconds) {
+        return new PrometheusFileWriter(metricsRegistry,
+                persistenceConfiguration.getDataDirectoryPath().resolve(fileName), intervalSeconds);
+    }
+
     @Bean
     public TimerApplicationService timerApplicationService(
             TimerTicksSchedulerPort timerTicksSchedulerPort,
             NotificationPort notificationPort,
             TimerPersistencePort timerPersistencePort,
-            @Lazy UIPort uiPort) {
+            @Lazy UIPort uiPort,
+            MetricsRegistry metricsRegistry,
+            TraceRing traceRing) {
         return new TimerApplicationService(
             timerTicksSchedulerPort,
             notificationPort,
             timerPersistencePort,
-            uiPort
+            uiPort,
+            restore -> Thread.ofPlatform().name("timer-restore").daemon().start(restore),
+            metricsRegistry,
+            traceRing
         );
     }
+
+    /**
+     * Restores today's statistics once the context is refreshed, so neither the
+     * refresh nor the first window or prompt waits on reading the history.
+     */
+    @Bean
+    public ApplicationListener<ContextRefreshedEvent> timerWarmUp(TimerApplicationService timerApplicationService) {
+        return event -> timerApplicationService.warmUp();
+    }
 }
@@ -0,0 +1,295 @@
+package com.jabaddon.pomodorotimer.diagnostics;
+
+import com.jabaddon.pomodorotimer.Application;
+import com.jabaddon.pomodorotimer.PomodoroTimerApplication;
+import com.jabaddon.pomodorotimer.adapter.in.ui.shell.SpringShellUIAdapter;
+import com.jabaddon.pomodorotimer.adapter.in.ui.shell.TimerWatchMode;
+import com.jabaddon.pomodorotimer.application.dto.TimerStateDTO;
+import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
+import com.jabaddon.pomodorotimer.application.service.TimerApplicationService;
+import com.jabaddon.pomodorotimer.headless.HeadlessPomodoroTimer;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what a UI profile costs while the timer sits idle, runs or is paused.
+ *
+ * Starts the profile in this JVM, lets it settle, then scripts one session and
+ * measures each phase for the same time:
+ *
+ * <pre>
+ * idle      before any session
+ * running   a custom session long enough not to complete
+ * paused    the same session, paused
+ * stopped   after stopping it, to catch threads and timers left behind
+ * </pre>
+ *
+ * For each phase the report holds CPU per minute (the whole process, from
+ * {@code /proc}, and the JVM's threads, from the {@code ThreadMXBean}),
+ * wake-ups and preemptions per minute (voluntary and involuntary context
+ * switches), thread counts and the Java threads that woke up most. Wake-ups are
+ * given for the whole process and for Java threads alone, as the JVM's own
+ * threads wake up many times a second whatever the application does. The
+ * harness's own thread is left out of the switches. Linux only.
+ *
+ * Profiles are {@code headless}, {@code shell} (no interactive shell),
+ * {@code shell-watch} (the Lanterna watch mode, which needs a terminal) and
+ * {@code javafx} (which needs a display). Budgets such as
+ * {@code --budget idle.wakeups=60,paused.cpu=5} make the harness exit with 1
+ * when a phase goes over; metrics are {@code cpu} and {@code jvm-cpu} (ms per
+ * minute), {@code wakeups}, {@code java-wakeups} and {@code preemptions} (per
+ * minute) and {@code threads}.
+ *
+ * <pre>
+ * java -cp ... com.jabaddon.pomodorotimer.diagnostics.IdleCostHarness --profile shell
+ *     [--phase-seconds 60] [--settle-seconds 10] [--budget idle.wakeups=60]
+ *     [--output results.json] [--report report.txt]
+ * </pre>
+ */
+public final class IdleCostHarness {
+    private static final List<String> PROFILES = List.of("headless", "shell", "shell-watch", "javafx");
+    private static final int BUSIEST_THREADS = 5;
+
+    record Phase(String name, ProcessActivity activity) {
+
+        double perMinute(double value) {
+            return value * TimeUnit.MINUTES.toNanos(1) / activity.nanoTime();
+        }
+
+        double cpuMsPerMinute() {
+            return perMinute(activity.processCpuNanos() / 1e6);
+        }
+
+        double jvmCpuMsPerMinute() {
+            return perMinute(activity.javaThreadCpuNanos() / 1e6);
+        }
+
+        double wakeupsPerMinute() {
+            return perMinute(activity.voluntarySwitches());
+        }
+
+        double javaWakeupsPerMinute() {
+            return perMinute(activity.javaVoluntarySwitches());
+        }
+
+        double preemptionsPerMinute() {
+            return perMinute(activity.involuntarySwitches());
+        }
+
+        double metric(String name) {
+            return switch (name) {
+                case "cpu" -> cpuMsPerMinute();
+                case "jvm-cpu" -> jvmCpuMsPerMinute();
+                case "wakeups" -> wakeupsPerMinute();
+                case "java-wakeups" -> javaWakeupsPerMinute();
+                case "preemptions" -> preemptionsPerMinute();
+                case "threads" -> activity.javaThreads();
+                default -> throw new IllegalArgumentException("Unknown metric '" + name + "'");
+            };
+        }
+    }
+
+    /**
+     * A started profile: the service to script and how to stop everything.
+     */
+    private record RunningProfile(TimerApplicationService service, AutoCloseable shutdown) {
+    }
+
+    private IdleCostHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String profile = options.getOrDefault("profile", "shell");
+        if (!PROFILES.contains(profile)) {
+            throw new IllegalArgumentException("Unknown profile '" + profile + "', expected one of " + PROFILES);
+        }
+        long phaseSeconds = Long.parseLong(options.getOrDefault("phase-seconds", "60"));
+        long settleSeconds = Long.parseLong(options.getOrDefault("settle-seconds", "10"));
+        if (ProcessActivity.take() == null) {
+            throw new IllegalStateException("No /proc/self; the harness only runs on Linux");
+        }
+
+        RunningProfile running = start(profile);
+        TimerApplicationService service = running.service();
+        int harnessTid = ProcessActivity.currentTid();
+        if (!service.awaitReady(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("History restore did not finish");
+        }
+        TimeUnit.SECONDS.sleep(settleSeconds);
+
+        List<Phase> phases = new ArrayList<>();
+        phases.add(measure("idle", phaseSeconds, harnessTid));
+        service.startCustomTimer((int) (TimeUnit.SECONDS.toMinutes(phaseSeconds) + 2));
+        phases.add(measure("running", phaseSeconds, harnessTid));
+        service.pause();
+        phases.add(measure("paused", phaseSeconds, harnessTid));
+        service.stop();
+        phases.add(measure("stopped", phaseSeconds, harnessTid));
+        GetTimerStateQuery.TimerCurrentStateDTO end = service.getCurrentState();
+
+        String report = report(profile, phaseSeconds, phases);
+        if (options.containsKey("report")) {
+            Files.writeString(Path.of(options.get("report")), report);
+        } else {
+            System.out.print(report);
+        }
+        if (options.containsKey("output")) {
+            Files.writeString(Path.of(options.get("output")), toJson(profile, phaseSeconds, phases));
+        }
+        List<String> violations = checkBudgets(options.getOrDefault("budget", ""), phases);
+        violations.forEach(System.err::println);
+        if (end.getState() != TimerStateDTO.IDLE) {
+            System.err.println("Timer ended in state " + end.getState() + " instead of IDLE");
+        }
+
+        running.shutdown().close();
+        // JavaFX and Spring Shell leave non-daemon threads behind
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    private static Phase measure(String name, long seconds, int harnessTid) throws InterruptedException {
+        ProcessActivity start = ProcessActivity.take();
+        TimeUnit.SECONDS.sleep(seconds);
+        return new Phase(name, ProcessActivity.take().since(start).without(harnessTid));
+    }
+
+    private static RunningProfile start(String profile) {
+        if (profile.equals("headless")) {
+            HeadlessPomodoroTimer timer = HeadlessPomodoroTimer.create(
+                    HeadlessPomodoroTimer.loadConfiguration(), System.out);
+            return new RunningProfile(timer.getService(), timer);
+        }
+        if (profile.equals("shell-watch") && System.console() == null) {
+            throw new IllegalStateException("shell-watch needs a terminal, e.g. run it under script(1)");
+        }
+        String springProfile = profile.equals("shell-watch") ? "shell" : profile;
+        // Commands come from the harness, not from a prompt
+        System.setProperty("spring.shell.interactive.enabled", "false");
+        if (springProfile.equals("javafx")) {
+            System.setProperty("java.awt.headless", "false");
+        }
+        SpringApplication app = new SpringApplication(PomodoroTimerApplication.class);
+        app.setAdditionalProfiles(springProfile);
+        ConfigurableApplicationContext context = app.run();
+
+        if (profile.equals("javafx")) {
+            Application.setSpringContext(context);
+            Thread.ofPlatform().name("javafx-launcher").daemon()
+                    .start(() -> javafx.application.Application.launch(Application.class));
+        } else if (profile.equals("shell-watch")) {
+            TimerWatchMode watchMode = new TimerWatchMode(context.getBean(SpringShellUIAdapter.class));
+            Thread.ofPlatform().name("watch-mode").daemon().start(watchMode::enter);
+        }
+        return new RunningProfile(context.getBean(TimerApplicationService.class), context);
+    }
+
+    static String report(String profile, long phaseSeconds, List<Phase> phases) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Profile '%s', %d s per phase, %s %s%n", profile, phaseSeconds,
+                System.getProperty("java.vm.name"), System.getProperty("java.version")));
+        sb.append(String.format("%-8s %11s %11s %12s %12s %12s %9s %9s%n", "phase", "cpu ms/min", "jvm ms/min",
+                "wakeups/min", "java wk/min", "preempt/min", "java thr", "all thr"));
+        for (Phase phase : phases) {
+            sb.append(String.format(Locale.ROOT, "%-8s %11.1f %11.1f %12.1f %12.1f %12.1f %9d %9d%n",
+                    phase.name(), phase.cpuMsPerMinute(), phase.jvmCpuMsPerMinute(), phase.wakeupsPerMinute(),
+                    phase.javaWakeupsPerMinute(), phase.preemptionsPerMinute(),
+                    phase.activity().javaThreads(), phase.activity().nativeThreads()));
+        }
+        sb.append(String.format("%nJava threads waking up most (wake-ups/min, cpu ms/min)%n"));
+        for (Phase phase : phases) {
+            sb.append(String.format("%-8s", phase.name()));
+            int shown = 0;
+            for (ProcessActivity.NativeThread thread : phase.activity().busiestThreads()) {
+                if (shown == BUSIEST_THREADS || thread.voluntarySwitches() == 0) {
+                    break;
+                }
+                if (thread.java()) {
+                    sb.append(String.format(Locale.ROOT, " %s %.1f %.1f;", thread.name(),
+                            phase.perMinute(thread.voluntarySwitches()), phase.perMinute(thread.cpuNanos() / 1e6)));
+                    shown++;
+                }
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    static List<String> checkBudgets(String budgets, List<Phase> phases) {
+        List<String> violations = new ArrayList<>();
+        for (String budget : budgets.split(",")) {
+            if (budget.isBlank()) {
+                continue;
+            }
+            // idle.wakeups=60
+            int dot = budget.indexOf('.');
+            int equals = budget.indexOf('=');
+            if (dot < 0 || equals < dot) {
+                throw new IllegalArgumentException("Expected phase.metric=limit, got '" + budget + "'");
+            }
+            String phaseName = budget.substring(0, dot).trim();
+            String metric = budget.substring(dot + 1, equals).trim();
+            double limit = Double.parseDouble(budget.substring(equals + 1).trim());
+            Phase phase = phases.stream()
+                    .filter(candidate -> candidate.name().equals(phaseName))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown phase '" + phaseName + "'"));
+            double value = phase.metric(metric);
+            if (value > limit) {
+                violations.add(String.format(Locale.ROOT, "Over budget: %s.%s = %.1f, limit %.1f",
+                        phaseName, metric, value, limit));
+            }
+        }
+        return violations;
+    }
+
+    private static String toJson(String profile, long phaseSeconds, List<Phase> phases) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n  \"profile\": \"").append(profile).append("\",\n")
+                .append("  \"phaseSeconds\": ").append(phaseSeconds).append(",\n")
+                .append("  \"javaVersion\": \"").append(System.getProperty("java.version")).append("\",\n")
+                .append("  \"phases\": [");
+        for (int i = 0; i < phases.size(); i++) {
+            Phase phase = phases.get(i);
+            sb.append(i == 0 ? "\n" : ",\n").append(String.format(Locale.ROOT,
+                    "    {\"phase\": \"%s\", \"cpuMsPerMinute\": %.2f, \"jvmCpuMsPerMinute\": %.2f, "
+                            + "\"wakeupsPerMinute\": %.2f, \"javaWakeupsPerMinute\": %.2f, "
+                            + "\"preemptionsPerMinute\": %.2f, \"javaThreads\": %d, \"nativeThreads\": %d, "
+                            + "\"threads\": [",
+                    phase.name(), phase.cpuMsPerMinute(), phase.jvmCpuMsPerMinute(), phase.wakeupsPerMinute(),
+                    phase.javaWakeupsPerMinute(), phase.preemptionsPerMinute(), phase.activity().javaThreads(), phase.activity().nativeThreads()));
+            List<ProcessActivity.NativeThread> threads = phase.activity().busiestThreads();
+            for (int t = 0; t < threads.size(); t++) {
+                ProcessActivity.NativeThread thread = threads.get(t);
+                sb.append(t == 0 ? "" : ", ").append(String.format(Locale.ROOT,
+                        "{\"name\": \"%s\", \"java\": %b, \"wakeupsPerMinute\": %.2f, \"cpuMsPerMinute\": %.2f}",
+                        thread.name().replace("\\", "\\\\").replace("\"", "\\\""), thread.java(),
+                        phase.perMinute(thread.voluntarySwitches()), phase.perMinute(thread.cpuNanos() / 1e6)));
+            }
+            sb.append("]}");
+        }
+        sb.append("\n  ]\n}\n");
+        return sb.toString();
+    }
+
+    // --name value pairs; a repeated option keeps its last value
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value, got '" + args[i] + "'");
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
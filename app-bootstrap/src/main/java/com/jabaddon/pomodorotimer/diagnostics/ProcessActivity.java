@@ -0,0 +1,179 @@
+package com.jabaddon.pomodorotimer.diagnostics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * What the process has done so far: CPU time, context switches per native
+ * thread and thread counts, read from {@code /proc/self} and the
+ * {@link ThreadMXBean}. Two snapshots give the activity in between with
+ * {@link #since(ProcessActivity)}.
+ *
+ * Voluntary context switches are the wake-ups: a thread that blocks, in a
+ * sleep, a timed wait or a poll, and is woken again counts one. Java threads
+ * are told apart from the JVM's own (compiler, GC, periodic tasks) by their
+ * native names, which are the Java names cut to 15 characters, so an
+ * application's wake-ups can be followed without the JVM's background noise.
+ * CPU times from {@code /proc} are in clock ticks of 10 ms.
+ *
+ * Only Linux has these files; elsewhere {@link #take()} returns null.
+ */
+public record ProcessActivity(
+        long nanoTime,
+        long processCpuNanos,
+        long javaThreadCpuNanos,
+        int javaThreads,
+        int nativeThreads,
+        Map<Integer, NativeThread> threads) {
+
+    private static final Path PROC_SELF = Path.of("/proc/self");
+    private static final long NANOS_PER_CLOCK_TICK = 10_000_000L;
+    private static final int NATIVE_NAME_LENGTH = 15;
+
+    /**
+     * One native thread; counters are totals, or deltas after {@link #since(ProcessActivity)}.
+     *
+     * @param java whether the thread is a Java thread, as opposed to one of the JVM's own
+     */
+    public record NativeThread(int tid, String name, boolean java, long cpuNanos, long voluntarySwitches,
+                               long involuntarySwitches) {
+    }
+
+    public static ProcessActivity take() {
+        if (!Files.isDirectory(PROC_SELF.resolve("task"))) {
+            return null;
+        }
+        long nanoTime = System.nanoTime();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        long javaThreadCpuNanos = 0;
+        // Native name -> full Java name, or the native name when two Java names share it
+        Map<String, String> javaNames = new HashMap<>();
+        for (ThreadInfo info : threadBean.getThreadInfo(threadBean.getAllThreadIds())) {
+            if (info == null) {
+                continue;
+            }
+            long cpu = threadBean.getThreadCpuTime(info.getThreadId());
+            if (cpu > 0) {
+                javaThreadCpuNanos += cpu;
+            }
+            String name = info.getThreadName();
+            String nativeName = name.length() > NATIVE_NAME_LENGTH ? name.substring(0, NATIVE_NAME_LENGTH) : name;
+            javaNames.merge(nativeName, name, (a, b) -> a.equals(b) ? a : nativeName);
+        }
+        Map<Integer, NativeThread> threads = new HashMap<>();
+        try (Stream<Path> tasks = Files.list(PROC_SELF.resolve("task"))) {
+            for (Path task : (Iterable<Path>) tasks::iterator) {
+                NativeThread thread = readTask(task, javaNames);
+                if (thread != null) {
+                    threads.put(thread.tid(), thread);
+                }
+            }
+            long processCpuNanos = cpuNanos(Files.readString(PROC_SELF.resolve("stat")));
+            return new ProcessActivity(nanoTime, processCpuNanos, javaThreadCpuNanos,
+                    threadBean.getThreadCount(), threads.size(), threads);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Native id of the calling thread, e.g. to leave a measuring thread out of a report.
+     */
+    public static int currentTid() {
+        try {
+            // /proc/thread-self -> <pid>/task/<tid>
+            return Integer.parseInt(Files.readSymbolicLink(Path.of("/proc/thread-self")).getFileName().toString());
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Activity since an earlier snapshot. Threads that ended in between are
+     * missing, and counters of threads that started count from zero.
+     */
+    public ProcessActivity since(ProcessActivity start) {
+        Map<Integer, NativeThread> delta = new HashMap<>();
+        for (NativeThread thread : threads.values()) {
+            NativeThread before = start.threads.get(thread.tid());
+            delta.put(thread.tid(), before == null ? thread : new NativeThread(thread.tid(), thread.name(),
+                    thread.java(), thread.cpuNanos() - before.cpuNanos(),
+                    thread.voluntarySwitches() - before.voluntarySwitches(),
+                    thread.involuntarySwitches() - before.involuntarySwitches()));
+        }
+        return new ProcessActivity(nanoTime - start.nanoTime, processCpuNanos - start.processCpuNanos,
+                javaThreadCpuNanos - start.javaThreadCpuNanos, javaThreads, nativeThreads, delta);
+    }
+
+    public long voluntarySwitches() {
+        return threads.values().stream().mapToLong(NativeThread::voluntarySwitches).sum();
+    }
+
+    public long involuntarySwitches() {
+        return threads.values().stream().mapToLong(NativeThread::involuntarySwitches).sum();
+    }
+
+    /**
+     * Wake-ups of Java threads only, leaving out the JVM's compiler, GC and housekeeping threads.
+     */
+    public long javaVoluntarySwitches() {
+        return threads.values().stream().filter(NativeThread::java).mapToLong(NativeThread::voluntarySwitches).sum();
+    }
+
+    /**
+     * The same activity without one thread's switches, e.g. the measuring thread's.
+     */
+    public ProcessActivity without(int tid) {
+        Map<Integer, NativeThread> others = new HashMap<>(threads);
+        others.remove(tid);
+        return new ProcessActivity(nanoTime, processCpuNanos, javaThreadCpuNanos, javaThreads, nativeThreads, others);
+    }
+
+    /**
+     * Threads sorted by wake-ups, most first.
+     */
+    public List<NativeThread> busiestThreads() {
+        List<NativeThread> sorted = new ArrayList<>(threads.values());
+        sorted.sort((a, b) -> Long.compare(b.voluntarySwitches(), a.voluntarySwitches()));
+        return sorted;
+    }
+
+    private static NativeThread readTask(Path task, Map<String, String> javaNames) throws IOException {
+        try {
+            int tid = Integer.parseInt(task.getFileName().toString());
+            String stat = Files.readString(task.resolve("stat"));
+            long voluntary = 0;
+            long involuntary = 0;
+            for (String line : Files.readAllLines(task.resolve("status"))) {
+                if (line.startsWith("voluntary_ctxt_switches:")) {
+                    voluntary = Long.parseLong(line.substring(line.indexOf(':') + 1).trim());
+                } else if (line.startsWith("nonvoluntary_ctxt_switches:")) {
+                    involuntary = Long.parseLong(line.substring(line.indexOf(':') + 1).trim());
+                }
+            }
+            String name = stat.substring(stat.indexOf('(') + 1, stat.lastIndexOf(')'));
+            boolean java = javaNames.containsKey(name);
+            return new NativeThread(tid, java ? javaNames.get(name) : name, java, cpuNanos(stat), voluntary,
+                    involuntary);
+        } catch (NoSuchFileException e) {
+            // The thread ended while the tasks were listed
+            return null;
+        }
+    }
+
+    // utime and stime are the 14th and 15th fields; the name in parentheses may contain spaces
+    private static long cpuNanos(String stat) {
+        String[] fields = stat.substring(stat.lastIndexOf(')') + 2).trim().split(" ");
+        return (Long.parseLong(fields[11]) + Long.parseLong(fields[12])) * NANOS_PER_CLOCK_TICK;
+    }
+}
@@ -0,0 +1,55 @@
+package com.jabaddon.pomodorotimer.headless;
+
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerStateDTO;
+import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery.TimerCurrentStateDTO;
+import com.jabaddon.pomodorotimer.application.port.out.UIPort;
+
+import java.io.PrintStream;
+
+/**
+ * Line-oriented UI for the headless timer: prints one line per state
+ * transition and per completed session, never per tick, so the output
+ * stays easy to consume from scripts.
+ */
+class ConsoleUIAdapter implements UIPort {
+    private final PrintStream out;
+    private TimerStateDTO lastState;
+    private TimerCurrentStateDTO lastSnapshot;
+
+    ConsoleUIAdapter(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onTimerCompleted(SessionTypeDTO currentTypeDto, SessionTypeDTO nextTypeDto) {
+        out.printf("completed %s, next %s%n", currentTypeDto.displayName(), nextTypeDto.displayName());
+    }
+
+    @Override
+    public synchronized void onTimerStateChanged(TimerCurrentStateDTO state) {
+        lastSnapshot = state;
+        if (state.getState() != lastState) {
+            lastState = state.getState();
+            out.println(format(state));
+        }
+        notifyAll();
+    }
+
+    /**
+     * Blocks until the timer is no longer running, e.g. before exiting at the end of a script.
+     */
+    synchronized void awaitNotRunning() throws InterruptedException {
+        while (lastSnapshot != null && lastSnapshot.isRunning()) {
+            wait();
+        }
+    }
+
+    static String format(TimerCurrentStateDTO state) {
+        int seconds = state.getRemainingSeconds();
+        return String.format("%s %s %02d:%02d pomodoros=%d cycle=%d%s",
+                state.getState().name().toLowerCase(), state.getSessionType().displayName(),
+                seconds / 60, seconds % 60, state.getCompletedPomodoros(), state.getCurrentCycle(),
+                state.isReady() ? "" : " (restoring)");
+    }
+}
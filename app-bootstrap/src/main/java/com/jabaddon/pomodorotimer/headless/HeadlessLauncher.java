@@ -0,0 +1,113 @@
+package com.jabaddon.pomodorotimer.headless;
+
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.service.TimerApplicationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point for the headless timer. Reads one command per line from stdin:
+ *
+ *   start [minutes] | pause | resume | stop | reset | status | ticks | stalls | trace | quit
+ *
+ * Commands given as program arguments run first, so
+ * {@code run-headless.sh start 25 < /dev/null} runs one session and exits when it ends.
+ * At end of input the launcher waits for a running timer to finish before exiting.
+ *
+ * Usage:
+ *   ./run-headless.sh [command...]
+ */
+public final class HeadlessLauncher {
+    private static Logger log;
+
+    private HeadlessLauncher() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        long startNanos = System.nanoTime();
+        // Must be set before the first logger is created; logback-spring.xml needs Spring
+        if (System.getProperty("logback.configurationFile") == null) {
+            System.setProperty("logback.configurationFile", "logback-headless.xml");
+        }
+        log = LoggerFactory.getLogger(HeadlessLauncher.class);
+
+        ConsoleUIAdapter ui = new ConsoleUIAdapter(System.out);
+        try (HeadlessPomodoroTimer timer = HeadlessPomodoroTimer.create(HeadlessPomodoroTimer.loadConfiguration(), ui)) {
+            long sinceProcessStart = ProcessHandle.current().info().startInstant()
+                    .map(start -> System.currentTimeMillis() - start.toEpochMilli())
+                    .orElse(-1L);
+            log.info("Headless timer ready {} ms after main, {} ms after process start",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), sinceProcessStart);
+
+            if (args.length > 0 && !execute(timer, String.join(" ", args))) {
+                return;
+            }
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!execute(timer, line.trim())) {
+                    return;
+                }
+            }
+            // Commands may still be queued behind the history restore
+            if (!timer.getService().awaitReady(30, TimeUnit.SECONDS)) {
+                log.warn("History restore did not finish, exiting");
+                return;
+            }
+            ui.awaitNotRunning();
+        }
+    }
+
+    /**
+     * Runs one command; returns false when the launcher should exit.
+     */
+    private static boolean execute(HeadlessPomodoroTimer timer, String command) {
+        if (command.isEmpty() || command.startsWith("#")) {
+            return true;
+        }
+        TimerApplicationService service = timer.getService();
+        String[] parts = command.split("\\s+");
+        switch (parts[0]) {
+            case "start" -> {
+                if (parts.length > 1) {
+                    try {
+                        service.startCustomTimer(Integer.parseInt(parts[1]));
+                    } catch (NumberFormatException e) {
+                        System.err.println("Minutes must be a number: " + parts[1]);
+                    }
+                } else {
+                    service.startNormalTimer();
+                }
+            }
+            case "pause" -> service.pause();
+            case "resume" -> service.resume();
+            case "stop" -> service.stop();
+            case "reset" -> service.reset();
+            case "status" -> System.out.println(ConsoleUIAdapter.format(service.getCurrentState()));
+            case "ticks" -> {
+                TickStatisticsDTO stats = service.getTickStatistics();
+                System.out.printf("ticks=%d p50=%dus p99=%dus max=%dus drift=%dus%n",
+                        stats.tickCount(), stats.p50LatenessMicros(), stats.p99LatenessMicros(),
+                        stats.maxLatenessMicros(), stats.cumulativeDriftMicros());
+            }
+            case "stalls" -> System.out.print(timer.getStallWatchdog().dump());
+            case "trace" -> {
+                try {
+                    System.out.println("Trace written to " + timer.getTrace().dumpToFile());
+                } catch (IOException e) {
+                    System.err.println("Could not write trace: " + e.getMessage());
+                }
+            }
+            case "quit", "exit" -> {
+                return false;
+            }
+            default -> System.err.println("Unknown command: " + command);
+        }
+        return true;
+    }
+}
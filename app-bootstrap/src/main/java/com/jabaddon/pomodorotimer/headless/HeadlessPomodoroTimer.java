@@ -0,0 +1,147 @@
+package com.jabaddon.pomodorotimer.headless;
+
+import com.jabaddon.pomodorotimer.adapter.out.notification.shell.ShellNotificationAdapter;
+import com.jabaddon.pomodorotimer.adapter.out.timerpersistence.file.FileTimerPersistenceAdapter;
+import com.jabaddon.pomodorotimer.adapter.out.timerpersistence.file.PersistenceConfiguration;
+import com.jabaddon.pomodorotimer.adapter.out.timerticksscheduler.java.JavaTimerTicksSchedulerAdapter;
+import com.jabaddon.pomodorotimer.application.diagnostics.StallWatchdog;
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceRing;
+import com.jabaddon.pomodorotimer.application.metrics.MetricsRegistry;
+import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
+import com.jabaddon.pomodorotimer.application.port.out.UIPort;
+import com.jabaddon.pomodorotimer.application.service.TimerApplicationService;
+import com.jabaddon.pomodorotimer.metrics.MetricsMBean;
+import com.jabaddon.pomodorotimer.metrics.PrometheusFileWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.Properties;
+
+/**
+ * Spring-free wiring of the timer for headless and embedded use.
+ *
+ * Builds {@link TimerApplicationService} with the Java scheduler, file
+ * persistence and shell notification adapters through plain constructors,
+ * the same adapters the shell profile gets from Spring. No classpath scanning,
+ * proxies or application context are involved, so creating a timer costs little
+ * more than loading the core and the three adapters.
+ *
+ * Configuration uses the same keys as {@code application.properties},
+ * including the {@code app.metrics.*} exporters and the trace ring.
+ * Today's statistics are restored in the background; commands issued before
+ * that finishes are queued by the service.
+ */
+public final class HeadlessPomodoroTimer implements AutoCloseable {
+    private final StallWatchdog stallWatchdog;
+    private final JavaTimerTicksSchedulerAdapter scheduler;
+    private final TimerApplicationService service;
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final TraceRing trace;
+    private final MetricsMBean metricsMBean;
+    private final PrometheusFileWriter prometheusFileWriter;
+
+    private HeadlessPomodoroTimer(Properties config, UIPort uiPort) {
+        this.stallWatchdog = new StallWatchdog(
+                Long.parseLong(config.getProperty("app.diagnostics.stall-budget-ms", "16")),
+                Integer.parseInt(config.getProperty("app.diagnostics.stall-capacity", "64"))).start();
+        this.scheduler = new JavaTimerTicksSchedulerAdapter(stallWatchdog);
+
+        PersistenceConfiguration persistenceConfiguration = new PersistenceConfiguration(
+                config.getProperty("app.data.directory", ".pomodoro-timer"),
+                config.getProperty("app.data.history-file", "timer-history.json"));
+        this.trace = new TraceRing(
+                Integer.parseInt(config.getProperty("app.diagnostics.trace-capacity", "1024")),
+                persistenceConfiguration.getDataDirectoryPath());
+        FileTimerPersistenceAdapter persistence = new FileTimerPersistenceAdapter(
+                persistenceConfiguration, persistenceConfiguration.objectMapper(), metrics, trace);
+
+        this.service = new TimerApplicationService(scheduler, new ShellNotificationAdapter(), persistence, uiPort,
+                restore -> Thread.ofPlatform().name("timer-restore").daemon().start(restore), metrics, trace);
+
+        this.metricsMBean = Boolean.parseBoolean(config.getProperty("app.metrics.jmx.enabled", "true"))
+                ? MetricsMBean.register(metrics)
+                : null;
+        this.prometheusFileWriter = Boolean.parseBoolean(config.getProperty("app.metrics.prometheus-file.enabled", "false"))
+                ? new PrometheusFileWriter(metrics,
+                        persistenceConfiguration.getDataDirectoryPath().resolve(
+                                config.getProperty("app.metrics.prometheus-file.name", "metrics.prom")),
+                        Long.parseLong(config.getProperty("app.metrics.prometheus-file.interval-seconds", "15")))
+                : null;
+        service.warmUp();
+    }
+
+    /**
+     * Creates a timer wired to the given UI port.
+     */
+    public static HeadlessPomodoroTimer create(Properties config, UIPort uiPort) {
+        return new HeadlessPomodoroTimer(config, uiPort);
+    }
+
+    /**
+     * Creates a timer that prints its transitions to the given stream, as the launcher does.
+     */
+    public static HeadlessPomodoroTimer create(Properties config, PrintStream console) {
+        return new HeadlessPomodoroTimer(config, new ConsoleUIAdapter(console));
+    }
+
+    /**
+     * Loads {@code application.properties} from the classpath; system properties
+     * with the same keys override it, e.g. {@code -Dapp.data.directory=...}.
+     */
+    public static Properties loadConfiguration() {
+        Properties config = new Properties();
+        try (InputStream in = HeadlessPomodoroTimer.class.getResourceAsStream("/application.properties")) {
+            if (in != null) {
+                config.load(in);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read application.properties", e);
+        }
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("app.")) {
+                config.setProperty(key, System.getProperty(key));
+            }
+        }
+        return config;
+    }
+
+    /**
+     * The service implements every driving port: start, pause, reset and the state queries.
+     */
+    public TimerApplicationService getService() {
+        return service;
+    }
+
+    public StallWatchdog getStallWatchdog() {
+        return stallWatchdog;
+    }
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    public TraceRing getTrace() {
+        return trace;
+    }
+
+    /**
+     * Stops a running timer (saving it to history) and releases the scheduler threads.
+     */
+    @Override
+    public void close() {
+        GetTimerStateQuery.TimerCurrentStateDTO state = service.getCurrentState();
+        if (state.isRunning() || state.isPaused()) {
+            service.stop();
+        }
+        service.shutdown();
+        scheduler.shutdown();
+        stallWatchdog.close();
+        if (prometheusFileWriter != null) {
+            prometheusFileWriter.close();
+        }
+        if (metricsMBean != null) {
+            metricsMBean.close();
+        }
+    }
+}
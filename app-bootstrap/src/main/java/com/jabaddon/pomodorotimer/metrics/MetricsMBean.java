@@ -0,0 +1,171 @@
+package com.jabaddon.pomodorotimer.metrics;
+
+import com.jabaddon.pomodorotimer.application.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Publishes a {@link MetricsRegistry} as one read-only MBean,
+ * {@code com.jabaddon.pomodorotimer:type=Metrics}, e.g. for JConsole or VisualVM.
+ *
+ * Every counter and gauge is a {@code long} attribute named after the metric and
+ * its label ({@code pomodoro_sessions_RUNNING}); a summary becomes
+ * {@code _count}, {@code _mean}, {@code _p50}, {@code _p90}, {@code _p99} and
+ * {@code _max} attributes. Values are read when an attribute is read.
+ */
+public final class MetricsMBean implements DynamicMBean, AutoCloseable {
+    public static final String OBJECT_NAME = "com.jabaddon.pomodorotimer:type=Metrics";
+    private static final Logger log = LoggerFactory.getLogger(MetricsMBean.class);
+
+    private final MetricsRegistry registry;
+    private final MBeanServer server;
+    private final ObjectName objectName;
+
+    private MetricsMBean(MetricsRegistry registry, MBeanServer server, ObjectName objectName) {
+        this.registry = registry;
+        this.server = server;
+        this.objectName = objectName;
+    }
+
+    /**
+     * Registers the registry with the platform MBean server, replacing an earlier registration.
+     */
+    public static MetricsMBean register(MetricsRegistry registry) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            MetricsMBean mbean = new MetricsMBean(registry, server, objectName);
+            try {
+                server.registerMBean(mbean, objectName);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(objectName);
+                server.registerMBean(mbean, objectName);
+            }
+            log.debug("Registered metrics MBean {}", objectName);
+            return mbean;
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register metrics MBean", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            log.warn("Could not unregister metrics MBean: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        LongSupplier value = attributes().get(attribute);
+        if (value == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return value.getAsLong();
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] names) {
+        Map<String, LongSupplier> attributes = attributes();
+        AttributeList list = new AttributeList();
+        for (String name : names) {
+            LongSupplier value = attributes.get(name);
+            if (value != null) {
+                list.add(new Attribute(name, value.getAsLong()));
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException(attribute.getName() + " is read-only");
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) {
+        throw new UnsupportedOperationException("No operations on " + OBJECT_NAME);
+    }
+
+    /**
+     * Built per call, as metrics can be registered at any time.
+     */
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        Map<String, String> descriptions = new LinkedHashMap<>();
+        for (MetricsRegistry.Metric metric : registry.getMetrics()) {
+            for (String name : attributeNames(metric)) {
+                descriptions.put(name, metric.help());
+            }
+        }
+        MBeanAttributeInfo[] infos = descriptions.entrySet().stream()
+                .map(entry -> new MBeanAttributeInfo(entry.getKey(), "long", entry.getValue(), true, false, false))
+                .toArray(MBeanAttributeInfo[]::new);
+        return new MBeanInfo(getClass().getName(), "Pomodoro timer metrics", infos, null, null, null);
+    }
+
+    private Map<String, LongSupplier> attributes() {
+        Map<String, LongSupplier> attributes = new LinkedHashMap<>();
+        for (MetricsRegistry.Metric metric : registry.getMetrics()) {
+            String name = attributeName(metric);
+            if (metric.type() == MetricsRegistry.Type.SUMMARY) {
+                attributes.put(name + "_count", () -> metric.summary().count());
+                attributes.put(name + "_mean", () -> metric.summary().mean());
+                attributes.put(name + "_p50", () -> metric.summary().p50());
+                attributes.put(name + "_p90", () -> metric.summary().p90());
+                attributes.put(name + "_p99", () -> metric.summary().p99());
+                attributes.put(name + "_max", () -> metric.summary().max());
+            } else {
+                attributes.put(name, metric::value);
+            }
+        }
+        return attributes;
+    }
+
+    private static List<String> attributeNames(MetricsRegistry.Metric metric) {
+        String name = attributeName(metric);
+        if (metric.type() != MetricsRegistry.Type.SUMMARY) {
+            return List.of(name);
+        }
+        List<String> names = new ArrayList<>(6);
+        for (String suffix : new String[] {"_count", "_mean", "_p50", "_p90", "_p99", "_max"}) {
+            names.add(name + suffix);
+        }
+        return names;
+    }
+
+    // state="RUNNING" -> pomodoro_sessions_RUNNING
+    private static String attributeName(MetricsRegistry.Metric metric) {
+        if (metric.labels().isEmpty()) {
+            return metric.name();
+        }
+        String value = metric.labels().substring(metric.labels().indexOf('"') + 1, metric.labels().length() - 1);
+        return metric.name() + "_" + value.replace('.', '_');
+    }
+}
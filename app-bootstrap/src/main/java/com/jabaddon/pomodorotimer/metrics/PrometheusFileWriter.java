@@ -0,0 +1,73 @@
+package com.jabaddon.pomodorotimer.metrics;
+
+import com.jabaddon.pomodorotimer.application.metrics.MetricsRegistry;
+import com.jabaddon.pomodorotimer.application.metrics.PrometheusTextFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes a {@link MetricsRegistry} in the Prometheus text format,
+ * for the node exporter's textfile collector or anything that tails a file.
+ *
+ * Each snapshot is written to a temporary file next to the target and moved
+ * over it, so readers never see a half-written file. The last snapshot is
+ * written again on {@link #close()}.
+ */
+public final class PrometheusFileWriter implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(PrometheusFileWriter.class);
+
+    private final MetricsRegistry registry;
+    private final Path file;
+    private final Path tempFile;
+    private final ScheduledExecutorService executor;
+
+    public PrometheusFileWriter(MetricsRegistry registry, Path file, long intervalSeconds) {
+        this.registry = registry;
+        this.file = file;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        this.executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("metrics-writer").daemon().factory());
+        executor.scheduleWithFixedDelay(this::write, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        log.debug("Writing metrics to {} every {} s", file, intervalSeconds);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes a snapshot now. Failures are logged; the next interval tries again.
+     */
+    public void write() {
+        try {
+            Files.writeString(tempFile, PrometheusTextFormat.format(registry));
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Could not write metrics to {}: {}", file, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        write();
+    }
+}
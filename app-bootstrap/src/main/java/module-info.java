@@ -5,12 +5,10 @@
  * using Spring Boot dependency injection. It contains the main application
  * launcher and configuration.
  *
- * This module does not export any packages as it's an application entry point,
- * not a library to be consumed by others.
+ * Apart from the launchers it only exports the headless package, which wires
+ * the timer without Spring for embedding and scripting.
  */
 module com.jabaddon.pomodorotimer.bootstrap {
-    // No exports - this is an application entry point (not a library)
-
     // Dependencies on application modules
     requires com.jabaddon.pomodorotimer.core;
 
@@ -39,10 +37,17 @@ module com.jabaddon.pomodorotimer.bootstrap {
     // Logging
     requires org.slf4j;
 
+    // JMX export of the metrics
+    requires java.management;
+
     // Open packages to Spring for component scanning and dependency injection
     opens com.jabaddon.pomodorotimer;
     opens com.jabaddon.pomodorotimer.config;
 
     // Export main class for JavaFX and Spring Boot launchers
     exports com.jabaddon.pomodorotimer;
+
+    // Spring-free bootstrap for headless and embedded use
+    exports com.jabaddon.pomodorotimer.headless;
+    exports com.jabaddon.pomodorotimer.metrics;
 }
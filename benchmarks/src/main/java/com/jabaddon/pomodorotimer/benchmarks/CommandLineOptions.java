@@ -0,0 +1,25 @@
+package com.jabaddon.pomodorotimer.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code --name value} arguments of the command line tools in this module.
+ * A repeated option keeps its last value, so scripts can pass defaults first.
+ */
+public final class CommandLineOptions {
+
+    private CommandLineOptions() {
+    }
+
+    public static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value, got '" + args[i] + "'");
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
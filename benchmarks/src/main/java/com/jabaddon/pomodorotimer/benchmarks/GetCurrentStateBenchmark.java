@@ -0,0 +1,81 @@
+package com.jabaddon.pomodorotimer.benchmarks;
+
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
+import com.jabaddon.pomodorotimer.application.port.out.TimerTicksSchedulerPort;
+import com.jabaddon.pomodorotimer.application.service.TimerApplicationService;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.EmptyHistory;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.IgnoringUI;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.SilentNotifications;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link TimerApplicationService#getCurrentState()}, which UIs call to
+ * render and which the service runs for every state it pushes.
+ * Ports are no-ops and the scheduler never ticks, so only the service and domain are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GetCurrentStateBenchmark {
+
+    @Param({"idle", "running", "paused"})
+    public String timerState;
+
+    private TimerApplicationService service;
+
+    @Setup
+    public void setUp() {
+        service = new TimerApplicationService(new IdleScheduler(), new SilentNotifications(),
+                new EmptyHistory(), new IgnoringUI());
+        if (!timerState.equals("idle")) {
+            service.startNormalTimer();
+        }
+        if (timerState.equals("paused")) {
+            service.pause();
+        }
+    }
+
+    @Benchmark
+    public GetTimerStateQuery.TimerCurrentStateDTO getCurrentState() {
+        return service.getCurrentState();
+    }
+
+    static class IdleScheduler implements TimerTicksSchedulerPort {
+        @Override
+        public void startTicking(Runnable onTick) {
+        }
+
+        @Override
+        public void stopTicking() {
+        }
+
+        @Override
+        public void resumeTicking() {
+        }
+
+        @Override
+        public void pauseTicking() {
+        }
+
+        @Override
+        public TickStatisticsDTO getTickStatistics() {
+            return TickStatisticsDTO.empty();
+        }
+    }
+}
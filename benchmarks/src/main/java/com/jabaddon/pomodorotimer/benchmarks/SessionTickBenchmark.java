@@ -0,0 +1,47 @@
+package com.jabaddon.pomodorotimer.benchmarks;
+
+import com.jabaddon.pomodorotimer.domain.model.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link Session#tick()} on a running timer, the work done once per second.
+ * The session is long enough that restarting it after completion is amortized away.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SessionTickBenchmark {
+    private static final int SESSION_MINUTES = 1_000_000;
+
+    private Session session;
+
+    @Setup
+    public void setUp() {
+        session = new Session();
+        session.startCustomSession(SESSION_MINUTES);
+    }
+
+    @Benchmark
+    public boolean tick() {
+        boolean completed = session.tick();
+        if (completed) {
+            session.handleTimerCompletion();
+            session.startCustomSession(SESSION_MINUTES);
+        }
+        return completed;
+    }
+}
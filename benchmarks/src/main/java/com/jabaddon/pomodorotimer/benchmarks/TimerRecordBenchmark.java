@@ -0,0 +1,83 @@
+package com.jabaddon.pomodorotimer.benchmarks;
+
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+import com.jabaddon.pomodorotimer.application.mapper.DomainToDtoMapper;
+import com.jabaddon.pomodorotimer.domain.model.FinishReason;
+import com.jabaddon.pomodorotimer.domain.model.PauseRecord;
+import com.jabaddon.pomodorotimer.domain.model.Session;
+import com.jabaddon.pomodorotimer.domain.model.SessionType;
+import com.jabaddon.pomodorotimer.domain.model.TimerRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a history record when a session ends and of mapping records
+ * between domain and DTO, which every history save and load does per record.
+ * Both scale with the number of pauses in the session.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimerRecordBenchmark {
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Param({"0", "4", "32"})
+    public int pauseCount;
+
+    private Session session;
+    private LocalDateTime finishedAt;
+    private TimerRecord record;
+    private TimerRecordDTO recordDto;
+
+    @Setup
+    public void setUp() {
+        session = new Session();
+        session.startSession();
+        for (int i = 0; i < pauseCount; i++) {
+            session.pauseTimer();
+            session.resumeTimer();
+        }
+        finishedAt = LocalDateTime.now().plusMinutes(25);
+
+        List<PauseRecord> pauses = new ArrayList<>(pauseCount);
+        for (int i = 0; i < pauseCount; i++) {
+            LocalDateTime pausedAt = STARTED_AT.plusSeconds(30L * i);
+            pauses.add(new PauseRecord(pausedAt, pausedAt.plusSeconds(10)));
+        }
+        record = new TimerRecord(STARTED_AT, STARTED_AT.plusMinutes(25), FinishReason.COMPLETED,
+                SessionType.WORK, 25, "", pauses);
+        recordDto = DomainToDtoMapper.toDto(record);
+    }
+
+    @Benchmark
+    public TimerRecord createTimerRecord() {
+        return session.createTimerRecord(finishedAt);
+    }
+
+    @Benchmark
+    public TimerRecordDTO toDto() {
+        return DomainToDtoMapper.toDto(record);
+    }
+
+    @Benchmark
+    public TimerRecord toDomain() {
+        return DomainToDtoMapper.toDomain(recordDto);
+    }
+}
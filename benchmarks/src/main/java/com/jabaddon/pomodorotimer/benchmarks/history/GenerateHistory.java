@@ -0,0 +1,98 @@
+package com.jabaddon.pomodorotimer.benchmarks.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jabaddon.pomodorotimer.adapter.out.timerpersistence.file.PersistenceConfiguration;
+import com.jabaddon.pomodorotimer.benchmarks.CommandLineOptions;
+import com.jabaddon.pomodorotimer.benchmarks.persistence.PersistenceBackend;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line generator for synthetic timer histories.
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.jabaddon.pomodorotimer.benchmarks.history.GenerateHistory \
+ *     --records 1000000 | --from 2015-01-01 [--to 2024-12-31]
+ *     [--format json|jsonl|port] [--output path] [--backend file] [--order newest|oldest]
+ *     [--seed 42] [--parallelism N] [--days-per-batch 32]
+ * </pre>
+ *
+ * {@code json} writes a history file the file adapter reads as is (newest first),
+ * {@code jsonl} one record per line (oldest first), and {@code port} saves every
+ * record through the {@code TimerPersistencePort} of a benchmark backend opened
+ * on the output directory. The same seed and dates give the same records in
+ * every format and at every parallelism.
+ */
+public final class GenerateHistory {
+
+    private GenerateHistory() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = CommandLineOptions.parse(args);
+        if (!options.containsKey("records") && !options.containsKey("from")) {
+            throw new IllegalArgumentException("Give --records, --from or both");
+        }
+        String format = options.getOrDefault("format", "json");
+        LocalDate lastDay = LocalDate.parse(options.getOrDefault("to", LocalDate.now().toString()));
+        // Without --from the history reaches back as far as the record count needs
+        LocalDate firstDay = options.containsKey("from")
+                ? LocalDate.parse(options.get("from"))
+                : LocalDate.MIN;
+        long limit = Long.parseLong(options.getOrDefault("records", String.valueOf(Long.MAX_VALUE)));
+        HistoryGenerator.Order order = HistoryGenerator.Order.valueOf(
+                options.getOrDefault("order", format.equals("jsonl") ? "oldest" : "newest")
+                        .toUpperCase(Locale.ROOT) + "_FIRST");
+        if (order == HistoryGenerator.Order.OLDEST_FIRST && !options.containsKey("from")) {
+            throw new IllegalArgumentException("--order oldest needs --from");
+        }
+
+        HistoryGenerator generator = new HistoryGenerator(
+                new SyntheticHistory(Long.parseLong(options.getOrDefault("seed", "42"))),
+                Integer.parseInt(options.getOrDefault("parallelism",
+                        String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                Integer.parseInt(options.getOrDefault("days-per-batch", "32")));
+
+        Path output = Path.of(options.getOrDefault("output", defaultOutput(format)));
+        long start = System.nanoTime();
+        long records;
+        try (HistorySink sink = openSink(format, output, options)) {
+            records = generator.generate(firstDay, lastDay, order, limit, sink);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf("Generated %d records into %s in %.2f s (%.0f records/s)%n",
+                records, output, seconds, records / seconds);
+    }
+
+    private static HistorySink openSink(String format, Path output, Map<String, String> options) throws IOException {
+        ObjectMapper objectMapper = new PersistenceConfiguration().objectMapper();
+        return switch (format) {
+            case "json" -> HistorySink.jsonArray(createParent(output), objectMapper);
+            case "jsonl" -> HistorySink.jsonLines(createParent(output), objectMapper);
+            case "port" -> HistorySink.port(PersistenceBackend.named(options.getOrDefault("backend", "file"))
+                    .open(Files.createDirectories(output)));
+            default -> throw new IllegalArgumentException("Unknown format '" + format + "', use json, jsonl or port");
+        };
+    }
+
+    private static String defaultOutput(String format) {
+        return switch (format) {
+            case "jsonl" -> "timer-history.jsonl";
+            case "port" -> "timer-history";
+            default -> "timer-history.json";
+        };
+    }
+
+    private static Path createParent(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,120 @@
+package com.jabaddon.pomodorotimer.benchmarks.history;
+
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streams a {@link SyntheticHistory} into a {@link HistorySink}, generating
+ * days in parallel.
+ *
+ * The date range is cut into batches of days. Worker threads generate up to
+ * two batches per thread ahead of the sink while the calling thread hands the
+ * finished batches to the sink strictly in order, so the output is identical
+ * for any parallelism and memory stays bounded by the batches in flight, not
+ * by the length of the history.
+ */
+public final class HistoryGenerator {
+    private static final int BATCHES_IN_FLIGHT_PER_THREAD = 2;
+
+    public enum Order {
+        OLDEST_FIRST, NEWEST_FIRST
+    }
+
+    private final SyntheticHistory history;
+    private final int parallelism;
+    private final int daysPerBatch;
+
+    public HistoryGenerator(SyntheticHistory history, int parallelism, int daysPerBatch) {
+        if (parallelism <= 0 || daysPerBatch <= 0) {
+            throw new IllegalArgumentException("Parallelism and days per batch must be positive");
+        }
+        this.history = history;
+        this.parallelism = parallelism;
+        this.daysPerBatch = daysPerBatch;
+    }
+
+    /**
+     * Emits the records of the days from {@code firstDay} to {@code lastDay}
+     * (inclusive), stopping early after {@code limit} records. Starting from
+     * {@code lastDay} with {@link Order#NEWEST_FIRST} and a limit yields the most
+     * recent records whatever {@code firstDay} is.
+     *
+     * @return the number of records emitted
+     */
+    public long generate(LocalDate firstDay, LocalDate lastDay, Order order, long limit, HistorySink sink)
+            throws IOException {
+        boolean newestFirst = order == Order.NEWEST_FIRST;
+        long step = newestFirst ? -1 : 1;
+        long endEpochDay = newestFirst ? firstDay.toEpochDay() : lastDay.toEpochDay();
+        long nextEpochDay = newestFirst ? lastDay.toEpochDay() : firstDay.toEpochDay();
+
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "history-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ArrayDeque<Future<List<TimerRecordDTO>>> inFlight = new ArrayDeque<>();
+        long emitted = 0;
+        try {
+            while (emitted < limit) {
+                while (inFlight.size() < parallelism * BATCHES_IN_FLIGHT_PER_THREAD
+                        && (endEpochDay - nextEpochDay) * step >= 0) {
+                    long batchStart = nextEpochDay;
+                    long batchEnd = newestFirst
+                            ? Math.max(endEpochDay, batchStart - daysPerBatch + 1)
+                            : Math.min(endEpochDay, batchStart + daysPerBatch - 1);
+                    inFlight.add(workers.submit(() -> batch(batchStart, batchEnd, newestFirst)));
+                    nextEpochDay = batchEnd + step;
+                }
+                Future<List<TimerRecordDTO>> next = inFlight.poll();
+                if (next == null) {
+                    break;
+                }
+                for (TimerRecordDTO record : await(next)) {
+                    if (emitted == limit) {
+                        break;
+                    }
+                    sink.accept(record);
+                    emitted++;
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return emitted;
+    }
+
+    private List<TimerRecordDTO> batch(long fromEpochDay, long toEpochDay, boolean newestFirst) {
+        List<TimerRecordDTO> records = new ArrayList<>();
+        long step = newestFirst ? -1 : 1;
+        for (long epochDay = fromEpochDay; (toEpochDay - epochDay) * step >= 0; epochDay += step) {
+            List<TimerRecordDTO> day = history.day(LocalDate.ofEpochDay(epochDay));
+            if (newestFirst) {
+                Collections.reverse(day);
+            }
+            records.addAll(day);
+        }
+        return records;
+    }
+
+    private static List<TimerRecordDTO> await(Future<List<TimerRecordDTO>> batch) throws IOException {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating history", e);
+        } catch (ExecutionException e) {
+            throw new IOException("History generation failed", e.getCause());
+        }
+    }
+}
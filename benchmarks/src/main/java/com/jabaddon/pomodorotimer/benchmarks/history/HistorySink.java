@@ -0,0 +1,76 @@
+package com.jabaddon.pomodorotimer.benchmarks.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+import com.jabaddon.pomodorotimer.application.port.out.TimerPersistencePort;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Where generated records go. Records arrive one at a time from a single
+ * thread, in the order the generator emits them.
+ */
+public interface HistorySink extends Closeable {
+
+    void accept(TimerRecordDTO record) throws IOException;
+
+    /**
+     * A JSON array streamed to a file, in the layout of the file adapter's history
+     * file when the records arrive newest first and the adapter's object mapper is used.
+     */
+    static HistorySink jsonArray(Path file, ObjectMapper objectMapper) throws IOException {
+        SequenceWriter writer = objectMapper.writer().writeValuesAsArray(file.toFile());
+        return new HistorySink() {
+            @Override
+            public void accept(TimerRecordDTO record) throws IOException {
+                writer.write(record);
+            }
+
+            @Override
+            public void close() throws IOException {
+                writer.close();
+            }
+        };
+    }
+
+    /**
+     * One compact JSON record per line.
+     */
+    static HistorySink jsonLines(Path file, ObjectMapper objectMapper) throws IOException {
+        SequenceWriter writer = objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .withRootValueSeparator("\n")
+                .writeValues(file.toFile());
+        return new HistorySink() {
+            @Override
+            public void accept(TimerRecordDTO record) throws IOException {
+                writer.write(record);
+            }
+
+            @Override
+            public void close() throws IOException {
+                writer.close();
+            }
+        };
+    }
+
+    /**
+     * Saves every record through the port, exactly as the application would.
+     */
+    static HistorySink port(TimerPersistencePort port) {
+        return new HistorySink() {
+            @Override
+            public void accept(TimerRecordDTO record) {
+                port.saveRecord(record);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package com.jabaddon.pomodorotimer.benchmarks.history;
+
+import com.jabaddon.pomodorotimer.application.dto.FinishReasonDTO;
+import com.jabaddon.pomodorotimer.application.dto.PauseRecordDTO;
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeEnumDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic timer history for benchmarks and load tests.
+ *
+ * Every day is generated from its own random stream, derived from the seed and
+ * the date only, so a day always comes out the same no matter which range it
+ * is generated in or in which order days are generated. A working day holds a
+ * few to a dozen work sessions with short and long breaks in between; about one
+ * work session in ten and one break in five is stopped early. Pauses are
+ * log-normally distributed around a minute with a long tail. Weekends are
+ * quieter and about one week in twenty-five is a week off. All sessions of a
+ * day start and finish on that day.
+ */
+public final class SyntheticHistory {
+    public static final SessionTypeDTO WORK = new SessionTypeDTO(SessionTypeEnumDTO.WORK, 25, "Work Session");
+    public static final SessionTypeDTO SHORT_BREAK = new SessionTypeDTO(SessionTypeEnumDTO.SHORT_BREAK, 5, "Short Break");
+    public static final SessionTypeDTO LONG_BREAK = new SessionTypeDTO(SessionTypeEnumDTO.LONG_BREAK, 15, "Long Break");
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final LocalTime LAST_START = LocalTime.of(22, 0);
+    private static final int POMODOROS_PER_CYCLE = 4;
+    private static final int MAX_PAUSES = 6;
+    private static final double MEDIAN_PAUSE_SECONDS = 60;
+    private static final long MAX_PAUSE_SECONDS = 1_800;
+    private static final double WEEK_OFF_PROBABILITY = 0.04;
+    private static final String[] DESCRIPTIONS = {"", "", "", "Code review", "Writing", "Email", "Planning"};
+
+    private final long seed;
+
+    public SyntheticHistory(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * All records of one day, oldest first.
+     */
+    public List<TimerRecordDTO> day(LocalDate date) {
+        SplittableRandom random = new SplittableRandom(seed ^ (date.toEpochDay() * GOLDEN_GAMMA));
+        boolean weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+        int workSessions = weekend || isWeekOff(date) ? random.nextInt(0, 5) : random.nextInt(4, 15);
+
+        List<TimerRecordDTO> records = new ArrayList<>(workSessions * 2);
+        LocalDateTime cursor = date.atTime(8, 0).plusMinutes(random.nextInt(0, 120));
+        int completed = 0;
+        for (int i = 0; i < workSessions && cursor.toLocalTime().isBefore(LAST_START); i++) {
+            TimerRecordDTO work = session(random, cursor, WORK, 0.1);
+            records.add(work);
+            cursor = work.getFinishedAt().plusMinutes(random.nextInt(0, 3));
+            if (work.getReason() == FinishReasonDTO.COMPLETED) {
+                completed++;
+            }
+            if (random.nextDouble() < 0.85 && cursor.toLocalTime().isBefore(LAST_START)) {
+                SessionTypeDTO breakType = completed > 0 && completed % POMODOROS_PER_CYCLE == 0
+                        ? LONG_BREAK : SHORT_BREAK;
+                TimerRecordDTO rest = session(random, cursor, breakType, 0.2);
+                records.add(rest);
+                cursor = rest.getFinishedAt();
+            }
+            cursor = cursor.plusMinutes(random.nextInt(0, 11));
+        }
+        return records;
+    }
+
+    /**
+     * The {@code count} most recent records up to and including {@code lastDay},
+     * newest first (the order the file adapter stores them in).
+     */
+    public List<TimerRecordDTO> generate(int count, LocalDate lastDay) {
+        List<TimerRecordDTO> records = new ArrayList<>(count);
+        for (LocalDate date = lastDay; records.size() < count; date = date.minusDays(1)) {
+            List<TimerRecordDTO> day = day(date);
+            for (int i = day.size() - 1; i >= 0 && records.size() < count; i--) {
+                records.add(day.get(i));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Whole weeks off, decided per week so that all days of the week agree.
+     */
+    private boolean isWeekOff(LocalDate date) {
+        long mondayEpochDay = date.minusDays(date.getDayOfWeek().getValue() - 1L).toEpochDay();
+        return new SplittableRandom(seed ^ ~(mondayEpochDay * GOLDEN_GAMMA)).nextDouble() < WEEK_OFF_PROBABILITY;
+    }
+
+    private static TimerRecordDTO session(SplittableRandom random, LocalDateTime startedAt,
+                                          SessionTypeDTO type, double stopProbability) {
+        int minutes = type.defaultMinutes();
+        boolean stopped = random.nextDouble() < stopProbability;
+        long runSeconds = stopped ? random.nextLong(30, minutes * 60L) : minutes * 60L;
+
+        List<PauseRecordDTO> pauses = new ArrayList<>();
+        LocalDateTime cursor = startedAt;
+        long remaining = runSeconds;
+        while (pauses.size() < MAX_PAUSES && remaining > 60 && random.nextDouble() < 0.3) {
+            long runBefore = random.nextLong(30, remaining);
+            LocalDateTime pausedAt = cursor.plusSeconds(runBefore);
+            long pauseSeconds = Math.round(MEDIAN_PAUSE_SECONDS * Math.exp(random.nextGaussian()));
+            LocalDateTime unpausedAt = pausedAt.plusSeconds(Math.clamp(pauseSeconds, 5, MAX_PAUSE_SECONDS));
+            if (unpausedAt.plusSeconds(remaining - runBefore).toLocalDate().isAfter(startedAt.toLocalDate())) {
+                break;
+            }
+            pauses.add(new PauseRecordDTO(pausedAt, unpausedAt));
+            cursor = unpausedAt;
+            remaining -= runBefore;
+        }
+        LocalDateTime finishedAt = cursor.plusSeconds(remaining);
+
+        String description = type == WORK ? DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)] : "";
+        return new TimerRecordDTO(startedAt, finishedAt,
+                stopped ? FinishReasonDTO.STOPPED : FinishReasonDTO.COMPLETED,
+                type, minutes, description, pauses);
+    }
+}
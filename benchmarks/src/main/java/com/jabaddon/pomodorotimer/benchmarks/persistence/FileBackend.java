@@ -0,0 +1,66 @@
+package com.jabaddon.pomodorotimer.benchmarks.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jabaddon.pomodorotimer.adapter.out.timerpersistence.file.FileTimerPersistenceAdapter;
+import com.jabaddon.pomodorotimer.adapter.out.timerpersistence.file.PersistenceConfiguration;
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceRing;
+import com.jabaddon.pomodorotimer.application.dto.DailyStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+import com.jabaddon.pomodorotimer.application.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@link FileTimerPersistenceAdapter}: the whole history in one JSON file.
+ */
+public class FileBackend implements PersistenceBackend {
+    private static final String HISTORY_FILE = "timer-history.json";
+
+    private final ObjectMapper objectMapper = new PersistenceConfiguration().objectMapper();
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void seed(Path directory, List<TimerRecordDTO> newestFirst) throws IOException {
+        objectMapper.writeValue(directory.resolve(HISTORY_FILE).toFile(), newestFirst);
+    }
+
+    @Override
+    public HistoryStore open(Path directory) {
+        PersistenceConfiguration configuration = new PersistenceConfiguration(directory.toString(), HISTORY_FILE) {
+            @Override
+            public Path getDataDirectoryPath() {
+                return directory;
+            }
+        };
+        FileTimerPersistenceAdapter adapter = new FileTimerPersistenceAdapter(configuration, objectMapper,
+                new MetricsRegistry(), new TraceRing(TraceRing.DEFAULT_CAPACITY));
+        return new HistoryStore() {
+            @Override
+            public DailyStatisticsDTO loadTodayStatistics(LocalDate today) {
+                return adapter.loadTodayStatistics(today);
+            }
+
+            @Override
+            public void saveRecord(TimerRecordDTO recordDto) {
+                adapter.saveRecord(recordDto);
+            }
+
+            @Override
+            public List<TimerRecordDTO> loadRecordsByDate(LocalDate date) {
+                return adapter.loadRecordsByDate(date);
+            }
+
+            @Override
+            public List<TimerRecordDTO> loadRecordsByDateRange(LocalDate startDate, LocalDate endDate) {
+                return adapter.loadRecordsByDateRange(startDate, endDate);
+            }
+        };
+    }
+}
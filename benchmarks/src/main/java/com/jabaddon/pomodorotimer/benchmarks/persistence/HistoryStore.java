@@ -0,0 +1,18 @@
+package com.jabaddon.pomodorotimer.benchmarks.persistence;
+
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+import com.jabaddon.pomodorotimer.application.port.out.TimerPersistencePort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The persistence port plus the history queries the benchmark measures.
+ * The queries are not part of {@link TimerPersistencePort}; backends that
+ * have no native equivalent can filter the full history.
+ */
+public interface HistoryStore extends TimerPersistencePort {
+    List<TimerRecordDTO> loadRecordsByDate(LocalDate date);
+
+    List<TimerRecordDTO> loadRecordsByDateRange(LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,39 @@
+package com.jabaddon.pomodorotimer.benchmarks.persistence;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Bytes the process has passed through read and write system calls, from
+ * {@code /proc/self/io} ({@code rchar} / {@code wchar}). Page cache hits count
+ * too, which is what a benchmark on a warm file system wants. Only Linux has
+ * the file; elsewhere {@link #take()} returns null and the bytes are reported as -1.
+ */
+record IoCounters(long bytesRead, long bytesWritten) {
+    private static final Path PROC_SELF_IO = Path.of("/proc/self/io");
+
+    static IoCounters take() {
+        if (!Files.isReadable(PROC_SELF_IO)) {
+            return null;
+        }
+        try {
+            long read = -1;
+            long written = -1;
+            for (String line : Files.readAllLines(PROC_SELF_IO)) {
+                if (line.startsWith("rchar:")) {
+                    read = Long.parseLong(line.substring(6).trim());
+                } else if (line.startsWith("wchar:")) {
+                    written = Long.parseLong(line.substring(6).trim());
+                }
+            }
+            return read < 0 || written < 0 ? null : new IoCounters(read, written);
+        } catch (IOException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    IoCounters since(IoCounters start) {
+        return new IoCounters(bytesRead - start.bytesRead, bytesWritten - start.bytesWritten);
+    }
+}
@@ -0,0 +1,47 @@
+package com.jabaddon.pomodorotimer.benchmarks.persistence;
+
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * A {@link com.jabaddon.pomodorotimer.application.port.out.TimerPersistencePort}
+ * implementation under benchmark. Backends are found with {@link java.util.ServiceLoader},
+ * so an alternate implementation is compared by adding a backend and listing it in
+ * {@code META-INF/services/com.jabaddon.pomodorotimer.benchmarks.persistence.PersistenceBackend}.
+ */
+public interface PersistenceBackend {
+    /**
+     * Name used on the command line and in the results.
+     */
+    String name();
+
+    /**
+     * Writes an existing history into an empty directory, in the backend's own
+     * format and without going through {@code saveRecord} once per record.
+     */
+    void seed(Path directory, List<TimerRecordDTO> newestFirst) throws IOException;
+
+    /**
+     * Opens the history stored in the directory.
+     */
+    HistoryStore open(Path directory);
+
+    /**
+     * The backend registered under the given name.
+     */
+    static PersistenceBackend named(String name) {
+        List<String> available = new ArrayList<>();
+        for (PersistenceBackend backend : ServiceLoader.load(PersistenceBackend.class)) {
+            if (backend.name().equals(name)) {
+                return backend;
+            }
+            available.add(backend.name());
+        }
+        throw new IllegalArgumentException("Unknown backend '" + name + "', available: " + available);
+    }
+}
@@ -0,0 +1,259 @@
+package com.jabaddon.pomodorotimer.benchmarks.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jabaddon.pomodorotimer.application.dto.FinishReasonDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+import com.jabaddon.pomodorotimer.application.metrics.LatencyHistogram;
+import com.jabaddon.pomodorotimer.benchmarks.CommandLineOptions;
+import com.jabaddon.pomodorotimer.benchmarks.history.SyntheticHistory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures how the persistence operations scale with the size of the history.
+ *
+ * For every backend, history size and operation a fresh directory is seeded
+ * with a {@link SyntheticHistory} and the operation is run a number of times.
+ * Each run is timed on its own; the results hold latency percentiles, the
+ * bytes read and written per operation and the peak heap while the operation
+ * ran, and are written as JSON so that runs can be diffed.
+ *
+ * Not a JMH benchmark: a single operation on a large history takes seconds and
+ * its I/O and heap footprint matter as much as its time.
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.jabaddon.pomodorotimer.benchmarks.persistence.PersistenceBenchmark \
+ *     [--backends file] [--sizes 1000,100000,1000000] [--operations saveRecord,...]
+ *     [--iterations 10] [--warmup 2] [--time-budget 60] [--seed 42] [--last-day 2024-06-28]
+ *     [--output results.json]
+ * </pre>
+ */
+public final class PersistenceBenchmark {
+    private static final String DEFAULT_SIZES = "1000,100000,1000000";
+    private static final int MIN_ITERATIONS = 3;
+    private static final int RANGE_DAYS = 30;
+
+    enum Operation {
+        SAVE_RECORD("saveRecord"),
+        LOAD_TODAY_STATISTICS("loadTodayStatistics"),
+        LOAD_RECORDS_BY_DATE("loadRecordsByDate"),
+        LOAD_RECORDS_BY_DATE_RANGE("loadRecordsByDateRange");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        static Operation of(String label) {
+            return Arrays.stream(values())
+                    .filter(operation -> operation.label.equals(label))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + label + "'"));
+        }
+    }
+
+    record Result(
+            String backend,
+            int records,
+            String operation,
+            int iterations,
+            double meanMicros,
+            long p50Micros,
+            long p90Micros,
+            long p99Micros,
+            long maxMicros,
+            long bytesReadPerOperation,
+            long bytesWrittenPerOperation,
+            long peakHeapBytes,
+            long storageBytes) {
+    }
+
+    record Report(
+            String createdAt,
+            long seed,
+            String lastDay,
+            String javaVersion,
+            String vm,
+            int availableProcessors,
+            long maxHeapBytes,
+            List<Result> results) {
+    }
+
+    private final Map<String, String> options;
+    private final SyntheticHistory history;
+    private final LocalDate lastDay;
+    private final int iterations;
+    private final int warmup;
+    private final long timeBudgetNanos;
+
+    private PersistenceBenchmark(Map<String, String> options) {
+        this.options = options;
+        this.history = new SyntheticHistory(Long.parseLong(options.getOrDefault("seed", "42")));
+        // loadTodayStatistics is asked for the last day, which is today unless told otherwise
+        this.lastDay = LocalDate.parse(options.getOrDefault("last-day", LocalDate.now().toString()));
+        this.iterations = Integer.parseInt(options.getOrDefault("iterations", "10"));
+        this.warmup = Integer.parseInt(options.getOrDefault("warmup", "2"));
+        this.timeBudgetNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("time-budget", "60")));
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = CommandLineOptions.parse(args);
+        PersistenceBenchmark benchmark = new PersistenceBenchmark(options);
+        Report report = benchmark.run(Arrays.stream(options.getOrDefault("backends", "file").split(","))
+                .map(String::trim)
+                .map(PersistenceBackend::named)
+                .toList());
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        String output = options.get("output");
+        if (output == null) {
+            System.out.println(objectMapper.writeValueAsString(report));
+        } else {
+            Path outputPath = Path.of(output);
+            if (outputPath.getParent() != null) {
+                Files.createDirectories(outputPath.getParent());
+            }
+            objectMapper.writeValue(outputPath.toFile(), report);
+            System.err.println("Results written to " + outputPath);
+        }
+    }
+
+    private Report run(List<PersistenceBackend> backends) throws IOException {
+        List<Operation> operations = options.containsKey("operations")
+                ? Arrays.stream(options.get("operations").split(",")).map(String::trim).map(Operation::of).toList()
+                : List.of(Operation.values());
+        int[] sizes = Arrays.stream(options.getOrDefault("sizes", DEFAULT_SIZES).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        List<Result> results = new ArrayList<>();
+        for (PersistenceBackend backend : backends) {
+            for (int size : sizes) {
+                for (Operation operation : operations) {
+                    Result result = measure(backend, size, operation);
+                    System.err.printf("%-8s %9d %-24s p50=%dus p99=%dus read/op=%d written/op=%d heap=%dMB%n",
+                            result.backend(), result.records(), result.operation(), result.p50Micros(),
+                            result.p99Micros(), result.bytesReadPerOperation(),
+                            result.bytesWrittenPerOperation(), result.peakHeapBytes() >> 20);
+                    results.add(result);
+                }
+            }
+        }
+        return new Report(Instant.now().toString(), history.getSeed(), lastDay.toString(),
+                System.getProperty("java.version"), System.getProperty("java.vm.name"),
+                Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().maxMemory(), results);
+    }
+
+    private Result measure(PersistenceBackend backend, int size, Operation operation) throws IOException {
+        Path directory = Files.createTempDirectory("pomodoro-persistence-" + backend.name());
+        try {
+            backend.seed(directory, history.generate(size, lastDay));
+            HistoryStore store = backend.open(directory);
+            for (int i = 0; i < warmup; i++) {
+                execute(store, operation, i);
+            }
+
+            LatencyHistogram latencyMicros = new LatencyHistogram();
+            System.gc();
+            resetHeapPeaks();
+            IoCounters ioBefore = IoCounters.take();
+            long measureStart = System.nanoTime();
+            int executed = 0;
+            while (executed < iterations
+                    && (executed < MIN_ITERATIONS || System.nanoTime() - measureStart < timeBudgetNanos)) {
+                long start = System.nanoTime();
+                execute(store, operation, warmup + executed);
+                latencyMicros.record((System.nanoTime() - start) / 1_000);
+                executed++;
+            }
+            IoCounters ioAfter = IoCounters.take();
+            IoCounters io = ioBefore == null || ioAfter == null ? null : ioAfter.since(ioBefore);
+            long peakHeap = heapPeakBytes();
+
+            return new Result(backend.name(), size, operation.label, executed,
+                    latencyMicros.getMean(),
+                    latencyMicros.getValueAtPercentile(50),
+                    latencyMicros.getValueAtPercentile(90),
+                    latencyMicros.getValueAtPercentile(99),
+                    latencyMicros.getMax(),
+                    io == null ? -1 : io.bytesRead() / executed,
+                    io == null ? -1 : io.bytesWritten() / executed,
+                    peakHeap,
+                    directorySize(directory));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private void execute(HistoryStore store, Operation operation, int iteration) {
+        switch (operation) {
+            case SAVE_RECORD -> store.saveRecord(newRecord(iteration));
+            case LOAD_TODAY_STATISTICS -> store.loadTodayStatistics(lastDay);
+            case LOAD_RECORDS_BY_DATE -> store.loadRecordsByDate(lastDay.minusDays(1));
+            case LOAD_RECORDS_BY_DATE_RANGE -> store.loadRecordsByDateRange(lastDay.minusDays(RANGE_DAYS - 1), lastDay);
+        }
+    }
+
+    /**
+     * Records saved by the saveRecord runs: late on the last day, one minute apart.
+     */
+    private TimerRecordDTO newRecord(int iteration) {
+        LocalDateTime startedAt = lastDay.atTime(23, 0).plusMinutes(iteration % 60);
+        return new TimerRecordDTO(startedAt, startedAt.plusSeconds(30), FinishReasonDTO.STOPPED,
+                SyntheticHistory.WORK, SyntheticHistory.WORK.defaultMinutes(), "", new ArrayList<>());
+    }
+
+    private static void resetHeapPeaks() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Sum of the peak usage of the heap pools. The pools do not peak at the same
+     * moment, so this is an upper bound of the heap in use at any one time.
+     */
+    private static long heapPeakBytes() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static long directorySize(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.jabaddon.pomodorotimer.benchmarks.soak;
+
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.port.out.TimeSource;
+import com.jabaddon.pomodorotimer.application.port.out.TimerTicksSchedulerPort;
+import com.jabaddon.pomodorotimer.application.simulation.VirtualTicksScheduler;
+
+/**
+ * Virtual ticks with a real scheduler alongside.
+ *
+ * The service runs on the {@link VirtualTicksScheduler}, so weeks pass in
+ * seconds. Every start, pause, resume and stop is repeated on the real
+ * scheduler with a callback that does nothing: its ticks are discarded, but
+ * its executors, threads and queued tasks live through the same commands as
+ * in the application, and a leak there shows in the soak's thread and file
+ * descriptor counts.
+ */
+class MirroringTicksScheduler implements TimerTicksSchedulerPort {
+    private static final Runnable DISCARD = () -> {
+    };
+
+    private final VirtualTicksScheduler virtual;
+    private final TimerTicksSchedulerPort mirror;
+
+    MirroringTicksScheduler(VirtualTicksScheduler virtual, TimerTicksSchedulerPort mirror) {
+        this.virtual = virtual;
+        this.mirror = mirror;
+    }
+
+    @Override
+    public void startTicking(Runnable onTick) {
+        virtual.startTicking(onTick);
+        mirror.startTicking(DISCARD);
+    }
+
+    @Override
+    public void stopTicking() {
+        virtual.stopTicking();
+        mirror.stopTicking();
+    }
+
+    @Override
+    public void resumeTicking() {
+        virtual.resumeTicking();
+        mirror.resumeTicking();
+    }
+
+    @Override
+    public void pauseTicking() {
+        virtual.pauseTicking();
+        mirror.pauseTicking();
+    }
+
+    @Override
+    public TickStatisticsDTO getTickStatistics() {
+        return virtual.getTickStatistics();
+    }
+
+    @Override
+    public TimeSource getTimeSource() {
+        return virtual.getTimeSource();
+    }
+}
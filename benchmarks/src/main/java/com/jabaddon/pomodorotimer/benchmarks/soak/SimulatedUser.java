@@ -0,0 +1,104 @@
+package com.jabaddon.pomodorotimer.benchmarks.soak;
+
+import com.jabaddon.pomodorotimer.application.service.TimerApplicationService;
+import com.jabaddon.pomodorotimer.application.simulation.VirtualTicksScheduler;
+import com.jabaddon.pomodorotimer.application.simulation.VirtualTimeSource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Random;
+
+/**
+ * Someone using the timer through a working day, on virtual time.
+ *
+ * From the start of the day until its end, sessions are started one after
+ * the other. Some are paused for a while and resumed, some are stopped or
+ * reset part way, the rest run until they complete; there is a short gap
+ * before the next one. The same seed always plays the same days.
+ */
+class SimulatedUser {
+    static final LocalTime DAY_START = LocalTime.of(9, 0);
+    static final LocalTime DAY_END = LocalTime.of(17, 0);
+    private static final double PAUSE_PROBABILITY = 0.3;
+    private static final double STOP_PROBABILITY = 0.1;
+    private static final double RESET_PROBABILITY = 0.05;
+    private static final int MAX_PAUSE_MINUTES = 15;
+    private static final int MAX_GAP_MINUTES = 5;
+    // Longer than any session, so a session that does not complete is a bug, not a slow day
+    private static final Duration SESSION_LIMIT = Duration.ofHours(2);
+
+    private final Random random;
+    private long started;
+    private long paused;
+    private long stopped;
+    private long reset;
+    private long completed;
+
+    SimulatedUser(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Plays the rest of the current day and leaves the time at the start of the next one.
+     */
+    void playDay(TimerApplicationService service, VirtualTicksScheduler scheduler) {
+        VirtualTimeSource time = scheduler.getTimeSource();
+        LocalDateTime end = time.now().toLocalDate().atTime(DAY_END);
+        while (time.now().isBefore(end)) {
+            service.startNormalTimer();
+            started++;
+            int minutes = service.getCurrentState().getDurationSeconds() / 60;
+            if (random.nextDouble() < PAUSE_PROBABILITY) {
+                scheduler.advance(someMinutesOf(minutes));
+                service.pause();
+                paused++;
+                scheduler.advance(Duration.ofMinutes(1 + random.nextInt(MAX_PAUSE_MINUTES)));
+                service.resume();
+            }
+            double ending = random.nextDouble();
+            if (ending < STOP_PROBABILITY) {
+                scheduler.advance(someMinutesOf(minutes));
+                service.stop();
+                stopped++;
+            } else if (ending < STOP_PROBABILITY + RESET_PROBABILITY) {
+                scheduler.advance(someMinutesOf(minutes));
+                service.reset();
+                reset++;
+            } else if (scheduler.advanceWhileTicking(SESSION_LIMIT)) {
+                completed++;
+            } else {
+                throw new IllegalStateException("Session did not complete within " + SESSION_LIMIT
+                        + " at " + time.now());
+            }
+            scheduler.advance(Duration.ofMinutes(random.nextInt(MAX_GAP_MINUTES + 1)));
+        }
+        LocalDateTime nextDay = time.now().toLocalDate().plusDays(1).atTime(DAY_START);
+        scheduler.advance(Duration.between(time.now(), nextDay));
+    }
+
+    long getStarted() {
+        return started;
+    }
+
+    long getPaused() {
+        return paused;
+    }
+
+    long getStopped() {
+        return stopped;
+    }
+
+    long getReset() {
+        return reset;
+    }
+
+    long getCompleted() {
+        return completed;
+    }
+
+    // Part of a session, at least a minute and short of its end
+    private Duration someMinutesOf(int minutes) {
+        return Duration.ofMinutes(1 + random.nextInt(Math.max(1, minutes / 2)));
+    }
+}
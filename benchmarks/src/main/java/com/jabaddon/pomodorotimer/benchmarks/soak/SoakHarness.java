@@ -0,0 +1,308 @@
+package com.jabaddon.pomodorotimer.benchmarks.soak;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jabaddon.pomodorotimer.adapter.out.timerticksscheduler.java.JavaTimerTicksSchedulerAdapter;
+import com.jabaddon.pomodorotimer.application.diagnostics.StallWatchdog;
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceRing;
+import com.jabaddon.pomodorotimer.application.dto.DailyStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+import com.jabaddon.pomodorotimer.application.metrics.LatencyHistogram;
+import com.jabaddon.pomodorotimer.application.metrics.MetricsRegistry;
+import com.jabaddon.pomodorotimer.application.port.out.TimerPersistencePort;
+import com.jabaddon.pomodorotimer.application.service.TimerApplicationService;
+import com.jabaddon.pomodorotimer.application.simulation.VirtualTicksScheduler;
+import com.jabaddon.pomodorotimer.application.simulation.VirtualTimeSource;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.LastStateUI;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.SilentNotifications;
+import com.jabaddon.pomodorotimer.benchmarks.CommandLineOptions;
+import com.jabaddon.pomodorotimer.benchmarks.history.SyntheticHistory;
+import com.jabaddon.pomodorotimer.benchmarks.persistence.HistoryStore;
+import com.jabaddon.pomodorotimer.benchmarks.persistence.PersistenceBackend;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Runs the timer through weeks of simulated use and fails when a resource
+ * keeps growing.
+ *
+ * The service runs on virtual time with a real persistence backend: a
+ * {@link SimulatedUser} starts, pauses, resumes, stops, resets and completes
+ * sessions all day, every day, and the application is restarted every few
+ * days, the old one shut down. Every scheduler command is repeated on a real
+ * {@link JavaTimerTicksSchedulerAdapter} (see {@link MirroringTicksScheduler}).
+ * After each simulated day the harness samples the heap after a full GC, the
+ * live threads, the open file descriptors and the latency of loading today's
+ * statistics from the history.
+ *
+ * The history grows with every session, so load latency is compared per
+ * thousand records; heap, threads and file descriptors are expected to stay
+ * flat. The first quarter of the samples after the warm-up days is compared
+ * with the last quarter, and growth beyond the tolerances is reported and
+ * makes the harness exit with 1.
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.jabaddon.pomodorotimer.benchmarks.soak.SoakHarness \
+ *     [--days 28] [--backend file] [--seed 42] [--start 2024-01-01] [--initial-records 0]
+ *     [--restart-every-days 7] [--warmup-days 2] [--heap-tolerance 0.25]
+ *     [--thread-slack 0] [--fd-slack 2] [--load-tolerance 1.0] [--output results.json]
+ * </pre>
+ */
+public final class SoakHarness {
+    private static final int LOAD_SAMPLES = 5;
+    private static final long HEAP_SLACK_BYTES = 1L << 20;
+    private static final int MIN_COMPARED_SAMPLES = 4;
+
+    record Sample(
+            int day,
+            String date,
+            long records,
+            long heapAfterGcBytes,
+            int liveThreads,
+            long openFileDescriptors,
+            long loadMicros,
+            long wallMillis) {
+
+        double loadMicrosPerThousandRecords() {
+            return loadMicros * 1000.0 / Math.max(1, records);
+        }
+    }
+
+    record Report(
+            String createdAt,
+            String backend,
+            long seed,
+            int days,
+            String javaVersion,
+            String vm,
+            long maxHeapBytes,
+            long sessionsStarted,
+            long sessionsPaused,
+            long sessionsStopped,
+            long sessionsReset,
+            long sessionsCompleted,
+            long ticks,
+            List<Sample> samples,
+            List<String> violations) {
+    }
+
+    /**
+     * One run of the application, from start to shutdown; a restart replaces it.
+     */
+    private static final class SimulatedApplication implements AutoCloseable {
+        private final StallWatchdog stallWatchdog;
+        private final JavaTimerTicksSchedulerAdapter realScheduler;
+        private final TimerApplicationService service;
+
+        private SimulatedApplication(VirtualTicksScheduler virtual, TimerPersistencePort persistence) {
+            this.stallWatchdog = new StallWatchdog(16, 64).start();
+            this.realScheduler = new JavaTimerTicksSchedulerAdapter(stallWatchdog);
+            this.service = new TimerApplicationService(new MirroringTicksScheduler(virtual, realScheduler),
+                    new SilentNotifications(), persistence, new LastStateUI(), Runnable::run,
+                    new MetricsRegistry(), new TraceRing(TraceRing.DEFAULT_CAPACITY));
+            service.warmUp();
+        }
+
+        @Override
+        public void close() {
+            service.shutdown();
+            realScheduler.shutdown();
+            stallWatchdog.close();
+        }
+    }
+
+    private final Map<String, String> options;
+    private final PersistenceBackend backend;
+    private final long seed;
+    private final int days;
+    private final LocalDate start;
+    private final int initialRecords;
+    private final int restartEveryDays;
+    private long records;
+
+    private SoakHarness(Map<String, String> options) {
+        this.options = options;
+        this.backend = PersistenceBackend.named(options.getOrDefault("backend", "file"));
+        this.seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        this.days = Integer.parseInt(options.getOrDefault("days", "28"));
+        this.start = LocalDate.parse(options.getOrDefault("start", "2024-01-01"));
+        this.initialRecords = Integer.parseInt(options.getOrDefault("initial-records", "0"));
+        this.restartEveryDays = Integer.parseInt(options.getOrDefault("restart-every-days", "7"));
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = CommandLineOptions.parse(args);
+        Report report = new SoakHarness(options).run();
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        String output = options.get("output");
+        if (output == null) {
+            System.out.println(objectMapper.writeValueAsString(report));
+        } else {
+            Path outputPath = Path.of(output);
+            if (outputPath.getParent() != null) {
+                Files.createDirectories(outputPath.getParent());
+            }
+            objectMapper.writeValue(outputPath.toFile(), report);
+            System.err.println("Results written to " + outputPath);
+        }
+        report.violations().forEach(System.err::println);
+        System.exit(report.violations().isEmpty() ? 0 : 1);
+    }
+
+    private Report run() throws IOException {
+        Path directory = Files.createTempDirectory("pomodoro-soak-" + backend.name());
+        try {
+            backend.seed(directory, new SyntheticHistory(seed).generate(initialRecords, start.minusDays(1)));
+            records = initialRecords;
+            HistoryStore store = backend.open(directory);
+            // Counts what the service saves, so the samples know the size of the history
+            TimerPersistencePort persistence = new TimerPersistencePort() {
+                @Override
+                public DailyStatisticsDTO loadTodayStatistics(LocalDate today) {
+                    return store.loadTodayStatistics(today);
+                }
+
+                @Override
+                public void saveRecord(TimerRecordDTO recordDto) {
+                    store.saveRecord(recordDto);
+                    records++;
+                }
+            };
+
+            VirtualTimeSource time = new VirtualTimeSource(start.atTime(SimulatedUser.DAY_START), ZoneOffset.UTC);
+            VirtualTicksScheduler scheduler = new VirtualTicksScheduler(time);
+            SimulatedUser user = new SimulatedUser(seed);
+            List<Sample> samples = new ArrayList<>();
+            long wallStart = System.nanoTime();
+            SimulatedApplication application = new SimulatedApplication(scheduler, persistence);
+            try {
+                for (int day = 1; day <= days; day++) {
+                    LocalDate date = time.now().toLocalDate();
+                    user.playDay(application.service, scheduler);
+                    if (restartEveryDays > 0 && day % restartEveryDays == 0) {
+                        application.close();
+                        application = new SimulatedApplication(scheduler, persistence);
+                    }
+                    Sample sample = sample(day, date, store, (System.nanoTime() - wallStart) / 1_000_000);
+                    System.err.printf(Locale.ROOT, "day %3d %s records=%d heap=%.1fMB threads=%d fds=%d load=%dus%n",
+                            sample.day(), sample.date(), sample.records(), sample.heapAfterGcBytes() / 1048576.0,
+                            sample.liveThreads(), sample.openFileDescriptors(), sample.loadMicros());
+                    samples.add(sample);
+                }
+            } finally {
+                application.close();
+            }
+
+            int warmupDays = Integer.parseInt(options.getOrDefault("warmup-days", "2"));
+            List<String> violations = checkGrowth(samples.stream().filter(s -> s.day() > warmupDays).toList());
+            return new Report(Instant.now().toString(), backend.name(), seed, days,
+                    System.getProperty("java.version"), System.getProperty("java.vm.name"),
+                    Runtime.getRuntime().maxMemory(), user.getStarted(), user.getPaused(), user.getStopped(),
+                    user.getReset(), user.getCompleted(), scheduler.getTicksFired(), samples, violations);
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private Sample sample(int day, LocalDate date, HistoryStore store, long wallMillis) {
+        LatencyHistogram loadMicros = new LatencyHistogram();
+        for (int i = 0; i < LOAD_SAMPLES; i++) {
+            long loadStart = System.nanoTime();
+            store.loadTodayStatistics(date);
+            loadMicros.record((System.nanoTime() - loadStart) / 1_000);
+        }
+        // Twice, so that what the first collection finalized or cleared is gone as well
+        System.gc();
+        System.gc();
+        return new Sample(day, date.toString(), records,
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                ManagementFactory.getThreadMXBean().getThreadCount(),
+                openFileDescriptors(), loadMicros.getValueAtPercentile(50), wallMillis);
+    }
+
+    /**
+     * Compares the first quarter of the samples with the last. Heap and load
+     * latency per record compare medians; threads and file descriptors must
+     * not stay above the early maximum for the whole last quarter.
+     */
+    private List<String> checkGrowth(List<Sample> samples) {
+        List<String> violations = new ArrayList<>();
+        if (samples.size() < MIN_COMPARED_SAMPLES) {
+            System.err.println("Too few samples after the warm-up to check growth: " + samples.size());
+            return violations;
+        }
+        int window = Math.max(1, samples.size() / 4);
+        List<Sample> first = samples.subList(0, window);
+        List<Sample> last = samples.subList(samples.size() - window, samples.size());
+
+        double heapTolerance = Double.parseDouble(options.getOrDefault("heap-tolerance", "0.25"));
+        double heapBefore = median(first.stream().mapToDouble(Sample::heapAfterGcBytes).toArray());
+        double heapAfter = median(last.stream().mapToDouble(Sample::heapAfterGcBytes).toArray());
+        if (heapAfter > heapBefore * (1 + heapTolerance) + HEAP_SLACK_BYTES) {
+            violations.add(String.format(Locale.ROOT, "Heap after GC grew from %.1f MB to %.1f MB",
+                    heapBefore / 1048576, heapAfter / 1048576));
+        }
+
+        int threadSlack = Integer.parseInt(options.getOrDefault("thread-slack", "0"));
+        int threadsBefore = first.stream().mapToInt(Sample::liveThreads).max().orElse(0);
+        int threadsAfter = last.stream().mapToInt(Sample::liveThreads).min().orElse(0);
+        if (threadsAfter > threadsBefore + threadSlack) {
+            violations.add("Live threads grew from " + threadsBefore + " to " + threadsAfter);
+        }
+
+        long fdSlack = Long.parseLong(options.getOrDefault("fd-slack", "2"));
+        long fdsBefore = first.stream().mapToLong(Sample::openFileDescriptors).max().orElse(0);
+        long fdsAfter = last.stream().mapToLong(Sample::openFileDescriptors).min().orElse(0);
+        if (fdsBefore >= 0 && fdsAfter > fdsBefore + fdSlack) {
+            violations.add("Open file descriptors grew from " + fdsBefore + " to " + fdsAfter);
+        }
+
+        double loadTolerance = Double.parseDouble(options.getOrDefault("load-tolerance", "1.0"));
+        double loadBefore = median(first.stream().mapToDouble(Sample::loadMicrosPerThousandRecords).toArray());
+        double loadAfter = median(last.stream().mapToDouble(Sample::loadMicrosPerThousandRecords).toArray());
+        if (loadAfter > loadBefore * (1 + loadTolerance)) {
+            violations.add(String.format(Locale.ROOT,
+                    "History load latency grew faster than the history, from %.0f to %.0f us per 1000 records",
+                    loadBefore, loadAfter));
+        }
+        return violations;
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    // -1 where the platform does not count them
+    private static long openFileDescriptors() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        return os instanceof com.sun.management.UnixOperatingSystemMXBean unix
+                ? unix.getOpenFileDescriptorCount()
+                : -1;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
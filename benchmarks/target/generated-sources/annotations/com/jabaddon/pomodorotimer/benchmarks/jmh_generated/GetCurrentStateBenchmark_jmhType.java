@@ -0,0 +1,4 @@
+package com.jabaddon.pomodorotimer.benchmarks.jmh_generated;
+public class GetCurrentStateBenchmark_jmhType extends GetCurrentStateBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.jabaddon.pomodorotimer.benchmarks.jmh_generated;
+public class SessionTickBenchmark_jmhType extends SessionTickBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.jabaddon.pomodorotimer.benchmarks.jmh_generated;
+public class TimerRecordBenchmark_jmhType extends TimerRecordBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,311 @@
+package com.jabaddon.pomodorotimer.application.diagnostics;
+
+import com.jabaddon.pomodorotimer.application.metrics.LatencyHistogram;
+import com.jabaddon.pomodorotimer.application.port.out.TimeSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Detects callbacks that block a latency-sensitive thread (the JavaFX
+ * application thread, the tick scheduler thread) for longer than a budget.
+ *
+ * Code wraps each callback in {@link Probe#enter()} / {@link Probe#exit()}.
+ * Every duration goes into the probe's histogram, and {@code exit()} itself
+ * compares it with the budget: a callback over budget is stored as a stall in
+ * a fixed-size ring buffer that can be dumped on demand.
+ *
+ * Once {@link #start() started}, a watchdog thread also samples the stack of
+ * a thread that is blocked past the budget. It checks at a coarse fixed
+ * interval (a second, or the budget if that is longer), and only while
+ * callbacks keep being entered; otherwise it parks until the next
+ * {@code enter()} after a quiet spell. A busy thread therefore costs one
+ * watchdog wake-up per second, whatever its callback rate, and an idle
+ * application none. Stalls shorter than the interval are usually recorded
+ * without samples.
+ */
+public class StallWatchdog implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(StallWatchdog.class);
+    private static final int MAX_SAMPLES_PER_STALL = 8;
+    private static final int MAX_FRAMES_PER_SAMPLE = 32;
+    private static final long NANOS_PER_MICRO = 1_000L;
+    private static final long MIN_CHECK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long budgetNanos;
+    private final long checkIntervalNanos;
+    private final TimeSource timeSource;
+    private final StallRecord[] ring;
+    private final List<Probe> probes = new CopyOnWriteArrayList<>();
+    private volatile Thread watchdogThread;
+    private int ringNext;
+    private long stallCount;
+    private volatile boolean idle;
+    private volatile boolean running = true;
+
+    /**
+     * A stall: one callback that exceeded the budget, with the stacks sampled while it ran.
+     */
+    public record StallRecord(
+            String probe,
+            String threadName,
+            Instant startedAt,
+            long durationMicros,
+            List<StackTraceElement[]> samples) {
+    }
+
+    /**
+     * Measures callbacks on one thread. Calls must not nest and
+     * must come from the thread being measured.
+     */
+    public final class Probe {
+        private final String name;
+        private final LatencyHistogram durationMicros = new LatencyHistogram();
+        private volatile Thread thread;
+        private volatile long startedAtNanos;
+        private volatile boolean active;
+        // Only written by the measured thread
+        private volatile long sequence;
+        // Read and written by the watchdog thread only
+        private long checkedSequence;
+        // Guarded by this probe
+        private final List<StackTraceElement[]> samples = new ArrayList<>();
+        private long samplesSequence;
+
+        private Probe(String name) {
+            this.name = name;
+        }
+
+        public void enter() {
+            thread = Thread.currentThread();
+            sequence++;
+            startedAtNanos = timeSource.nanoTime();
+            active = true;
+            if (idle) {
+                idle = false;
+                LockSupport.unpark(watchdogThread);
+            }
+        }
+
+        public void exit() {
+            long durationNanos = timeSource.nanoTime() - startedAtNanos;
+            active = false;
+            durationMicros.record(durationNanos / NANOS_PER_MICRO);
+            if (durationNanos > budgetNanos) {
+                recordStall(this, durationNanos, takeSamples());
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Callback durations in microseconds.
+         */
+        public LatencyHistogram getDurationHistogram() {
+            return durationMicros;
+        }
+
+        private synchronized List<StackTraceElement[]> takeSamples() {
+            if (samplesSequence != sequence || samples.isEmpty()) {
+                return List.of();
+            }
+            List<StackTraceElement[]> taken = List.copyOf(samples);
+            samples.clear();
+            return taken;
+        }
+
+        /**
+         * Called on the watchdog thread. Samples the stack if the running callback
+         * is over budget, and tells whether the probe was used since the last check.
+         */
+        private synchronized boolean check(long nowNanos) {
+            long current = sequence;
+            boolean used = current != checkedSequence;
+            checkedSequence = current;
+            if (!active) {
+                return used;
+            }
+            if (samplesSequence != current) {
+                samplesSequence = current;
+                samples.clear();
+            }
+            if (nowNanos - startedAtNanos >= budgetNanos && samples.size() < MAX_SAMPLES_PER_STALL) {
+                samples.add(trim(thread.getStackTrace()));
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Creates a watchdog on the system clock. Stalls are recorded right away;
+     * stacks are only sampled once {@link #start()} has been called.
+     */
+    public StallWatchdog(long budgetMillis, int capacity) {
+        this(budgetMillis, capacity, TimeSource.system());
+    }
+
+    /**
+     * Creates a watchdog that measures callbacks on the given time source.
+     */
+    public StallWatchdog(long budgetMillis, int capacity, TimeSource timeSource) {
+        if (budgetMillis <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Budget and capacity must be positive");
+        }
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.checkIntervalNanos = Math.max(budgetNanos, MIN_CHECK_INTERVAL_NANOS);
+        this.timeSource = timeSource;
+        this.ring = new StallRecord[capacity];
+    }
+
+    /**
+     * Starts the thread that samples blocked threads. Only the first call has an effect.
+     *
+     * @return this watchdog
+     */
+    public synchronized StallWatchdog start() {
+        if (watchdogThread == null && running) {
+            Thread thread = new Thread(this::watchLoop, "stall-watchdog");
+            thread.setDaemon(true);
+            watchdogThread = thread;
+            thread.start();
+        }
+        return this;
+    }
+
+    /**
+     * Creates a probe for callbacks of one kind, e.g. "fx-pulse" or "timer-tick".
+     */
+    public Probe probe(String name) {
+        Probe probe = new Probe(name);
+        probes.add(probe);
+        return probe;
+    }
+
+    public List<Probe> getProbes() {
+        return List.copyOf(probes);
+    }
+
+    public long getBudgetMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(budgetNanos);
+    }
+
+    /**
+     * Total number of stalls seen, including ones already overwritten in the ring buffer.
+     */
+    public synchronized long getStallCount() {
+        return stallCount;
+    }
+
+    /**
+     * Stalls still in the ring buffer, oldest first.
+     */
+    public synchronized List<StallRecord> getRecentStalls() {
+        List<StallRecord> recent = new ArrayList<>(ring.length);
+        for (int i = 0; i < ring.length; i++) {
+            StallRecord record = ring[(ringNext + i) % ring.length];
+            if (record != null) {
+                recent.add(record);
+            }
+        }
+        return recent;
+    }
+
+    /**
+     * Human-readable report of probe durations and the stalls in the ring buffer.
+     */
+    public String dump() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Stall watchdog (budget ").append(getBudgetMillis()).append(" ms, ")
+                .append(getStallCount()).append(" stalls)\n");
+        for (Probe probe : probes) {
+            LatencyHistogram histogram = probe.getDurationHistogram();
+            sb.append(String.format("  %-16s count=%d p50=%dus p99=%dus max=%dus%n",
+                    probe.getName(), histogram.getCount(), histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(99), histogram.getMax()));
+        }
+        for (StallRecord stall : getRecentStalls()) {
+            sb.append(String.format("%s %s on %s blocked for %.1f ms%n",
+                    stall.startedAt(), stall.probe(), stall.threadName(), stall.durationMicros() / 1000.0));
+            int sampleNumber = 1;
+            for (StackTraceElement[] sample : stall.samples()) {
+                sb.append("  sample ").append(sampleNumber++).append(":\n");
+                for (StackTraceElement frame : sample) {
+                    sb.append("    at ").append(frame).append('\n');
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        Thread thread = watchdogThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private synchronized void recordStall(Probe probe, long durationNanos, List<StackTraceElement[]> samples) {
+        long durationMicros = durationNanos / NANOS_PER_MICRO;
+        Instant startedAt = timeSource.clock().instant().minusNanos(durationNanos);
+        ring[ringNext] = new StallRecord(probe.name, probe.thread.getName(), startedAt, durationMicros, samples);
+        ringNext = (ringNext + 1) % ring.length;
+        stallCount++;
+        log.debug("{} callback took {} us (budget {} ms)", probe.name, durationMicros, getBudgetMillis());
+    }
+
+    private void watchLoop() {
+        while (running) {
+            if (checkProbes()) {
+                LockSupport.parkNanos(this, checkIntervalNanos);
+            } else {
+                idle = true;
+                // Re-check after publishing idle, so an enter() racing with it is not missed
+                if (noneUsed()) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+            }
+        }
+    }
+
+    /**
+     * One pass of the watchdog: samples callbacks that are over budget.
+     *
+     * @return true if any probe was entered since the last pass or is running a callback
+     */
+    boolean checkProbes() {
+        long now = timeSource.nanoTime();
+        boolean used = false;
+        for (Probe probe : probes) {
+            used |= probe.check(now);
+        }
+        return used;
+    }
+
+    private boolean noneUsed() {
+        for (Probe probe : probes) {
+            if (probe.active || probe.sequence != probe.checkedSequence) {
+                return false;
+            }
+        }
+        return running;
+    }
+
+    private static StackTraceElement[] trim(StackTraceElement[] stack) {
+        if (stack.length <= MAX_FRAMES_PER_SAMPLE) {
+            return stack;
+        }
+        StackTraceElement[] trimmed = new StackTraceElement[MAX_FRAMES_PER_SAMPLE];
+        System.arraycopy(stack, 0, trimmed, 0, MAX_FRAMES_PER_SAMPLE);
+        return trimmed;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jabaddon.pomodorotimer.application.diagnostics;
+
+/**
+ * Kinds of {@link TraceRing} entries and the names of their arguments.
+ * Arguments named {@code type} hold a {@code SessionTypeEnumDTO} ordinal.
+ */
+public enum TraceEvent {
+    TICK("remaining_s", "completed"),
+    START("type", "minutes"),
+    PAUSE("type", "remaining_s"),
+    RESUME("type", "remaining_s"),
+    COMPLETE("type", "completed_pomodoros"),
+    STOP("type", "remaining_s"),
+    RESET("type", "remaining_s"),
+    COMMAND_QUEUED("pending"),
+    RESTORE("micros", "completed_pomodoros"),
+    HISTORY_SAVE("micros", "records", "bytes"),
+    HISTORY_LOAD("micros", "records", "bytes"),
+
+    // Errors; recording one can dump the ring to a file
+    RESTORE_FAILED(true),
+    COMMAND_FAILED(true),
+    HISTORY_SAVE_FAILED(true),
+    HISTORY_LOAD_FAILED(true);
+
+    private final boolean error;
+    private final String[] argumentNames;
+
+    TraceEvent(String... argumentNames) {
+        this(false, argumentNames);
+    }
+
+    TraceEvent(boolean error, String... argumentNames) {
+        this.error = error;
+        this.argumentNames = argumentNames;
+    }
+
+    public boolean isError() {
+        return error;
+    }
+
+    /**
+     * Names of the arguments this event uses; unused trailing arguments are zero.
+     */
+    public String[] getArgumentNames() {
+        return argumentNames.clone();
+    }
+
+    String argumentName(int index) {
+        return argumentNames[index];
+    }
+
+    int argumentCount() {
+        return argumentNames.length;
+    }
+}
@@ -0,0 +1,301 @@
+package com.jabaddon.pomodorotimer.application.diagnostics;
+
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeEnumDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Preallocated binary trace of recent timer activity, cheap enough to leave on
+ * where debug logging is not.
+ *
+ * Each entry is a fixed row of longs in one array: sequence number, nano time,
+ * thread id, {@link TraceEvent} ordinal and up to three arguments. Recording
+ * claims a sequence number and writes the row, with no strings, formatting or
+ * allocation; the oldest entries are overwritten once the ring is full. Only
+ * {@link #dump()} turns entries into text, with wall-clock times and thread names.
+ *
+ * Writers may be on any thread. A reader skips rows that are being written or
+ * were overwritten while it read them, so a dump is a consistent but possibly
+ * incomplete view of the last {@link #getCapacity()} entries.
+ *
+ * Recording an error event writes the ring to a file in the dump directory,
+ * at most once per {@link #ERROR_DUMP_INTERVAL_SECONDS}. The recording thread
+ * only copies the rows into a preallocated buffer; formatting and writing the
+ * file happen on the dump executor, by default a short-lived "trace-dump"
+ * daemon thread. Errors within the interval, or while a dump is still being
+ * written, are counted and reported with the next dump.
+ */
+public class TraceRing {
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final long ERROR_DUMP_INTERVAL_SECONDS = 60;
+    private static final Logger log = LoggerFactory.getLogger(TraceRing.class);
+    private static final int WIDTH = 7;
+    private static final long WRITING = -1;
+    private static final TraceEvent[] EVENTS = TraceEvent.values();
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray slots;
+    private final AtomicLong next = new AtomicLong();
+    private final Path dumpDirectory;
+    private final long anchorEpochNanos;
+    private final long anchorNanoTime;
+    private final AtomicLong lastErrorDumpNanos = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong skippedErrorDumps = new AtomicLong();
+    private final AtomicBoolean errorDumpInProgress = new AtomicBoolean();
+    private final Executor dumpExecutor;
+    // Rows copied for the error dump in progress, allocated with the first one
+    private long[] errorDumpRows;
+
+    /**
+     * A decoded entry.
+     */
+    public record Entry(long sequence, long nanoTime, long threadId, TraceEvent event, long a, long b, long c) {
+    }
+
+    /**
+     * A ring that is only dumped on request.
+     */
+    public TraceRing(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * @param capacity      entries kept, rounded up to a power of two
+     * @param dumpDirectory where {@link #dumpToFile()} and error dumps write, or null for no files
+     */
+    public TraceRing(int capacity, Path dumpDirectory) {
+        this(capacity, dumpDirectory, TraceRing::startDumpThread);
+    }
+
+    /**
+     * @param dumpExecutor runs the formatting and writing of error dumps
+     */
+    public TraceRing(int capacity, Path dumpDirectory, Executor dumpExecutor) {
+        if (capacity <= 0 || capacity > (1 << 24)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^24: " + capacity);
+        }
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicLongArray(this.capacity * WIDTH);
+        for (int i = 0; i < this.capacity; i++) {
+            slots.set(i * WIDTH, WRITING);
+        }
+        this.dumpDirectory = dumpDirectory;
+        this.dumpExecutor = dumpExecutor;
+        Instant now = Instant.now();
+        this.anchorNanoTime = System.nanoTime();
+        this.anchorEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    public void record(TraceEvent event, long a) {
+        record(event, a, 0, 0);
+    }
+
+    public void record(TraceEvent event, long a, long b) {
+        record(event, a, b, 0);
+    }
+
+    public void record(TraceEvent event, long a, long b, long c) {
+        long sequence = next.getAndIncrement();
+        int base = (int) (sequence & mask) * WIDTH;
+        slots.set(base, WRITING);
+        slots.set(base + 1, System.nanoTime());
+        slots.set(base + 2, Thread.currentThread().threadId());
+        slots.set(base + 3, event.ordinal());
+        slots.set(base + 4, a);
+        slots.set(base + 5, b);
+        slots.set(base + 6, c);
+        slots.set(base, sequence);
+        if (event.isError()) {
+            dumpOnError();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Entries recorded since creation, including overwritten ones.
+     */
+    public long getRecordedCount() {
+        return next.get();
+    }
+
+    /**
+     * The entries still in the ring, oldest first.
+     */
+    public List<Entry> getEntries() {
+        long[] rows = new long[capacity * WIDTH];
+        return decode(rows, copyRows(rows));
+    }
+
+    /**
+     * Human-readable listing of the entries in the ring, oldest first.
+     */
+    public String dump() {
+        return format(getEntries(), getRecordedCount());
+    }
+
+    /**
+     * Writes {@link #dump()} to a new file in the dump directory.
+     *
+     * @return the file written
+     */
+    public Path dumpToFile() throws IOException {
+        return writeDumpFile(dump());
+    }
+
+    /**
+     * Copies the complete rows still in the ring into {@code rows}, oldest first,
+     * without allocating.
+     *
+     * @return the number of rows copied
+     */
+    private int copyRows(long[] rows) {
+        long end = next.get();
+        long start = Math.max(0, end - capacity);
+        int count = 0;
+        for (long sequence = start; sequence < end; sequence++) {
+            int base = (int) (sequence & mask) * WIDTH;
+            if (slots.get(base) != sequence) {
+                continue;
+            }
+            int target = count * WIDTH;
+            for (int i = 1; i < WIDTH; i++) {
+                rows[target + i] = slots.get(base + i);
+            }
+            if (slots.get(base) == sequence) {
+                rows[target] = sequence;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<Entry> decode(long[] rows, int count) {
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int base = i * WIDTH;
+            entries.add(new Entry(rows[base], rows[base + 1], rows[base + 2], EVENTS[(int) rows[base + 3]],
+                    rows[base + 4], rows[base + 5], rows[base + 6]));
+        }
+        return entries;
+    }
+
+    private String format(List<Entry> entries, long recordedCount) {
+        Map<Long, String> threadNames = threadNames();
+        StringBuilder sb = new StringBuilder(128 + entries.size() * 96);
+        sb.append("Trace ring (").append(capacity).append(" entries, ")
+                .append(recordedCount).append(" recorded, ").append(entries.size()).append(" shown)\n");
+        ZoneId zone = ZoneId.systemDefault();
+        for (Entry entry : entries) {
+            long epochNanos = anchorEpochNanos + (entry.nanoTime() - anchorNanoTime);
+            LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochSecond(0, epochNanos), zone);
+            sb.append(String.format("%s %-20s %-20s",
+                    TIME_FORMAT.format(time),
+                    threadNames.getOrDefault(entry.threadId(), "#" + entry.threadId()),
+                    entry.event()));
+            long[] arguments = {entry.a(), entry.b(), entry.c()};
+            for (int i = 0; i < entry.event().argumentCount(); i++) {
+                String name = entry.event().argumentName(i);
+                sb.append(' ').append(name).append('=').append(formatArgument(name, arguments[i]));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private Path writeDumpFile(String text) throws IOException {
+        if (dumpDirectory == null) {
+            throw new IllegalStateException("No dump directory configured");
+        }
+        Files.createDirectories(dumpDirectory);
+        Path file = dumpDirectory.resolve("trace-" + FILE_NAME_FORMAT.format(LocalDateTime.now()) + ".txt");
+        Files.writeString(file, text);
+        return file;
+    }
+
+    private void dumpOnError() {
+        if (dumpDirectory == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = lastErrorDumpNanos.get();
+        if ((last != Long.MIN_VALUE && now - last < TimeUnit.SECONDS.toNanos(ERROR_DUMP_INTERVAL_SECONDS))
+                || !lastErrorDumpNanos.compareAndSet(last, now)
+                || !errorDumpInProgress.compareAndSet(false, true)) {
+            skippedErrorDumps.incrementAndGet();
+            return;
+        }
+        if (errorDumpRows == null) {
+            errorDumpRows = new long[capacity * WIDTH];
+        }
+        long[] rows = errorDumpRows;
+        long recordedCount = next.get();
+        int count = copyRows(rows);
+        long skipped = skippedErrorDumps.getAndSet(0);
+        try {
+            dumpExecutor.execute(() -> writeErrorDump(rows, count, recordedCount, skipped));
+        } catch (RuntimeException e) {
+            errorDumpInProgress.set(false);
+            log.warn("Could not start trace dump: {}", e.getMessage());
+        }
+    }
+
+    private void writeErrorDump(long[] rows, int count, long recordedCount, long skipped) {
+        try {
+            Path file = writeDumpFile(format(decode(rows, count), recordedCount));
+            if (skipped > 0) {
+                log.warn("Error traced, recent activity written to {} ({} earlier errors not dumped)", file, skipped);
+            } else {
+                log.warn("Error traced, recent activity written to {}", file);
+            }
+        } catch (IOException e) {
+            log.warn("Could not write trace dump: {}", e.getMessage());
+        } finally {
+            errorDumpInProgress.set(false);
+        }
+    }
+
+    private static void startDumpThread(Runnable dump) {
+        Thread thread = new Thread(dump, "trace-dump");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static String formatArgument(String name, long value) {
+        if (name.equals("type") && value >= 0 && value < SessionTypeEnumDTO.values().length) {
+            return SessionTypeEnumDTO.values()[(int) value].name();
+        }
+        return Long.toString(value);
+    }
+
+    private static Map<Long, String> threadNames() {
+        Map<Long, String> names = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            names.put(thread.threadId(), thread.getName());
+        }
+        return names;
+    }
+}
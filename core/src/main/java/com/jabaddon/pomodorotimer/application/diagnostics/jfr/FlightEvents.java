@@ -0,0 +1,101 @@
+package com.jabaddon.pomodorotimer.application.diagnostics.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Starts the timer's JDK Flight Recorder events, e.g. for a recording started
+ * with {@code jcmd <pid> JFR.start} in production.
+ *
+ * Each method returns a started event, or {@code null} when the event is not
+ * being recorded; callers commit it when the measured work is done:
+ *
+ * <pre>
+ * TickEvent event = FlightEvents.tick();
+ * ...
+ * if (event != null) {
+ *     event.commit(remainingSeconds, completed);
+ * }
+ * </pre>
+ *
+ * Until Flight Recorder is initialized by a recording the check is one static
+ * field read: no event object is allocated and no event class is initialized,
+ * which matters because initializing the first event class sets up the
+ * recorder's metadata (hundreds of milliseconds at startup). Once it is
+ * initialized, events are only created while a recording is running, so a
+ * recording that was stopped leaves no per-tick garbage behind.
+ */
+public final class FlightEvents {
+
+    private FlightEvents() {
+    }
+
+    public static TickEvent tick() {
+        return isRecording() ? started(new TickEvent()) : null;
+    }
+
+    public static SessionEvent session() {
+        return isRecording() ? started(new SessionEvent()) : null;
+    }
+
+    public static HistorySaveEvent historySave() {
+        return isRecording() ? started(new HistorySaveEvent()) : null;
+    }
+
+    public static HistoryLoadEvent historyLoad() {
+        return isRecording() ? started(new HistoryLoadEvent()) : null;
+    }
+
+    public static FxRenderEvent fxRender() {
+        return isRecording() ? started(new FxRenderEvent()) : null;
+    }
+
+    static StateQueryBurstEvent stateQueryBurst() {
+        return isRecording() ? started(new StateQueryBurstEvent()) : null;
+    }
+
+    /**
+     * Whether any recording is running; one static field read until Flight Recorder is initialized.
+     */
+    static boolean isRecording() {
+        return FlightRecorder.isInitialized() && RecordingWatch.running;
+    }
+
+    private static <E extends Event> E started(E event) {
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Tracks whether a recording runs. Initialized on the first check after Flight
+     * Recorder is, as registering the listener earlier would load the recorder.
+     */
+    private static final class RecordingWatch {
+        private static volatile boolean running;
+
+        static {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recordingStateChanged(Recording recording) {
+                    running = anyRunning();
+                }
+            });
+            running = anyRunning();
+        }
+
+        private static boolean anyRunning() {
+            for (Recording recording : FlightRecorder.getFlightRecorder().getRecordings()) {
+                if (recording.getState() == RecordingState.RUNNING) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.jabaddon.pomodorotimer.application.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A render pass on the JavaFX application thread: a scene pulse (CSS and
+ * layout) or the update of the nodes for a pushed timer state.
+ */
+@Name("com.jabaddon.pomodorotimer.FxRender")
+@Label("FX Render Pass")
+@Category({"Pomodoro Timer", "UI"})
+@Description("Scene pulse or state update on the JavaFX application thread")
+@StackTrace(false)
+public final class FxRenderEvent extends jdk.jfr.Event {
+    public static final String PULSE = "Pulse";
+    public static final String STATE_UPDATE = "State Update";
+
+    @Label("Pass")
+    private String pass;
+
+    FxRenderEvent() {
+    }
+
+    public void commit(String pass) {
+        this.pass = pass;
+        commit();
+    }
+}
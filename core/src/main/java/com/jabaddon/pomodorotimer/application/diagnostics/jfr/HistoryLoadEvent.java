@@ -0,0 +1,33 @@
+package com.jabaddon.pomodorotimer.application.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One read of the history by a persistence adapter, for statistics or record queries.
+ */
+@Name("com.jabaddon.pomodorotimer.HistoryLoad")
+@Label("History Load")
+@Category({"Pomodoro Timer", "Persistence"})
+@Description("Reading timer records from history")
+public final class HistoryLoadEvent extends jdk.jfr.Event {
+
+    @Label("Records")
+    private int records;
+
+    @Label("Bytes Read")
+    @DataAmount
+    private long bytes;
+
+    HistoryLoadEvent() {
+    }
+
+    public void commit(int records, long bytes) {
+        this.records = records;
+        this.bytes = bytes;
+        commit();
+    }
+}
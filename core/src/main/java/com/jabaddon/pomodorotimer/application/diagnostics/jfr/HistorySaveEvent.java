@@ -0,0 +1,34 @@
+package com.jabaddon.pomodorotimer.application.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One {@code TimerPersistencePort.saveRecord} call in a persistence adapter.
+ */
+@Name("com.jabaddon.pomodorotimer.HistorySave")
+@Label("History Save")
+@Category({"Pomodoro Timer", "Persistence"})
+@Description("Saving a timer record to history")
+public final class HistorySaveEvent extends jdk.jfr.Event {
+
+    @Label("Records")
+    @Description("Records in the history after the save")
+    private int records;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytes;
+
+    HistorySaveEvent() {
+    }
+
+    public void commit(int records, long bytes) {
+        this.records = records;
+        this.bytes = bytes;
+        commit();
+    }
+}
@@ -0,0 +1,47 @@
+package com.jabaddon.pomodorotimer.application.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A session transition handled by the application service, including the
+ * history save and notifications it triggers.
+ */
+@Name("com.jabaddon.pomodorotimer.Session")
+@Label("Session Transition")
+@Category({"Pomodoro Timer", "Timer"})
+@Description("Start, pause, resume, completion, stop or reset of a timer session")
+public final class SessionEvent extends jdk.jfr.Event {
+    public static final String START = "Start";
+    public static final String PAUSE = "Pause";
+    public static final String RESUME = "Resume";
+    public static final String COMPLETE = "Complete";
+    public static final String STOP = "Stop";
+    public static final String RESET = "Reset";
+
+    @Label("Action")
+    private String action;
+
+    @Label("Session Type")
+    private String sessionType;
+
+    @Label("Minutes")
+    private int minutes;
+
+    @Label("Completed Pomodoros")
+    @Description("Work sessions completed today after the transition")
+    private int completedPomodoros;
+
+    SessionEvent() {
+    }
+
+    public void commit(String action, String sessionType, int minutes, int completedPomodoros) {
+        this.action = action;
+        this.sessionType = sessionType;
+        this.minutes = minutes;
+        this.completedPomodoros = completedPomodoros;
+        commit();
+    }
+}
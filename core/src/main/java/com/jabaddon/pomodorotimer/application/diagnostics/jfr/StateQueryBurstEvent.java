@@ -0,0 +1,30 @@
+package com.jabaddon.pomodorotimer.application.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A window of at least {@link StateQueryBursts#BURST_QUERIES} state queries
+ * within {@link StateQueryBursts#WINDOW_NANOS}, from the first query to the last.
+ */
+@Name("com.jabaddon.pomodorotimer.StateQueryBurst")
+@Label("State Query Burst")
+@Category({"Pomodoro Timer", "Timer"})
+@Description("Many getCurrentState calls in a short window")
+@StackTrace(false)
+public final class StateQueryBurstEvent extends jdk.jfr.Event {
+
+    @Label("Queries")
+    private int queries;
+
+    StateQueryBurstEvent() {
+    }
+
+    public void commit(int queries) {
+        this.queries = queries;
+        commit();
+    }
+}
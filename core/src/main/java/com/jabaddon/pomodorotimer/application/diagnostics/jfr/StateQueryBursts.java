@@ -0,0 +1,48 @@
+package com.jabaddon.pomodorotimer.application.diagnostics.jfr;
+
+/**
+ * Groups state queries into windows and records a {@link StateQueryBurstEvent}
+ * for each window with at least {@link #BURST_QUERIES} queries. A window is
+ * committed by the first query after it ends, so the last burst before a quiet
+ * period shows up with the next query.
+ *
+ * Queries may come from any thread. While no recording runs {@link #onQuery()}
+ * does not allocate, and before Flight Recorder is initialized it only reads a
+ * static field.
+ */
+public final class StateQueryBursts {
+    public static final long WINDOW_NANOS = 1_000_000_000L;
+    public static final int BURST_QUERIES = 20;
+
+    private StateQueryBurstEvent window;
+    private long windowStartNanos;
+    private int queries;
+
+    public StateQueryBursts() {
+    }
+
+    public void onQuery() {
+        if (FlightEvents.isRecording()) {
+            record(System.nanoTime());
+        }
+    }
+
+    private synchronized void record(long now) {
+        if (window != null && now - windowStartNanos >= WINDOW_NANOS) {
+            if (queries >= BURST_QUERIES) {
+                window.commit(queries);
+            }
+            window = null;
+        }
+        if (window == null) {
+            window = FlightEvents.stateQueryBurst();
+            if (window == null) {
+                return;
+            }
+            windowStartNanos = now;
+            queries = 0;
+        }
+        queries++;
+        window.end();
+    }
+}
@@ -0,0 +1,35 @@
+package com.jabaddon.pomodorotimer.application.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One tick dispatched by the application service: tick sound, session update,
+ * completion handling if the session ran out, and the state pushed to the UI.
+ */
+@Name("com.jabaddon.pomodorotimer.Tick")
+@Label("Timer Tick")
+@Category({"Pomodoro Timer", "Timer"})
+@Description("Dispatch of one timer tick, from the scheduler callback to the UI update")
+@StackTrace(false)
+public final class TickEvent extends jdk.jfr.Event {
+
+    @Label("Remaining Seconds")
+    private int remainingSeconds;
+
+    @Label("Completed")
+    @Description("The tick ran the session out")
+    private boolean completed;
+
+    TickEvent() {
+    }
+
+    public void commit(int remainingSeconds, boolean completed) {
+        this.remainingSeconds = remainingSeconds;
+        this.completed = completed;
+        commit();
+    }
+}
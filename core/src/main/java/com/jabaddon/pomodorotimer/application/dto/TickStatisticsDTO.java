@@ -0,0 +1,22 @@
+package com.jabaddon.pomodorotimer.application.dto;
+
+/**
+ * Application DTO with tick timing statistics for the current timer session.
+ * Lateness values are in microseconds past the intended fire time; drift
+ * values are signed microseconds away from the ideal one-tick-per-second schedule.
+ */
+public record TickStatisticsDTO(
+        long tickCount,
+        long meanLatenessMicros,
+        long totalLatenessMicros,
+        long p50LatenessMicros,
+        long p90LatenessMicros,
+        long p99LatenessMicros,
+        long maxLatenessMicros,
+        long cumulativeDriftMicros,
+        long maxDriftMicros) {
+
+    public static TickStatisticsDTO empty() {
+        return new TickStatisticsDTO(0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+}
@@ -17,6 +17,13 @@ import com.jabaddon.pomodorotimer.domain.model.TimerState;
  * before passing them to ports (adapters).
  */
 public final class DomainToDtoMapper {
+    private static final SessionTypeDTO[] SESSION_TYPES = new SessionTypeDTO[SessionType.values().length];
+
+    static {
+        for (SessionType sessionType : SessionType.values()) {
+            SESSION_TYPES[sessionType.ordinal()] = createDto(sessionType);
+        }
+    }
 
     private DomainToDtoMapper() {
         // Utility class
@@ -24,18 +31,24 @@ public final class DomainToDtoMapper {
 
     // ========== Domain to DTO ==========
 
+    /**
+     * Returns the DTO for a session type; the DTOs are immutable and shared,
+     * as the state published on every tick carries one.
+     */
     public static SessionTypeDTO toDto(SessionType sessionType) {
         if (sessionType == null) {
             return null;
         }
-        return switch (sessionType) {
-            case WORK -> new SessionTypeDTO(
-                SessionTypeEnumDTO.WORK, sessionType.getDefaultMinutes(), sessionType.getDisplayName());
-            case SHORT_BREAK -> new SessionTypeDTO(
-                SessionTypeEnumDTO.SHORT_BREAK, sessionType.getDefaultMinutes(), sessionType.getDisplayName());
-            case LONG_BREAK -> new SessionTypeDTO(
-                SessionTypeEnumDTO.LONG_BREAK, sessionType.getDefaultMinutes(), sessionType.getDisplayName());
+        return SESSION_TYPES[sessionType.ordinal()];
+    }
+
+    private static SessionTypeDTO createDto(SessionType sessionType) {
+        SessionTypeEnumDTO type = switch (sessionType) {
+            case WORK -> SessionTypeEnumDTO.WORK;
+            case SHORT_BREAK -> SessionTypeEnumDTO.SHORT_BREAK;
+            case LONG_BREAK -> SessionTypeEnumDTO.LONG_BREAK;
         };
+        return new SessionTypeDTO(type, sessionType.getDefaultMinutes(), sessionType.getDisplayName());
     }
 
     public static TimerStateDTO toDto(TimerState state) {
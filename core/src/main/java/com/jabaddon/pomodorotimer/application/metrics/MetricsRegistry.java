@@ -0,0 +1,132 @@
+package com.jabaddon.pomodorotimer.application.metrics;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Named runtime metrics for export over JMX or in the Prometheus text format.
+ *
+ * Counters and gauges are striped {@link LongAdder}s and summaries are
+ * {@link LatencyHistogram}s, so recording is lock-free and does not allocate.
+ * Code looks its metrics up once, when it is created, and keeps the returned
+ * instances; the registry is only walked again by exporters. Registering a
+ * name (and label) that already exists returns the existing metric, so
+ * several timers sharing a registry add up into the same series. Pulled
+ * gauges and summaries are the exception: the last supplier registered wins.
+ *
+ * Names follow the Prometheus conventions ({@code pomodoro_ticks_total},
+ * {@code pomodoro_history_save_micros}); a metric can carry one label.
+ */
+public class MetricsRegistry {
+
+    public enum Type {
+        COUNTER, GAUGE, SUMMARY
+    }
+
+    /**
+     * A registered metric. Exactly one of {@code adder}, {@code supplier},
+     * {@code histogram} and {@code summarySupplier} is set.
+     *
+     * @param labels rendered label pair such as {@code state="RUNNING"}, or empty
+     */
+    public record Metric(
+            String name,
+            String labels,
+            String help,
+            Type type,
+            LongAdder adder,
+            LongSupplier supplier,
+            LatencyHistogram histogram,
+            Supplier<SummarySnapshot> summarySupplier) {
+
+        /**
+         * Current value of a counter or gauge.
+         */
+        public long value() {
+            return adder != null ? adder.sum() : supplier.getAsLong();
+        }
+
+        /**
+         * Current values of a summary.
+         */
+        public SummarySnapshot summary() {
+            return histogram != null ? SummarySnapshot.of(histogram) : summarySupplier.get();
+        }
+    }
+
+    // Sorted by name, so all series of one metric are next to each other
+    private final ConcurrentSkipListMap<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    public MetricsRegistry() {
+    }
+
+    /**
+     * A monotonically increasing count.
+     */
+    public LongAdder counter(String name, String help) {
+        return register(name, "", help, Type.COUNTER, new LongAdder(), null).adder();
+    }
+
+    /**
+     * A value that goes up and down, maintained by the caller.
+     */
+    public LongAdder gauge(String name, String help) {
+        return gauge(name, null, null, help);
+    }
+
+    public LongAdder gauge(String name, String labelName, String labelValue, String help) {
+        return register(name, labels(labelName, labelValue), help, Type.GAUGE, new LongAdder(), null).adder();
+    }
+
+    /**
+     * A value read when the metrics are exported. The supplier must be cheap and thread-safe.
+     */
+    public void gauge(String name, String labelName, String labelValue, String help, LongSupplier supplier) {
+        String labels = labels(labelName, labelValue);
+        metrics.put(key(name, labels), new Metric(name, labels, help, Type.GAUGE, null, supplier, null, null));
+    }
+
+    /**
+     * A distribution of values, exported as count, sum and quantiles.
+     */
+    public LatencyHistogram summary(String name, String help) {
+        return register(name, "", help, Type.SUMMARY, null, new LatencyHistogram()).histogram();
+    }
+
+    /**
+     * A distribution kept elsewhere, read when the metrics are exported.
+     * The supplier must be cheap and thread-safe.
+     */
+    public void summary(String name, String help, Supplier<SummarySnapshot> supplier) {
+        metrics.put(name, new Metric(name, "", help, Type.SUMMARY, null, null, null, supplier));
+    }
+
+    /**
+     * All metrics, ordered by name and labels.
+     */
+    public List<Metric> getMetrics() {
+        return List.copyOf(metrics.values());
+    }
+
+    private Metric register(String name, String labels, String help, Type type,
+                            LongAdder adder, LatencyHistogram histogram) {
+        Metric metric = metrics.computeIfAbsent(key(name, labels),
+                key -> new Metric(name, labels, help, type, adder, null, histogram, null));
+        if (metric.type() != type || (metric.adder() == null) != (adder == null)
+                || (metric.histogram() == null) != (histogram == null)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as " + metric.type());
+        }
+        return metric;
+    }
+
+    private static String key(String name, String labels) {
+        return labels.isEmpty() ? name : name + "{" + labels + "}";
+    }
+
+    private static String labels(String labelName, String labelValue) {
+        return labelName == null ? "" : labelName + "=\"" + labelValue + "\"";
+    }
+}
@@ -0,0 +1,54 @@
+package com.jabaddon.pomodorotimer.application.metrics;
+
+import java.util.Locale;
+
+/**
+ * Renders a {@link MetricsRegistry} in the Prometheus text exposition format
+ * (version 0.0.4), e.g. for the node exporter's textfile collector.
+ * Summaries get the 0.5, 0.9 and 0.99 quantiles plus the maximum as quantile 1.
+ */
+public final class PrometheusTextFormat {
+
+    private PrometheusTextFormat() {
+    }
+
+    public static String format(MetricsRegistry registry) {
+        StringBuilder sb = new StringBuilder(4096);
+        String previousName = null;
+        for (MetricsRegistry.Metric metric : registry.getMetrics()) {
+            if (!metric.name().equals(previousName)) {
+                sb.append("# HELP ").append(metric.name()).append(' ').append(escapeHelp(metric.help())).append('\n');
+                sb.append("# TYPE ").append(metric.name()).append(' ')
+                        .append(metric.type().name().toLowerCase(Locale.ROOT)).append('\n');
+                previousName = metric.name();
+            }
+            if (metric.type() == MetricsRegistry.Type.SUMMARY) {
+                appendSummary(sb, metric.name(), metric.summary());
+            } else {
+                appendSample(sb, metric.name(), metric.labels(), metric.value());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendSummary(StringBuilder sb, String name, SummarySnapshot summary) {
+        appendSample(sb, name, "quantile=\"0.5\"", summary.p50());
+        appendSample(sb, name, "quantile=\"0.9\"", summary.p90());
+        appendSample(sb, name, "quantile=\"0.99\"", summary.p99());
+        appendSample(sb, name, "quantile=\"1\"", summary.max());
+        appendSample(sb, name + "_sum", "", summary.sum());
+        appendSample(sb, name + "_count", "", summary.count());
+    }
+
+    private static void appendSample(StringBuilder sb, String name, String labels, long value) {
+        sb.append(name);
+        if (!labels.isEmpty()) {
+            sb.append('{').append(labels).append('}');
+        }
+        sb.append(' ').append(value).append('\n');
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
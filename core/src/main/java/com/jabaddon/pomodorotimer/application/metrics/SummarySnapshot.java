@@ -0,0 +1,22 @@
+package com.jabaddon.pomodorotimer.application.metrics;
+
+/**
+ * The values of a summary at one point in time, as exported: count, sum of
+ * all values, the 0.5, 0.9 and 0.99 quantiles and the maximum.
+ */
+public record SummarySnapshot(long count, long sum, long p50, long p90, long p99, long max) {
+
+    public static SummarySnapshot of(LatencyHistogram histogram) {
+        return new SummarySnapshot(
+                histogram.getCount(),
+                histogram.getSum(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99),
+                histogram.getMax());
+    }
+
+    public long mean() {
+        return count == 0 ? 0 : Math.round((double) sum / count);
+    }
+}
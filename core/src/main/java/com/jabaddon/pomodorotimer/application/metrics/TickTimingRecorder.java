@@ -0,0 +1,92 @@
+package com.jabaddon.pomodorotimer.application.metrics;
+
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+
+/**
+ * Records how late scheduler ticks fire compared to when they were intended.
+ *
+ * Lateness is the difference between a tick's intended and actual fire time.
+ * Drift is how far the latest tick is from the ideal schedule of one tick per
+ * second since the session started, with paused time excluded.
+ * Shared by the scheduler adapters so both report the same numbers.
+ * Ticks are recorded from the scheduler thread; snapshots may be taken from any thread.
+ */
+public class TickTimingRecorder {
+    private static final long TICK_INTERVAL_NANOS = 1_000_000_000L;
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    private final LatencyHistogram latenessMicros = new LatencyHistogram();
+    private volatile long sessionStartNanos;
+    private volatile long pausedTotalNanos;
+    private volatile long pausedAtNanos = -1;
+    private volatile long ticks;
+    private volatile long lastDriftNanos;
+    private volatile long maxDriftNanos;
+
+    public TickTimingRecorder() {
+    }
+
+    /**
+     * Starts a new session and discards the previous session's data.
+     */
+    public void sessionStarted(long nowNanos) {
+        latenessMicros.reset();
+        sessionStartNanos = nowNanos;
+        pausedTotalNanos = 0;
+        pausedAtNanos = -1;
+        ticks = 0;
+        lastDriftNanos = 0;
+        maxDriftNanos = 0;
+    }
+
+    public void paused(long nowNanos) {
+        if (pausedAtNanos < 0) {
+            pausedAtNanos = nowNanos;
+        }
+    }
+
+    public void resumed(long nowNanos) {
+        if (pausedAtNanos >= 0) {
+            pausedTotalNanos += nowNanos - pausedAtNanos;
+            pausedAtNanos = -1;
+        }
+    }
+
+    /**
+     * Records one tick.
+     *
+     * @param intendedNanos when the scheduler meant to fire the tick
+     * @param actualNanos when the tick actually fired
+     */
+    public void tickFired(long intendedNanos, long actualNanos) {
+        latenessMicros.record((actualNanos - intendedNanos) / NANOS_PER_MICRO);
+        long tickNumber = ++ticks;
+        long idealNanos = sessionStartNanos + pausedTotalNanos + tickNumber * TICK_INTERVAL_NANOS;
+        long drift = actualNanos - idealNanos;
+        lastDriftNanos = drift;
+        if (Math.abs(drift) > Math.abs(maxDriftNanos)) {
+            maxDriftNanos = drift;
+        }
+    }
+
+    /**
+     * Returns the histogram of tick lateness in microseconds for the current session.
+     */
+    public LatencyHistogram getLatenessHistogram() {
+        return latenessMicros;
+    }
+
+    public TickStatisticsDTO snapshot() {
+        return new TickStatisticsDTO(
+                latenessMicros.getCount(),
+                (long) latenessMicros.getMean(),
+                latenessMicros.getSum(),
+                latenessMicros.getValueAtPercentile(50),
+                latenessMicros.getValueAtPercentile(90),
+                latenessMicros.getValueAtPercentile(99),
+                latenessMicros.getMax(),
+                lastDriftNanos / NANOS_PER_MICRO,
+                maxDriftNanos / NANOS_PER_MICRO
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.jabaddon.pomodorotimer.application.port.in;
+
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+
+/**
+ * Driving port (input): Query for tick lateness and drift of the current session.
+ * Used to tune scheduler settings under load.
+ */
+public interface GetTickStatisticsQuery {
+    TickStatisticsDTO getTickStatistics();
+}
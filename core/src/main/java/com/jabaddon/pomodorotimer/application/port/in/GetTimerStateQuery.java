@@ -13,9 +13,23 @@ public interface GetTimerStateQuery {
      */
     TimerCurrentStateDTO getCurrentState();
 
+    /**
+     * False while today's statistics are still being restored from history.
+     * Commands issued before then are queued and applied once it turns true.
+     */
+    boolean isReady();
+
     /**
      * Data Transfer Object containing all timer state information.
      * Immutable snapshot of timer state for UI consumption.
+     *
+     * Besides whole seconds it carries the countdown deadline on the monotonic
+     * clock of the scheduler's time source ({@code System.nanoTime() / 1_000_000}
+     * for the system one), so UIs can interpolate the remaining time between
+     * ticks without querying again. The state version
+     * changes on every tick and transition; equal versions mean equal state.
+     * While the service is still restoring history, the completed pomodoros
+     * and cycle are not final yet; see {@link #isReady()}.
      */
     class TimerCurrentStateDTO {
         private final int remainingSeconds;
@@ -23,18 +37,33 @@ public interface GetTimerStateQuery {
         private final SessionTypeDTO sessionType;
         private final int completedPomodoros;
         private final int currentCycle;
+        private final int durationSeconds;
+        private final long remainingMillis;
+        private final long deadlineMillis;
+        private final long stateVersion;
+        private final boolean ready;
 
         public TimerCurrentStateDTO(
                 int remainingSeconds,
                 TimerStateDTO state,
                 SessionTypeDTO sessionType,
                 int completedPomodoros,
-                int currentCycle) {
+                int currentCycle,
+                int durationSeconds,
+                long remainingMillis,
+                long deadlineMillis,
+                long stateVersion,
+                boolean ready) {
             this.remainingSeconds = remainingSeconds;
             this.state = state;
             this.sessionType = sessionType;
             this.completedPomodoros = completedPomodoros;
             this.currentCycle = currentCycle;
+            this.durationSeconds = durationSeconds;
+            this.remainingMillis = remainingMillis;
+            this.deadlineMillis = deadlineMillis;
+            this.stateVersion = stateVersion;
+            this.ready = ready;
         }
 
         public int getRemainingSeconds() {
@@ -57,6 +86,53 @@ public interface GetTimerStateQuery {
             return currentCycle;
         }
 
+        /**
+         * Total length of the current timer session, or 0 if none was started.
+         */
+        public int getDurationSeconds() {
+            return durationSeconds;
+        }
+
+        /**
+         * Exact remaining time when this snapshot was taken.
+         * For a paused timer this includes the part of the second already elapsed.
+         */
+        public long getRemainingMillis() {
+            return remainingMillis;
+        }
+
+        /**
+         * Monotonic time in milliseconds at which a running timer reaches zero.
+         * Only meaningful while {@link #isRunning()} is true.
+         */
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        public long getStateVersion() {
+            return stateVersion;
+        }
+
+        /**
+         * False while today's statistics are still being restored.
+         */
+        public boolean isReady() {
+            return ready;
+        }
+
+        /**
+         * Interpolates the remaining time at the given monotonic time.
+         * Running timers count down towards the deadline; any other state is frozen.
+         *
+         * @param nowMillis {@code System.nanoTime() / 1_000_000} or an equivalent reading
+         */
+        public long getRemainingMillisAt(long nowMillis) {
+            if (state == TimerStateDTO.RUNNING) {
+                return Math.max(0, Math.min(remainingMillis, deadlineMillis - nowMillis));
+            }
+            return remainingMillis;
+        }
+
         public boolean isRunning() {
             return state == TimerStateDTO.RUNNING;
         }
@@ -0,0 +1,39 @@
+package com.jabaddon.pomodorotimer.application.port.out;
+
+import java.time.Clock;
+
+/**
+ * Where the timer reads the time from.
+ *
+ * The wall clock, with its zone, stamps history records and pauses and decides
+ * which day the statistics belong to. The monotonic reading measures intervals,
+ * such as the sub-second position of the countdown. Production code uses
+ * {@link #system()}; simulations and tests supply a virtual time source that
+ * only moves when told to.
+ */
+public interface TimeSource {
+    Clock clock();
+
+    /**
+     * Monotonic time in nanoseconds, with the semantics of {@link System#nanoTime()}.
+     */
+    long nanoTime();
+
+    /**
+     * The system clock in the default time zone and {@link System#nanoTime()}.
+     */
+    static TimeSource system() {
+        Clock clock = Clock.systemDefaultZone();
+        return new TimeSource() {
+            @Override
+            public Clock clock() {
+                return clock;
+            }
+
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+        };
+    }
+}
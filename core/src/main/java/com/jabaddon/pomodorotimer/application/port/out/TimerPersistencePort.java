@@ -3,8 +3,13 @@ package com.jabaddon.pomodorotimer.application.port.out;
 import com.jabaddon.pomodorotimer.application.dto.DailyStatisticsDTO;
 import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
 
+import java.time.LocalDate;
+
 public interface TimerPersistencePort {
-    DailyStatisticsDTO loadTodayStatistics();
+    /**
+     * Statistics of the given day. The service passes today's date on its own clock.
+     */
+    DailyStatisticsDTO loadTodayStatistics(LocalDate today);
 
     void saveRecord(TimerRecordDTO recordDto);
 }
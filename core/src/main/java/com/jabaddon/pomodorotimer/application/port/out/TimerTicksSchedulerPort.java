@@ -1,5 +1,7 @@
 package com.jabaddon.pomodorotimer.application.port.out;
 
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+
 public interface TimerTicksSchedulerPort {
     void startTicking(Runnable onTick);
 
@@ -8,4 +10,18 @@ public interface TimerTicksSchedulerPort {
     void resumeTicking();
 
     void pauseTicking();
+
+    /**
+     * Returns tick lateness and drift measured since the last startTicking call.
+     */
+    TickStatisticsDTO getTickStatistics();
+
+    /**
+     * The time the ticks are scheduled on. The service reads the time from the
+     * same source, so a scheduler on virtual time gets records, pauses and
+     * daily statistics on virtual time as well.
+     */
+    default TimeSource getTimeSource() {
+        return TimeSource.system();
+    }
 }
@@ -1,7 +1,15 @@
 package com.jabaddon.pomodorotimer.application.port.out;
 
 import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
+import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
 
 public interface UIPort {
     void onTimerCompleted(SessionTypeDTO currentTypeDto, SessionTypeDTO nextTypeDto);
+
+    /**
+     * Called after every tick and every start, pause, resume, stop or reset,
+     * so UIs can render from pushed state instead of polling the query port.
+     * Nothing is pushed while the timer is idle or paused.
+     */
+    void onTimerStateChanged(GetTimerStateQuery.TimerCurrentStateDTO state);
 }
@@ -1,7 +1,18 @@
 package com.jabaddon.pomodorotimer.application.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.port.in.GetTickStatisticsQuery;
 import com.jabaddon.pomodorotimer.application.port.in.PauseTimerUseCase;
 import com.jabaddon.pomodorotimer.application.port.in.ResetTimerUseCase;
 import com.jabaddon.pomodorotimer.application.port.in.StartTimerUseCase;
@@ -9,13 +20,23 @@ import com.jabaddon.pomodorotimer.domain.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceEvent;
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceRing;
+import com.jabaddon.pomodorotimer.application.diagnostics.jfr.FlightEvents;
+import com.jabaddon.pomodorotimer.application.diagnostics.jfr.SessionEvent;
+import com.jabaddon.pomodorotimer.application.diagnostics.jfr.StateQueryBursts;
+import com.jabaddon.pomodorotimer.application.diagnostics.jfr.TickEvent;
 import com.jabaddon.pomodorotimer.application.dto.DailyStatisticsDTO;
 import com.jabaddon.pomodorotimer.application.mapper.DomainToDtoMapper;
+import com.jabaddon.pomodorotimer.application.metrics.LatencyHistogram;
+import com.jabaddon.pomodorotimer.application.metrics.MetricsRegistry;
+import com.jabaddon.pomodorotimer.application.metrics.SummarySnapshot;
 import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
 import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
 import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
 import com.jabaddon.pomodorotimer.application.port.out.NotificationPort;
 import com.jabaddon.pomodorotimer.application.port.out.TimerPersistencePort;
+import com.jabaddon.pomodorotimer.application.port.out.TimeSource;
 import com.jabaddon.pomodorotimer.application.port.out.TimerTicksSchedulerPort;
 import com.jabaddon.pomodorotimer.application.port.out.UIPort;
 
@@ -23,9 +44,28 @@ import com.jabaddon.pomodorotimer.application.port.out.UIPort;
  * Application Service implementing all use cases.
  * Orchestrates domain logic and coordinates with external systems via ports.
  * This is the heart of the hexagonal architecture.
+ *
+ * Today's statistics can be restored from history in the background: created
+ * with a restore executor, the service starts out not ready and {@link #warmUp()}
+ * loads the history off the calling thread. Commands issued meanwhile are queued
+ * and applied in order once the statistics are in place.
+ *
+ * All times come from the scheduler's {@link TimeSource}, so on a virtual-time
+ * scheduler whole days run in milliseconds. When a session starts or completes
+ * on a later day than the counts belong to, the daily counts start over.
+ *
+ * Ticks, state queries, history saves, queued commands and the timer state
+ * are counted in a {@link MetricsRegistry}; recording them does not allocate.
+ * A tick allocates only the state it publishes, and state queries reuse the
+ * published state until it changes.
+ * Ticks, session transitions and state query bursts are also Flight Recorder
+ * events (see {@link FlightEvents}), which cost nothing while no recording runs.
+ * Transitions, ticks and failures go to a {@link TraceRing} as well, for a dump
+ * of recent activity without debug logging.
  */
 public class TimerApplicationService implements
         GetTimerStateQuery,
+        GetTickStatisticsQuery,
         PauseTimerUseCase,
         ResetTimerUseCase,
         StartTimerUseCase,
@@ -40,66 +80,281 @@ public class TimerApplicationService implements
     private final NotificationPort notificationPort;
     private final TimerPersistencePort timerHistoryPort;
     private final UIPort uiUpdatePort;
+    private final TimeSource timeSource;
+
+    // Sub-second position of the countdown, on the monotonic clock. Written on the
+    // tick thread and read by buildState() on UI and query threads
+    private volatile long lastTickAtMillis;
+    private volatile long elapsedAtPauseMillis;
+    private final AtomicLong stateVersion = new AtomicLong();
+    private volatile TimerCurrentStateDTO lastState;
+
+    // Warm-up: commands wait in pendingCommands until today's statistics are restored
+    private final Executor restoreExecutor;
+    private final AtomicBoolean restoreStarted = new AtomicBoolean();
+    private final CountDownLatch restored = new CountDownLatch(1);
+    private final Queue<Runnable> pendingCommands = new ArrayDeque<>();
+    private volatile boolean ready;
+
+    // Metrics, shared with other services using the same registry
+    private final LongAdder ticksProcessed;
+    private final LongAdder stateQueries;
+    private final LatencyHistogram saveMicros;
+    private final LongAdder pendingCommandsGauge;
+    private final LongAdder[] sessionsByState;
+    private TimerState publishedState = TimerState.IDLE;
+    private final StateQueryBursts stateQueryBursts = new StateQueryBursts();
+    private final TraceRing trace;
 
+    /**
+     * Creates the service and restores today's statistics synchronously.
+     */
     public TimerApplicationService(
             TimerTicksSchedulerPort timerPort,
             NotificationPort notificationPort,
             TimerPersistencePort timerHistoryPort,
             UIPort uiUpdatePort) {
+        this(timerPort, notificationPort, timerHistoryPort, uiUpdatePort, Runnable::run);
+        restoreStarted.set(true);
+        completeRestore(loadTodayStatistics(), false);
+    }
+
+    /**
+     * Creates the service in the restoring state; {@link #warmUp()} restores
+     * today's statistics on the given executor. Metrics go to a private registry.
+     */
+    public TimerApplicationService(
+            TimerTicksSchedulerPort timerPort,
+            NotificationPort notificationPort,
+            TimerPersistencePort timerHistoryPort,
+            UIPort uiUpdatePort,
+            Executor restoreExecutor) {
+        this(timerPort, notificationPort, timerHistoryPort, uiUpdatePort, restoreExecutor, new MetricsRegistry());
+    }
+
+    /**
+     * Creates the service in the restoring state, recording its metrics in the given registry.
+     */
+    public TimerApplicationService(
+            TimerTicksSchedulerPort timerPort,
+            NotificationPort notificationPort,
+            TimerPersistencePort timerHistoryPort,
+            UIPort uiUpdatePort,
+            Executor restoreExecutor,
+            MetricsRegistry metrics) {
+        this(timerPort, notificationPort, timerHistoryPort, uiUpdatePort, restoreExecutor, metrics,
+                new TraceRing(TraceRing.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Creates the service in the restoring state, recording its metrics in the given
+     * registry and its activity in the given trace ring.
+     */
+    public TimerApplicationService(
+            TimerTicksSchedulerPort timerPort,
+            NotificationPort notificationPort,
+            TimerPersistencePort timerHistoryPort,
+            UIPort uiUpdatePort,
+            Executor restoreExecutor,
+            MetricsRegistry metrics,
+            TraceRing trace) {
 
-        
         // Store port references
         this.timerPort = timerPort;
         this.notificationPort = notificationPort;
         this.timerHistoryPort = timerHistoryPort;
         this.uiUpdatePort = uiUpdatePort;
+        this.restoreExecutor = restoreExecutor;
+        this.timeSource = timerPort.getTimeSource();
+
+        // Initialize domain objects; statistics are filled in by the restore
+        this.session = new Session(this, timeSource.clock());
+        this.trace = trace;
+
+        this.ticksProcessed = metrics.counter("pomodoro_ticks_total", "Timer ticks processed");
+        this.stateQueries = metrics.counter("pomodoro_state_queries_total", "Timer state queries answered");
+        this.saveMicros = metrics.summary("pomodoro_history_save_micros", "Time to save a record to history");
+        this.pendingCommandsGauge = metrics.gauge("pomodoro_pending_commands",
+                "Commands queued until today's statistics are restored");
+        TimerState[] states = TimerState.values();
+        this.sessionsByState = new LongAdder[states.length];
+        for (TimerState state : states) {
+            sessionsByState[state.ordinal()] = metrics.gauge("pomodoro_sessions", "state", state.name(),
+                    "Timer sessions by state");
+        }
+        sessionsByState[publishedState.ordinal()].increment();
+        metrics.summary("pomodoro_tick_lateness_micros", "Tick lateness in the current session", () -> {
+            TickStatisticsDTO stats = timerPort.getTickStatistics();
+            return new SummarySnapshot(stats.tickCount(), stats.totalLatenessMicros(), stats.p50LatenessMicros(),
+                    stats.p90LatenessMicros(), stats.p99LatenessMicros(), stats.maxLatenessMicros());
+        });
+    }
 
-        // Load today's statistics from history and initialize session
-        DailyStatisticsDTO todayStatsDto = timerHistoryPort.loadTodayStatistics();
-        DailyStatistics todayStats = DomainToDtoMapper.toDomain(todayStatsDto);
+    // ========== Warm-up ==========
+
+    /**
+     * Starts restoring today's statistics from history. Only the first call has an effect.
+     * Once restored, queued commands are applied in order and the state is published.
+     */
+    public void warmUp() {
+        if (restoreStarted.compareAndSet(false, true)) {
+            restoreExecutor.execute(() -> completeRestore(loadTodayStatistics(), true));
+        }
+    }
+
+    /**
+     * Waits until today's statistics are restored and queued commands have been applied.
+     *
+     * @return true if the service is ready, false if the timeout elapsed first
+     */
+    public boolean awaitReady(long timeout, TimeUnit unit) throws InterruptedException {
+        return restored.await(timeout, unit);
+    }
+
+    private DailyStatistics loadTodayStatistics() {
+        long start = System.nanoTime();
+        try {
+            DailyStatisticsDTO todayStatsDto = timerHistoryPort.loadTodayStatistics(LocalDate.now(timeSource.clock()));
+            long micros = (System.nanoTime() - start) / 1_000;
+            log.debug("Loaded today's statistics in {} ms", micros / 1_000);
+            trace.record(TraceEvent.RESTORE, micros, todayStatsDto.getCompletedPomodoros());
+            return DomainToDtoMapper.toDomain(todayStatsDto);
+        } catch (RuntimeException e) {
+            // A broken history must not keep the timer from starting
+            log.error("Failed to restore today's statistics: {}", e.getMessage(), e);
+            trace.record(TraceEvent.RESTORE_FAILED, 0);
+            return DailyStatistics.today(timeSource.clock());
+        }
+    }
 
-        // Initialize domain objects
-        this.session = new Session(this);
-        this.session.initializeFromTodayStats(todayStats);
-        
+    private void completeRestore(DailyStatistics todayStats, boolean publish) {
+        session.initializeFromTodayStats(todayStats);
         log.info("Restored session state: {} completed pomodoros, cycle: {}",
             todayStats.getCompletedPomodoros(), todayStats.getCurrentCycle());
+
+        // Commands queued while draining run after the ones before them; ready flips once the queue is empty
+        int applied = 0;
+        while (true) {
+            Runnable command;
+            synchronized (pendingCommands) {
+                command = pendingCommands.poll();
+                if (command == null) {
+                    ready = true;
+                    break;
+                }
+            }
+            pendingCommandsGauge.decrement();
+            try {
+                command.run();
+            } catch (RuntimeException e) {
+                log.error("Queued command failed: {}", e.getMessage(), e);
+                trace.record(TraceEvent.COMMAND_FAILED, 0);
+            }
+            applied++;
+        }
+        if (applied > 0) {
+            log.info("Applied {} command(s) queued during warm-up", applied);
+        }
+        restored.countDown();
+        if (publish) {
+            publishState();
+        }
+    }
+
+    /**
+     * Runs the command now when ready, otherwise queues it for the end of the restore.
+     */
+    private void whenReady(Runnable command) {
+        if (!ready) {
+            synchronized (pendingCommands) {
+                if (!ready) {
+                    pendingCommands.add(command);
+                    pendingCommandsGauge.increment();
+                    trace.record(TraceEvent.COMMAND_QUEUED, pendingCommands.size());
+                    return;
+                }
+            }
+        }
+        command.run();
     }
 
     // ========== StartTimerUseCase Implementation ==========
 
     @Override
     public void startNormalTimer() {
-        session.startSession();
+        whenReady(this::startNormalTimerNow);
+    }
+
+    private void startNormalTimerNow() {
+        SessionEvent event = FlightEvents.session();
+        rollOverToToday();
+        if (session.startSession()) {
+            publishState();
+            traceTransition(TraceEvent.START, session.getCurrentSessionTypeMinutes());
+            commitSessionEvent(event, SessionEvent.START, session.getCurrentSessionType(),
+                    session.getCurrentSessionTypeMinutes());
+        }
     }
 
     @Override
     public void onSessionStarted(SessionType sessionType, int minutes) {
         log.info("Session started. type={}, minutes={}, custom={}",
                 sessionType, minutes, sessionType.isCustom(minutes));
+        lastTickAtMillis = monotonicMillis();
         timerPort.startTicking(this::onTick);
     }
 
     @Override
     public void startCustomTimer(int minutes) {
-        session.startCustomSession(minutes);
+        whenReady(() -> startCustomTimerNow(minutes));
+    }
+
+    private void startCustomTimerNow(int minutes) {
+        SessionEvent event = FlightEvents.session();
+        rollOverToToday();
+        if (session.startCustomSession(minutes)) {
+            publishState();
+            traceTransition(TraceEvent.START, session.getCurrentSessionTypeMinutes());
+            commitSessionEvent(event, SessionEvent.START, session.getCurrentSessionType(),
+                    session.getCurrentSessionTypeMinutes());
+        }
     }
 
     // ========== PauseTimerUseCase Implementation ==========
 
     @Override
     public void pause() {
+        whenReady(this::pauseNow);
+    }
+
+    private void pauseNow() {
+        SessionEvent event = FlightEvents.session();
         if (session.pauseTimer()) {
+            elapsedAtPauseMillis = Math.min(1000, monotonicMillis() - lastTickAtMillis);
             // this probably should be handled with domain events?
             timerPort.pauseTicking();
+            publishState();
+            traceTransition(TraceEvent.PAUSE, session.getRemainingSeconds());
+            commitSessionEvent(event, SessionEvent.PAUSE, session.getCurrentSessionType(),
+                    session.getCurrentSessionTypeMinutes());
         }
     }
 
     @Override
     public void resume() {
+        whenReady(this::resumeNow);
+    }
+
+    private void resumeNow() {
+        SessionEvent event = FlightEvents.session();
         if (session.resumeTimer()) {
+            lastTickAtMillis = monotonicMillis() - elapsedAtPauseMillis;
            // this probably should be handled with domain events?
             timerPort.resumeTicking();
+            publishState();
+            traceTransition(TraceEvent.RESUME, session.getRemainingSeconds());
+            commitSessionEvent(event, SessionEvent.RESUME, session.getCurrentSessionType(),
+                    session.getCurrentSessionTypeMinutes());
         }
     }
 
@@ -107,6 +362,14 @@ public class TimerApplicationService implements
 
     @Override
     public void reset() {
+        whenReady(this::resetNow);
+    }
+
+    private void resetNow() {
+        SessionEvent event = FlightEvents.session();
+        SessionType sessionType = session.getCurrentSessionType();
+        int minutes = session.getCurrentSessionTypeMinutes();
+        int remainingSeconds = session.getRemainingSeconds();
         // Save to history before resetting if timer was running
         if (session.isTimerRunning() || session.isTimerPaused()) {
             handleTimerStop();
@@ -114,10 +377,21 @@ public class TimerApplicationService implements
 
         session.resetTimer();
         timerPort.stopTicking();
+        publishState();
+        trace.record(TraceEvent.RESET, sessionType.ordinal(), remainingSeconds);
+        commitSessionEvent(event, SessionEvent.RESET, sessionType, minutes);
     }
 
     @Override
     public void stop() {
+        whenReady(this::stopNow);
+    }
+
+    private void stopNow() {
+        SessionEvent event = FlightEvents.session();
+        SessionType sessionType = session.getCurrentSessionType();
+        int minutes = session.getCurrentSessionTypeMinutes();
+        int remainingSeconds = session.getRemainingSeconds();
         // Save to history before stopping if timer was running
         if (session.isTimerRunning() || session.isTimerPaused()) {
             handleTimerStop();
@@ -125,23 +399,65 @@ public class TimerApplicationService implements
 
         session.resetTimer();
         timerPort.stopTicking();
+        publishState();
+        trace.record(TraceEvent.STOP, sessionType.ordinal(), remainingSeconds);
+        commitSessionEvent(event, SessionEvent.STOP, sessionType, minutes);
     }
 
     // ========== GetTimerStateQuery Implementation ==========
 
+    /**
+     * Returns the state published last, or a new one if the state has changed
+     * since; polling an unchanged timer does not allocate.
+     */
     @Override
     public TimerCurrentStateDTO getCurrentState() {
-        TimerMemento memento = session.createTimerMemento();
-        
+        stateQueries.increment();
+        stateQueryBursts.onQuery();
+        TimerCurrentStateDTO state = lastState;
+        if (state == null || state.getStateVersion() != stateVersion.get()) {
+            state = buildState();
+            lastState = state;
+        }
+        return state;
+    }
+
+    // The version is read first, so a state is never newer than the version it carries
+    private TimerCurrentStateDTO buildState() {
+        long version = stateVersion.get();
+        TimerState state = session.getTimerState();
+        int remainingSeconds = session.getRemainingSeconds();
+        long wholeSecondsMillis = remainingSeconds * 1000L;
+        long remainingMillis = state == TimerState.PAUSED
+                ? Math.max(0, wholeSecondsMillis - elapsedAtPauseMillis)
+                : wholeSecondsMillis;
+
         return new GetTimerStateQuery.TimerCurrentStateDTO(
-                memento.remainingSeconds(),
-                DomainToDtoMapper.toDto(memento.state()),
-                DomainToDtoMapper.toDto(memento.sessionType()),
+                remainingSeconds,
+                DomainToDtoMapper.toDto(state),
+                DomainToDtoMapper.toDto(session.timerCurrentSessionType()),
                 session.getCompletedPomodoros(),
-                session.getCurrentCycle()
+                session.getCurrentCycle(),
+                session.getTimerDurationMinutes() * 60,
+                remainingMillis,
+                lastTickAtMillis + wholeSecondsMillis,
+                version,
+                ready
         );
     }
 
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ========== GetTickStatisticsQuery Implementation ==========
+
+    @Override
+    public TickStatisticsDTO getTickStatistics() {
+        return timerPort.getTickStatistics();
+    }
+
     // ========== Internal Event Handlers ==========
 
     /**
@@ -149,6 +465,10 @@ public class TimerApplicationService implements
      * This is the core timer tick logic.
      */
     private void onTick() {
+        TickEvent event = FlightEvents.tick();
+        lastTickAtMillis = monotonicMillis();
+        ticksProcessed.increment();
+
         // Play tick sound
         notificationPort.playTickSound();
 
@@ -159,26 +479,86 @@ public class TimerApplicationService implements
         if (completed) {
             handleTimerCompletion();
         }
+
+        publishState();
+        trace.record(TraceEvent.TICK, session.getRemainingSeconds(), completed ? 1 : 0);
+        if (event != null) {
+            event.commit(session.getRemainingSeconds(), completed);
+        }
+    }
+
+    /**
+     * Pushes the current state to the UI port.
+     * Called only on actual state changes, so idle and paused timers cause no UI work.
+     */
+    private void publishState() {
+        stateVersion.incrementAndGet();
+        trackState(session.getTimerState());
+        TimerCurrentStateDTO state = buildState();
+        lastState = state;
+        uiUpdatePort.onTimerStateChanged(state);
+    }
+
+    private synchronized void trackState(TimerState state) {
+        if (state != publishedState) {
+            sessionsByState[publishedState.ordinal()].decrement();
+            sessionsByState[state.ordinal()].increment();
+            publishedState = state;
+        }
+    }
+
+    /**
+     * Traces a transition of the current session; the session type goes first.
+     */
+    private void traceTransition(TraceEvent event, long argument) {
+        trace.record(event, session.getCurrentSessionType().ordinal(), argument);
+    }
+
+    private void commitSessionEvent(SessionEvent event, String action, SessionType sessionType, int minutes) {
+        if (event != null) {
+            event.commit(action, sessionType.name(), minutes, session.getCompletedPomodoros());
+        }
+    }
+
+    private void saveRecord(TimerRecord record) {
+        TimerRecordDTO recordDto = DomainToDtoMapper.toDto(record);
+        long start = System.nanoTime();
+        timerHistoryPort.saveRecord(recordDto);
+        saveMicros.record((System.nanoTime() - start) / 1_000);
+    }
+
+    private long monotonicMillis() {
+        return timeSource.nanoTime() / 1_000_000;
+    }
+
+    private void rollOverToToday() {
+        if (session.rollOverToToday()) {
+            stateVersion.incrementAndGet();
+            log.info("New day {}: daily statistics start over", session.getStatisticsDate());
+        }
     }
 
     /**
      * Handles timer completion - plays alarm, updates stats, transitions session.
      */
     private void handleTimerCompletion() {
+        SessionEvent event = FlightEvents.session();
+        logTickStatistics();
         timerPort.stopTicking();
         notificationPort.playAlarmSound();
 
         SessionType currentType = session.timerCurrentSessionType();
+        int minutes = session.getCurrentSessionTypeMinutes();
 
-        LocalDateTime finishedAt = LocalDateTime.now();
+        LocalDateTime finishedAt = LocalDateTime.now(timeSource.clock());
 
         // TODO saving record should be a domain event
         if (session.isTimerCompleted() || session.wasTimerStopped()) {
-            TimerRecord record = session.createTimerRecord(finishedAt);
-            TimerRecordDTO recordDto = DomainToDtoMapper.toDto(record);
-            timerHistoryPort.saveRecord(recordDto);
+            saveRecord(session.createTimerRecord(finishedAt));
         }
 
+        // The record counts for the day it finished on, as it does when history is restored
+        rollOverToToday();
         SessionType nextType = session.handleTimerCompletion();
 
         // Show notification (translate domain types to DTOs)
@@ -188,6 +568,8 @@ public class TimerApplicationService implements
 
         // Notify UI to reset controls (translate domain types to DTOs)
         uiUpdatePort.onTimerCompleted(currentTypeDto, nextTypeDto);
+        trace.record(TraceEvent.COMPLETE, currentType.ordinal(), session.getCompletedPomodoros());
+        commitSessionEvent(event, SessionEvent.COMPLETE, currentType, minutes);
     }
 
     /**
@@ -195,15 +577,25 @@ public class TimerApplicationService implements
      * Called when user manually stops or resets the timer.
      */
     private void handleTimerStop() {
+        logTickStatistics();
         if (session.wasTimerStopped()) {
             // Capture stop time now (before timer.stop() is called)
-            TimerRecord record = session.createTimerRecord(LocalDateTime.now());
-            TimerRecordDTO recordDto = DomainToDtoMapper.toDto(record);
-            timerHistoryPort.saveRecord(recordDto);
-            log.debug("Saved stopped timer to history: {}", record);
+            TimerRecord record = session.createTimerRecord(LocalDateTime.now(timeSource.clock()));
+            saveRecord(record);
         }
     }
 
+    /**
+     * Logs a summary of tick lateness and drift for the session that just ended.
+     */
+    private void logTickStatistics() {
+        TickStatisticsDTO stats = timerPort.getTickStatistics();
+        log.info("Tick timing: ticks={}, lateness us mean={} p50={} p90={} p99={} max={}, drift us final={} max={}",
+                stats.tickCount(), stats.meanLatenessMicros(), stats.p50LatenessMicros(),
+                stats.p90LatenessMicros(), stats.p99LatenessMicros(), stats.maxLatenessMicros(),
+                stats.cumulativeDriftMicros(), stats.maxDriftMicros());
+    }
+
     // ========== Lifecycle Methods ==========
 
     /**
@@ -211,6 +603,7 @@ public class TimerApplicationService implements
      */
     public void shutdown() {
         timerPort.stopTicking();
+        trackState(TimerState.IDLE);
     }
 
     public Integer getNormalTimerSession() {
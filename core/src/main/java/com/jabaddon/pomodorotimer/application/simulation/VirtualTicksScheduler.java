@@ -0,0 +1,130 @@
+package com.jabaddon.pomodorotimer.application.simulation;
+
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.metrics.TickTimingRecorder;
+import com.jabaddon.pomodorotimer.application.port.out.TimerTicksSchedulerPort;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer ticks scheduler on virtual time, for simulations and deterministic tests.
+ *
+ * Nothing runs on its own: {@link #advance(Duration)} moves the virtual time
+ * forward and runs every tick that falls due on the way, on the calling thread,
+ * with the time set exactly to the tick's deadline. A 25 minute session is
+ * 1500 callbacks and no waiting. Pause and resume keep the sub-second
+ * position of the countdown like the real schedulers do.
+ *
+ * Not thread-safe: create the service, issue commands and advance time from one thread.
+ */
+public class VirtualTicksScheduler implements TimerTicksSchedulerPort {
+    private static final long TICK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final VirtualTimeSource timeSource;
+    private final TickTimingRecorder tickTimingRecorder = new TickTimingRecorder();
+    private Runnable onTick;
+    private long nextTickAtNanos;
+    private long remainingAtPauseNanos = -1;
+    private long ticksFired;
+
+    public VirtualTicksScheduler(VirtualTimeSource timeSource) {
+        this.timeSource = timeSource;
+    }
+
+    @Override
+    public VirtualTimeSource getTimeSource() {
+        return timeSource;
+    }
+
+    @Override
+    public void startTicking(Runnable onTick) {
+        this.onTick = onTick;
+        this.remainingAtPauseNanos = -1;
+        long now = timeSource.nanoTime();
+        tickTimingRecorder.sessionStarted(now);
+        this.nextTickAtNanos = now + TICK_INTERVAL_NANOS;
+    }
+
+    @Override
+    public void stopTicking() {
+        this.onTick = null;
+        this.remainingAtPauseNanos = -1;
+    }
+
+    @Override
+    public void resumeTicking() {
+        if (onTick == null || remainingAtPauseNanos < 0) {
+            return;
+        }
+        long now = timeSource.nanoTime();
+        tickTimingRecorder.resumed(now);
+        nextTickAtNanos = now + remainingAtPauseNanos;
+        remainingAtPauseNanos = -1;
+    }
+
+    @Override
+    public void pauseTicking() {
+        if (!isTicking()) {
+            return;
+        }
+        long now = timeSource.nanoTime();
+        tickTimingRecorder.paused(now);
+        remainingAtPauseNanos = Math.max(0, nextTickAtNanos - now);
+    }
+
+    @Override
+    public TickStatisticsDTO getTickStatistics() {
+        return tickTimingRecorder.snapshot();
+    }
+
+    /**
+     * True while ticks are due: started and neither paused nor stopped.
+     */
+    public boolean isTicking() {
+        return onTick != null && remainingAtPauseNanos < 0;
+    }
+
+    /**
+     * Total ticks run since this scheduler was created.
+     */
+    public long getTicksFired() {
+        return ticksFired;
+    }
+
+    /**
+     * Moves time forward by the duration, running the ticks that fall due.
+     */
+    public void advance(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Time cannot move backwards");
+        }
+        long target = timeSource.nanoTime() + duration.toNanos();
+        runTicksUntil(target);
+        timeSource.advanceTo(target);
+    }
+
+    /**
+     * Runs ticks until the scheduler stops ticking (the session completed, or a
+     * tick callback paused or stopped it), but for no longer than the limit.
+     * Time is left at the last tick that ran.
+     *
+     * @return true if ticking stopped within the limit
+     */
+    public boolean advanceWhileTicking(Duration limit) {
+        runTicksUntil(timeSource.nanoTime() + limit.toNanos());
+        return !isTicking();
+    }
+
+    private void runTicksUntil(long targetNanos) {
+        while (isTicking() && nextTickAtNanos <= targetNanos) {
+            long deadline = nextTickAtNanos;
+            timeSource.advanceTo(deadline);
+            tickTimingRecorder.tickFired(deadline, deadline);
+            nextTickAtNanos = deadline + TICK_INTERVAL_NANOS;
+            ticksFired++;
+            // May stop, pause or restart ticking
+            onTick.run();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.jabaddon.pomodorotimer.application.simulation;
+
+import com.jabaddon.pomodorotimer.application.port.out.TimeSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Time that only moves when told to.
+ *
+ * Starts at a given moment and advances by {@link #advance(Duration)} or, for
+ * ticks, by {@link VirtualTicksScheduler}. The wall clock and the monotonic
+ * reading move together, so intervals measured by the timer match the
+ * timestamps it records. Reads are safe from any thread; advancing is meant
+ * for the single thread driving a simulation.
+ */
+public class VirtualTimeSource implements TimeSource {
+    private final Instant origin;
+    private final Clock clock;
+    private volatile long nanos;
+
+    public VirtualTimeSource(LocalDateTime start, ZoneId zone) {
+        this(start.atZone(zone).toInstant(), zone);
+    }
+
+    public VirtualTimeSource(Instant start, ZoneId zone) {
+        this.origin = start;
+        this.clock = new VirtualClock(zone);
+    }
+
+    @Override
+    public Clock clock() {
+        return clock;
+    }
+
+    /**
+     * Nanoseconds since the start, so the first reading is zero.
+     */
+    @Override
+    public long nanoTime() {
+        return nanos;
+    }
+
+    public LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * Moves time forward without running anything scheduled on it.
+     */
+    public void advance(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Time cannot move backwards");
+        }
+        nanos += duration.toNanos();
+    }
+
+    void advanceTo(long nanoTime) {
+        if (nanoTime > nanos) {
+            nanos = nanoTime;
+        }
+    }
+
+    private final class VirtualClock extends Clock {
+        private final ZoneId zone;
+
+        private VirtualClock(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return zone.equals(this.zone) ? this : new VirtualClock(zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return origin.plusNanos(nanos);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.jabaddon.pomodorotimer.domain.model;
 
+import java.time.Clock;
 import java.time.LocalDate;
 
 /**
@@ -41,7 +42,11 @@ public class DailyStatistics {
     }
 
     public static DailyStatistics today() {
-        return empty(LocalDate.now());
+        return today(Clock.systemDefaultZone());
+    }
+
+    public static DailyStatistics today(Clock clock) {
+        return empty(LocalDate.now(clock));
     }
 
     public void incrementPomodoros() {
@@ -70,7 +75,11 @@ public class DailyStatistics {
     }
 
     public boolean isToday() {
-        return date.equals(LocalDate.now());
+        return isToday(Clock.systemDefaultZone());
+    }
+
+    public boolean isToday(Clock clock) {
+        return date.equals(LocalDate.now(clock));
     }
 
     @Override
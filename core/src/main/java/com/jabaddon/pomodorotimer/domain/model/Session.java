@@ -1,11 +1,14 @@
 package com.jabaddon.pomodorotimer.domain.model;
 
+import java.time.Clock;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
  * Domain entity representing a Pomodoro session tracker.
  * Manages cycles, completed pomodoros, and session transitions.
  * Pure domain logic without framework dependencies.
+ * Times and the current day are read from the clock the session is created with.
  */
 public class Session {
     private static final int POMODOROS_BEFORE_LONG_BREAK = 4;
@@ -16,13 +19,21 @@ public class Session {
     private int currentSessionTypeMinutes;
     private Timer timer;
     private SessionDomainEventHandler eventHandler;
+    private final Clock clock;
+    private LocalDate statisticsDate;
 
     public Session() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public Session(Clock clock) {
+        this.clock = clock;
         this.completedPomodoros = 0;
         this.currentCycle = 0;
         this.currentSessionType = SessionType.WORK; // default session type to start
-        this.timer = new Timer();
+        this.timer = new Timer(clock);
         this.eventHandler = new NoOpSessionDomainEventHandler();
+        this.statisticsDate = LocalDate.now(clock);
     }
 
     public Session(SessionDomainEventHandler customEventHandler) {
@@ -30,6 +41,11 @@ public class Session {
         this.eventHandler = customEventHandler;
     }
 
+    public Session(SessionDomainEventHandler customEventHandler, Clock clock) {
+        this(clock);
+        this.eventHandler = customEventHandler;
+    }
+
     private void completeWorkSession() {
         if (currentSessionType == SessionType.WORK) {
             completedPomodoros++;
@@ -87,6 +103,32 @@ public class Session {
         reset();
     }
 
+    /**
+     * Starts counting a new day once the clock has passed midnight since the day
+     * the counts belong to. Only the counts are reset: the session type in
+     * progress is kept, so a break that ends after midnight is still followed by work.
+     * A clock moved backwards leaves the counts alone.
+     *
+     * @return true if a new day was started
+     */
+    public boolean rollOverToToday() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.isAfter(statisticsDate)) {
+            return false;
+        }
+        this.statisticsDate = today;
+        this.completedPomodoros = 0;
+        this.currentCycle = 0;
+        return true;
+    }
+
+    /**
+     * The day the completed pomodoros and the cycle belong to.
+     */
+    public LocalDate getStatisticsDate() {
+        return statisticsDate;
+    }
+
     // Getters and Setters
     public int getCompletedPomodoros() {
         return completedPomodoros;
@@ -104,6 +146,18 @@ public class Session {
         return currentSessionTypeMinutes;
     }
 
+    public int getRemainingSeconds() {
+        return timer.getRemainingSeconds();
+    }
+
+    public TimerState getTimerState() {
+        return timer.getState();
+    }
+
+    public int getTimerDurationMinutes() {
+        return timer.getInitialDurationMinutes();
+    }
+
     public boolean isTimerRunning() {
         return timer.isRunning();
     }
@@ -211,7 +265,8 @@ public class Session {
         return new TimerMemento(
                 timer.getSessionType(),
                 timer.getRemainingSeconds(),
-                LocalDateTime.now(),
+                timer.getInitialDurationMinutes(),
+                LocalDateTime.now(clock),
                 timer.getState()
         );
     }
@@ -219,6 +274,7 @@ public class Session {
     public void initializeFromTodayStats(DailyStatistics todayStats) {
         this.completedPomodoros = todayStats.getCompletedPomodoros();
         this.currentCycle = todayStats.getCurrentCycle();
+        this.statisticsDate = todayStats.getDate();
     }
 
     private class NoOpSessionDomainEventHandler implements SessionDomainEventHandler {
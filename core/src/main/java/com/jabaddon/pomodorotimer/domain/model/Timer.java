@@ -1,5 +1,6 @@
 package com.jabaddon.pomodorotimer.domain.model;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -8,8 +9,10 @@ import java.util.List;
 /**
  * Domain entity representing a countdown timer.
  * Contains pure business logic without any framework dependencies (no JavaFX properties).
+ * Start, pause and stop times are read from the given clock.
  */
 class Timer {
+    private final Clock clock;
     private int remainingSeconds;
     private int initialDurationMinutes;
     private TimerState state;
@@ -19,7 +22,8 @@ class Timer {
     private LocalDateTime currentPauseStartTime;
     private List<PauseRecord> pauseRecords;
 
-    Timer() {
+    Timer(Clock clock) {
+        this.clock = clock;
         this.remainingSeconds = 0;
         this.initialDurationMinutes = 0;
         this.state = TimerState.IDLE;
@@ -47,7 +51,7 @@ class Timer {
         this.remainingSeconds = minutes * 60;
         this.initialDurationMinutes = minutes;
         this.state = TimerState.RUNNING;
-        this.startedAt = LocalDateTime.now();
+        this.startedAt = LocalDateTime.now(clock);
 
         // Clear history from previous session
         clearHistory();
@@ -63,7 +67,7 @@ class Timer {
             throw new IllegalStateException("Timer is not running");
         }
         this.state = TimerState.PAUSED;
-        this.currentPauseStartTime = LocalDateTime.now();
+        this.currentPauseStartTime = LocalDateTime.now(clock);
     }
 
     /**
@@ -80,7 +84,7 @@ class Timer {
 
             // Record the pause event
             if (currentPauseStartTime != null) {
-                pauseRecords.add(new PauseRecord(currentPauseStartTime, LocalDateTime.now()));
+                pauseRecords.add(new PauseRecord(currentPauseStartTime, LocalDateTime.now(clock)));
                 currentPauseStartTime = null;
             }
         }
@@ -93,11 +97,11 @@ class Timer {
     void stop() {
         // Record stop time if timer was started
         if (startedAt != null) {
-            this.stoppedAt = LocalDateTime.now();
+            this.stoppedAt = LocalDateTime.now(clock);
 
             // If there's an active pause, close it
             if (currentPauseStartTime != null) {
-                pauseRecords.add(new PauseRecord(currentPauseStartTime, LocalDateTime.now()));
+                pauseRecords.add(new PauseRecord(currentPauseStartTime, LocalDateTime.now(clock)));
                 currentPauseStartTime = null;
             }
         }
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 public record TimerMemento(
         SessionType sessionType,
         int remainingSeconds,
+        int initialDurationMinutes,
         LocalDateTime timestamp,
         TimerState state) {
 }
@@ -18,6 +18,18 @@ module com.jabaddon.pomodorotimer.core {
     // Export public API - Data Transfer Objects
     exports com.jabaddon.pomodorotimer.application.dto;
 
+    // Export public API - Metrics primitives shared with adapters
+    exports com.jabaddon.pomodorotimer.application.metrics;
+
+    // Export public API - Diagnostics (stall watchdog) used by adapters and bootstrap
+    exports com.jabaddon.pomodorotimer.application.diagnostics;
+
+    // Export public API - Flight Recorder events committed by adapters
+    exports com.jabaddon.pomodorotimer.application.diagnostics.jfr;
+
+    // Export public API - Virtual time for simulations and deterministic tests
+    exports com.jabaddon.pomodorotimer.application.simulation;
+
     // Note: Domain remains internal
     // exports com.jabaddon.pomodorotimer.domain.model;
 
@@ -26,4 +38,7 @@ module com.jabaddon.pomodorotimer.core {
 
     // Dependencies
     requires org.slf4j;
+
+    // Flight Recorder events; transitive so adapters can commit them
+    requires transitive jdk.jfr;
 }
@@ -0,0 +1,196 @@
+package com.jabaddon.pomodorotimer.application.diagnostics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.jabaddon.pomodorotimer.application.simulation.VirtualTimeSource;
+
+@DisplayName("StallWatchdog Tests")
+class StallWatchdogTest {
+
+    private VirtualTimeSource time;
+    private StallWatchdog watchdog;
+
+    @BeforeEach
+    void setUp() {
+        time = new VirtualTimeSource(LocalDateTime.of(2024, 1, 15, 9, 0), ZoneOffset.UTC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (watchdog != null) {
+            watchdog.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Stall Detection Tests")
+    class StallDetectionTests {
+
+        @Test
+        @DisplayName("Should not record callbacks within budget")
+        void shouldNotRecordCallbacksWithinBudget() {
+            watchdog = new StallWatchdog(50, 4, time);
+            StallWatchdog.Probe probe = watchdog.probe("fast");
+
+            for (int i = 0; i < 10; i++) {
+                probe.enter();
+                time.advance(Duration.ofMillis(50));
+                probe.exit();
+            }
+
+            assertThat(watchdog.getStallCount(), is(equalTo(0L)));
+            assertThat(watchdog.getRecentStalls(), is(hasSize(0)));
+            assertThat(probe.getDurationHistogram().getCount(), is(equalTo(10L)));
+        }
+
+        @Test
+        @DisplayName("Should record a stall with stack samples of the blocked thread")
+        void shouldRecordStallWithSamples() {
+            watchdog = new StallWatchdog(10, 4, time);
+            StallWatchdog.Probe probe = watchdog.probe("slow");
+
+            probe.enter();
+            time.advance(Duration.ofMillis(40));
+            watchdog.checkProbes();
+            time.advance(Duration.ofMillis(40));
+            watchdog.checkProbes();
+            probe.exit();
+
+            List<StallWatchdog.StallRecord> stalls = watchdog.getRecentStalls();
+            assertThat(stalls, is(hasSize(1)));
+            StallWatchdog.StallRecord stall = stalls.get(0);
+            assertThat(stall.probe(), is(equalTo("slow")));
+            assertThat(stall.threadName(), is(equalTo(Thread.currentThread().getName())));
+            assertThat(stall.durationMicros(), is(equalTo(80_000L)));
+            assertThat(stall.samples(), is(hasSize(2)));
+            assertThat(stall.startedAt(), is(equalTo(time.clock().instant().minusMillis(80))));
+            assertThat(watchdog.dump(), containsString("slow on"));
+        }
+
+        @Test
+        @DisplayName("Should record a stall without samples when no check ran during it")
+        void shouldRecordStallWithoutSamples() {
+            watchdog = new StallWatchdog(10, 4, time);
+            StallWatchdog.Probe probe = watchdog.probe("unsampled");
+
+            probe.enter();
+            time.advance(Duration.ofMillis(30));
+            probe.exit();
+
+            assertThat(watchdog.getStallCount(), is(equalTo(1L)));
+            assertThat(watchdog.getRecentStalls().get(0).samples(), is(hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("Should not sample callbacks still within budget")
+        void shouldNotSampleWithinBudget() {
+            watchdog = new StallWatchdog(10, 4, time);
+            StallWatchdog.Probe probe = watchdog.probe("brief");
+
+            probe.enter();
+            time.advance(Duration.ofMillis(5));
+            watchdog.checkProbes();
+            time.advance(Duration.ofMillis(10));
+            probe.exit();
+
+            assertThat(watchdog.getRecentStalls().get(0).samples(), is(hasSize(0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Watchdog Thread Tests")
+    class WatchdogThreadTests {
+
+        @Test
+        @DisplayName("Should stay checking only while probes are used")
+        void shouldGoQuietWithoutCallbacks() {
+            watchdog = new StallWatchdog(10, 4, time);
+            StallWatchdog.Probe probe = watchdog.probe("tick");
+
+            probe.enter();
+            probe.exit();
+
+            assertThat(watchdog.checkProbes(), is(true));
+            assertThat(watchdog.checkProbes(), is(false));
+            probe.enter();
+            assertThat(watchdog.checkProbes(), is(true));
+            assertThat(watchdog.checkProbes(), is(true));
+            probe.exit();
+            assertThat(watchdog.checkProbes(), is(false));
+        }
+
+        @Test
+        @DisplayName("Should start its thread once and end it on close")
+        void shouldStartAndCloseThread() throws InterruptedException {
+            watchdog = new StallWatchdog(10, 4).start();
+            assertThat(watchdog.start(), is(watchdog));
+            assertThat(watchdogThreads(), is(hasSize(1)));
+            StallWatchdog.Probe probe = watchdog.probe("tick");
+            probe.enter();
+            probe.exit();
+
+            watchdog.close();
+            for (Thread thread : watchdogThreads()) {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            }
+
+            assertThat(watchdogThreads(), is(hasSize(0)));
+        }
+
+        private List<Thread> watchdogThreads() {
+            return Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().equals("stall-watchdog") && thread.isAlive())
+                    .toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Ring Buffer Tests")
+    class RingBufferTests {
+
+        @Test
+        @DisplayName("Should keep only the most recent stalls")
+        void shouldKeepOnlyMostRecentStalls() {
+            watchdog = new StallWatchdog(1, 2, time);
+            StallWatchdog.Probe first = watchdog.probe("first");
+            StallWatchdog.Probe second = watchdog.probe("second");
+            StallWatchdog.Probe third = watchdog.probe("third");
+
+            for (StallWatchdog.Probe probe : List.of(first, second, third)) {
+                probe.enter();
+                time.advance(Duration.ofMillis(5));
+                probe.exit();
+            }
+
+            List<StallWatchdog.StallRecord> stalls = watchdog.getRecentStalls();
+            assertThat(watchdog.getStallCount(), is(equalTo(3L)));
+            assertThat(stalls, is(hasSize(2)));
+            assertThat(stalls.get(0).probe(), is(equalTo("second")));
+            assertThat(stalls.get(1).probe(), is(equalTo("third")));
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive budget or capacity")
+        void shouldRejectInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> new StallWatchdog(0, 4));
+            assertThrows(IllegalArgumentException.class, () -> new StallWatchdog(16, 0));
+        }
+    }
+}
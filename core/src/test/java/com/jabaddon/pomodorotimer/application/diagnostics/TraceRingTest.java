@@ -0,0 +1,136 @@
+package com.jabaddon.pomodorotimer.application.diagnostics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TraceRing Tests")
+class TraceRingTest {
+
+    @Nested
+    @DisplayName("Recording Tests")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should round the capacity up to a power of two")
+        void shouldRoundCapacityUp() {
+            assertThat(new TraceRing(1).getCapacity(), is(equalTo(1)));
+            assertThat(new TraceRing(5).getCapacity(), is(equalTo(8)));
+            assertThat(new TraceRing(1024).getCapacity(), is(equalTo(1024)));
+        }
+
+        @Test
+        @DisplayName("Should keep the most recent entries, oldest first")
+        void shouldKeepMostRecentEntries() {
+            TraceRing trace = new TraceRing(4);
+            for (int i = 0; i < 10; i++) {
+                trace.record(TraceEvent.TICK, 100 - i, 0);
+            }
+
+            List<TraceRing.Entry> entries = trace.getEntries();
+            assertThat(trace.getRecordedCount(), is(equalTo(10L)));
+            assertThat(entries, hasSize(4));
+            assertThat(entries.get(0).sequence(), is(equalTo(6L)));
+            assertThat(entries.get(0).a(), is(equalTo(94L)));
+            assertThat(entries.get(3).a(), is(equalTo(91L)));
+            assertThat(entries.get(3).threadId(), is(equalTo(Thread.currentThread().threadId())));
+        }
+    }
+
+    @Nested
+    @DisplayName("Dump Tests")
+    class DumpTests {
+
+        @Test
+        @DisplayName("Should name event arguments and session types")
+        void shouldNameArgumentsAndSessionTypes() {
+            TraceRing trace = new TraceRing(8);
+            trace.record(TraceEvent.START, 0, 25);
+            trace.record(TraceEvent.HISTORY_SAVE, 850, 1200, 480_000);
+
+            String dump = trace.dump();
+
+            assertThat(dump, containsString("Trace ring (8 entries, 2 recorded, 2 shown)"));
+            assertThat(dump, containsString("START                type=WORK minutes=25\n"));
+            assertThat(dump, containsString("HISTORY_SAVE         micros=850 records=1200 bytes=480000\n"));
+            assertThat(dump, containsString(Thread.currentThread().getName()));
+        }
+
+        @Test
+        @DisplayName("Should write a dump file on the first error only within the interval")
+        void shouldDumpOnError() throws IOException {
+            Path directory = Files.createTempDirectory("trace");
+            try {
+                List<Runnable> dumps = new ArrayList<>();
+                TraceRing trace = new TraceRing(8, directory, dumps::add);
+                trace.record(TraceEvent.TICK, 3, 0);
+                trace.record(TraceEvent.HISTORY_SAVE_FAILED, 0);
+                trace.record(TraceEvent.HISTORY_SAVE_FAILED, 0);
+
+                assertThat(dumps, hasSize(1));
+                assertThat(list(directory), is(empty()));
+
+                dumps.get(0).run();
+
+                List<Path> files = list(directory);
+                assertThat(files, hasSize(1));
+                String dump = Files.readString(files.get(0));
+                assertThat(dump, containsString("TICK"));
+                assertThat(dump, containsString("HISTORY_SAVE_FAILED"));
+            } finally {
+                for (Path file : list(directory)) {
+                    Files.delete(file);
+                }
+                Files.delete(directory);
+            }
+        }
+
+        @Test
+        @DisplayName("Should dump the entries recorded up to the error, not those recorded while writing")
+        void shouldDumpSnapshotTakenAtError() throws IOException {
+            Path directory = Files.createTempDirectory("trace");
+            try {
+                List<Runnable> dumps = new ArrayList<>();
+                TraceRing trace = new TraceRing(4, directory, dumps::add);
+                trace.record(TraceEvent.TICK, 3, 0);
+                trace.record(TraceEvent.HISTORY_SAVE_FAILED, 0);
+                for (int i = 0; i < 4; i++) {
+                    trace.record(TraceEvent.START, 0, 25);
+                }
+
+                dumps.get(0).run();
+
+                String dump = Files.readString(list(directory).get(0));
+                assertThat(dump, containsString("(4 entries, 2 recorded, 2 shown)"));
+                assertThat(dump, containsString("TICK"));
+                assertThat(dump, not(containsString("START")));
+            } finally {
+                for (Path file : list(directory)) {
+                    Files.delete(file);
+                }
+                Files.delete(directory);
+            }
+        }
+
+        private List<Path> list(Path directory) throws IOException {
+            try (Stream<Path> files = Files.list(directory)) {
+                return files.toList();
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.jabaddon.pomodorotimer.application.diagnostics.jfr;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.jabaddon.pomodorotimer.application.service.TimerApplicationService;
+import com.jabaddon.pomodorotimer.application.simulation.VirtualTicksScheduler;
+import com.jabaddon.pomodorotimer.application.simulation.VirtualTimeSource;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.EmptyHistory;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.IgnoringUI;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.SilentNotifications;
+
+@DisplayName("FlightEvents Tests")
+class FlightEventsTest {
+
+    @Nested
+    @DisplayName("Recording Tests")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should record ticks and session transitions of a simulated session")
+        void shouldRecordTicksAndSessionTransitions() throws IOException {
+            VirtualTimeSource timeSource = new VirtualTimeSource(LocalDateTime.of(2024, 3, 1, 9, 0), ZoneOffset.UTC);
+            VirtualTicksScheduler scheduler = new VirtualTicksScheduler(timeSource);
+            TimerApplicationService service = new TimerApplicationService(
+                    scheduler, new SilentNotifications(), new EmptyHistory(), new IgnoringUI());
+
+            List<RecordedEvent> events;
+            try (Recording recording = new Recording()) {
+                recording.enable(TickEvent.class);
+                recording.enable(SessionEvent.class);
+                recording.start();
+
+                service.startNormalTimer();
+                scheduler.advance(Duration.ofMinutes(5));
+                service.pause();
+                service.resume();
+                scheduler.advanceWhileTicking(Duration.ofHours(1));
+
+                recording.stop();
+                Path file = Files.createTempFile("flight-events", ".jfr");
+                try {
+                    recording.dump(file);
+                    events = RecordingFile.readAllEvents(file);
+                } finally {
+                    Files.delete(file);
+                }
+            }
+
+            List<RecordedEvent> ticks = named(events, "com.jabaddon.pomodorotimer.Tick");
+            assertThat(ticks.size(), is(equalTo(25 * 60)));
+            assertThat(ticks.get(0).getInt("remainingSeconds"), is(equalTo(25 * 60 - 1)));
+            assertThat(ticks.get(ticks.size() - 1).getBoolean("completed"), is(true));
+            assertThat(ticks.get(0).getThread().getJavaName(), is(equalTo(Thread.currentThread().getName())));
+
+            List<String> actions = named(events, "com.jabaddon.pomodorotimer.Session").stream()
+                    .map(event -> event.getString("action"))
+                    .toList();
+            assertThat(actions, is(equalTo(List.of(
+                    SessionEvent.START, SessionEvent.PAUSE, SessionEvent.RESUME, SessionEvent.COMPLETE))));
+        }
+
+        private List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+            return events.stream()
+                    .filter(event -> event.getEventType().getName().equals(name))
+                    .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.jabaddon.pomodorotimer.application.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    @Nested
+    @DisplayName("Bucket Layout Tests")
+    class BucketLayoutTests {
+
+        @Test
+        @DisplayName("Should keep small values exact")
+        void shouldKeepSmallValuesExact() {
+            for (long value = 0; value < 32; value++) {
+                int index = LatencyHistogram.bucketIndex(value);
+                assertThat(LatencyHistogram.bucketLowerBound(index), is(equalTo(value)));
+                assertThat(LatencyHistogram.bucketUpperBound(index), is(equalTo(value)));
+            }
+        }
+
+        @Test
+        @DisplayName("Should place every value inside its bucket bounds")
+        void shouldPlaceValuesInsideBucketBounds() {
+            for (long value = 1; value < (1L << 40); value = value * 3 + 7) {
+                int index = LatencyHistogram.bucketIndex(value);
+                assertThat(LatencyHistogram.bucketLowerBound(index), is(lessThanOrEqualTo(value)));
+                assertThat(LatencyHistogram.bucketUpperBound(index), is(greaterThanOrEqualTo(value)));
+            }
+        }
+
+        @Test
+        @DisplayName("Should use contiguous bucket indexes")
+        void shouldUseContiguousBucketIndexes() {
+            for (int index = 1; index < LatencyHistogram.bucketIndex((1L << 40) - 1); index++) {
+                assertThat(LatencyHistogram.bucketLowerBound(index),
+                        is(equalTo(LatencyHistogram.bucketUpperBound(index - 1) + 1)));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Recording Tests")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should report zeros when empty")
+        void shouldReportZerosWhenEmpty() {
+            LatencyHistogram histogram = new LatencyHistogram();
+
+            assertThat(histogram.getCount(), is(equalTo(0L)));
+            assertThat(histogram.getMax(), is(equalTo(0L)));
+            assertThat(histogram.getValueAtPercentile(99), is(equalTo(0L)));
+        }
+
+        @Test
+        @DisplayName("Should report count, mean, max and percentiles")
+        void shouldReportStatistics() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (long value = 1; value <= 1000; value++) {
+                histogram.record(value);
+            }
+
+            assertThat(histogram.getCount(), is(equalTo(1000L)));
+            assertThat(histogram.getMax(), is(equalTo(1000L)));
+            assertThat(histogram.getMean(), is(equalTo(500.5)));
+            assertThat(histogram.getValueAtPercentile(50), is(greaterThanOrEqualTo(500L)));
+            assertThat(histogram.getValueAtPercentile(50), is(lessThanOrEqualTo(530L)));
+            assertThat(histogram.getValueAtPercentile(100), is(equalTo(1000L)));
+        }
+
+        @Test
+        @DisplayName("Should record negative values as zero")
+        void shouldRecordNegativeValuesAsZero() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(-250);
+
+            assertThat(histogram.getCount(), is(equalTo(1L)));
+            assertThat(histogram.getMax(), is(equalTo(0L)));
+        }
+
+        @Test
+        @DisplayName("Should clear values on reset")
+        void shouldClearValuesOnReset() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(42);
+            histogram.reset();
+
+            assertThat(histogram.getCount(), is(equalTo(0L)));
+            assertThat(histogram.getMax(), is(equalTo(0L)));
+            assertThat(histogram.getValueAtPercentile(50), is(equalTo(0L)));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.jabaddon.pomodorotimer.application.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MetricsRegistry Tests")
+class MetricsRegistryTest {
+
+    @Nested
+    @DisplayName("Registration Tests")
+    class RegistrationTests {
+
+        @Test
+        @DisplayName("Should return the existing metric when a name is registered again")
+        void shouldReturnExistingMetric() {
+            MetricsRegistry registry = new MetricsRegistry();
+            LongAdder first = registry.counter("pomodoro_ticks_total", "Ticks");
+            LongAdder second = registry.counter("pomodoro_ticks_total", "Ticks");
+            first.increment();
+            second.increment();
+
+            assertThat(second, is(sameInstance(first)));
+            assertThat(registry.getMetrics(), hasSize(1));
+            assertThat(registry.getMetrics().get(0).value(), is(equalTo(2L)));
+        }
+
+        @Test
+        @DisplayName("Should keep one series per label value")
+        void shouldKeepOneSeriesPerLabel() {
+            MetricsRegistry registry = new MetricsRegistry();
+            registry.gauge("pomodoro_sessions", "state", "RUNNING", "Sessions").increment();
+            registry.gauge("pomodoro_sessions", "state", "IDLE", "Sessions");
+
+            assertThat(registry.getMetrics(), hasSize(2));
+            assertThat(registry.getMetrics().get(0).labels(), is(equalTo("state=\"IDLE\"")));
+            assertThat(registry.getMetrics().get(1).value(), is(equalTo(1L)));
+        }
+
+        @Test
+        @DisplayName("Should reject a name registered with another type")
+        void shouldRejectTypeMismatch() {
+            MetricsRegistry registry = new MetricsRegistry();
+            registry.counter("pomodoro_saves", "Saves");
+
+            assertThrows(IllegalArgumentException.class, () -> registry.summary("pomodoro_saves", "Saves"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Prometheus Text Format Tests")
+    class PrometheusTextFormatTests {
+
+        @Test
+        @DisplayName("Should write help and type once per metric name")
+        void shouldWriteHelpAndTypeOncePerName() {
+            MetricsRegistry registry = new MetricsRegistry();
+            registry.gauge("pomodoro_sessions", "state", "IDLE", "Timer sessions by state").increment();
+            registry.gauge("pomodoro_sessions", "state", "RUNNING", "Timer sessions by state");
+            registry.gauge("pomodoro_history_records", null, null, "Records", () -> 42);
+
+            String text = PrometheusTextFormat.format(registry);
+
+            assertThat(text, is(equalTo("""
+                    # HELP pomodoro_history_records Records
+                    # TYPE pomodoro_history_records gauge
+                    pomodoro_history_records 42
+                    # HELP pomodoro_sessions Timer sessions by state
+                    # TYPE pomodoro_sessions gauge
+                    pomodoro_sessions{state="IDLE"} 1
+                    pomodoro_sessions{state="RUNNING"} 0
+                    """)));
+        }
+
+        @Test
+        @DisplayName("Should write summaries as quantiles, sum and count")
+        void shouldWriteSummaries() {
+            MetricsRegistry registry = new MetricsRegistry();
+            LatencyHistogram histogram = registry.summary("pomodoro_history_save_micros", "Save time");
+            for (long value = 1; value <= 10; value++) {
+                histogram.record(value);
+            }
+
+            String text = PrometheusTextFormat.format(registry);
+
+            assertThat(text, containsString("# TYPE pomodoro_history_save_micros summary\n"));
+            assertThat(text, containsString("pomodoro_history_save_micros{quantile=\"0.5\"} 5\n"));
+            assertThat(text, containsString("pomodoro_history_save_micros{quantile=\"1\"} 10\n"));
+            assertThat(text, containsString("pomodoro_history_save_micros_sum 55\n"));
+            assertThat(text, containsString("pomodoro_history_save_micros_count 10\n"));
+        }
+
+        @Test
+        @DisplayName("Should write pulled summaries with the supplier's values")
+        void shouldWritePulledSummaries() {
+            MetricsRegistry registry = new MetricsRegistry();
+            registry.summary("pomodoro_tick_lateness_micros", "Tick lateness",
+                    () -> new SummarySnapshot(4, 1000, 200, 300, 350, 400));
+
+            String text = PrometheusTextFormat.format(registry);
+
+            assertThat(text, is(equalTo("""
+                    # HELP pomodoro_tick_lateness_micros Tick lateness
+                    # TYPE pomodoro_tick_lateness_micros summary
+                    pomodoro_tick_lateness_micros{quantile="0.5"} 200
+                    pomodoro_tick_lateness_micros{quantile="0.9"} 300
+                    pomodoro_tick_lateness_micros{quantile="0.99"} 350
+                    pomodoro_tick_lateness_micros{quantile="1"} 400
+                    pomodoro_tick_lateness_micros_sum 1000
+                    pomodoro_tick_lateness_micros_count 4
+                    """)));
+        }
+    }
+}
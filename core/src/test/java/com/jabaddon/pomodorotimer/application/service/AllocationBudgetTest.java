@@ -0,0 +1,178 @@
+package com.jabaddon.pomodorotimer.application.service;
+
+import static com.jabaddon.pomodorotimer.application.testing.AllocationMeter.SLACK_BYTES;
+import static com.jabaddon.pomodorotimer.application.testing.AllocationMeter.WARM_UP_ROUNDS;
+import static com.jabaddon.pomodorotimer.application.testing.AllocationMeter.allocatedBytes;
+import static com.jabaddon.pomodorotimer.application.testing.AllocationMeter.measure;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceEvent;
+import com.jabaddon.pomodorotimer.application.diagnostics.TraceRing;
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerStateDTO;
+import com.jabaddon.pomodorotimer.application.metrics.MetricsRegistry;
+import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
+import com.jabaddon.pomodorotimer.application.port.out.TimerTicksSchedulerPort;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.EmptyHistory;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.LastStateUI;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.SilentNotifications;
+
+/**
+ * Guards the paths that run every second, or on every poll, all day: each is
+ * called {@link #CALLS} times after warming up and the bytes the calling thread
+ * allocated are compared with a fixed budget. A change that adds garbage per
+ * tick or per query fails here rather than as GC pressure in a long-running UI.
+ */
+@DisplayName("Allocation Budget Tests")
+class AllocationBudgetTest {
+    private static final int CALLS = 10_000;
+
+    private CapturingScheduler scheduler;
+    private LastStateUI ui;
+    private TimerApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new CapturingScheduler();
+        ui = new LastStateUI();
+        service = new TimerApplicationService(scheduler, new SilentNotifications(), new EmptyHistory(), ui,
+                Runnable::run, new MetricsRegistry(), new TraceRing(TraceRing.DEFAULT_CAPACITY));
+        service.warmUp();
+    }
+
+    private void ticks() {
+        Runnable onTick = scheduler.onTick;
+        for (int i = 0; i < CALLS; i++) {
+            onTick.run();
+        }
+    }
+
+    @Nested
+    @DisplayName("Tick Tests")
+    class TickTests {
+
+        @Test
+        @DisplayName("Should allocate no more per tick than the state it publishes")
+        void shouldAllocateOnlyPublishedState() {
+            long stateBytes = allocatedBytes(() -> {
+                for (int i = 0; i < CALLS; i++) {
+                    ui.last = new GetTimerStateQuery.TimerCurrentStateDTO(
+                            i, TimerStateDTO.RUNNING, null, 0, 0, 0, 0, 0, i, true);
+                }
+            });
+
+            // Each round starts a session long enough for all of its ticks; only the ticks are measured.
+            // The smallest round counts, so a one-off allocation during a round does not fail the budget
+            long tickBytes = Long.MAX_VALUE;
+            for (int round = 0; round <= WARM_UP_ROUNDS; round++) {
+                service.startCustomTimer(CALLS / 60 + 1);
+                tickBytes = Math.min(tickBytes, measure(AllocationBudgetTest.this::ticks));
+                service.reset();
+            }
+
+            assertThat(tickBytes, is(lessThanOrEqualTo(stateBytes + SLACK_BYTES)));
+        }
+
+        @Test
+        @DisplayName("Should record ticks in the trace ring without allocating")
+        void shouldTraceWithoutAllocating() {
+            TraceRing trace = new TraceRing(TraceRing.DEFAULT_CAPACITY);
+
+            long bytes = allocatedBytes(() -> {
+                for (int i = 0; i < CALLS; i++) {
+                    trace.record(TraceEvent.TICK, i, 0);
+                }
+            });
+
+            assertThat(bytes, is(lessThanOrEqualTo(SLACK_BYTES)));
+        }
+    }
+
+    @Nested
+    @DisplayName("State Query Tests")
+    class StateQueryTests {
+
+        @Test
+        @DisplayName("Should answer queries on a running timer without allocating")
+        void shouldNotAllocateWhileRunning() {
+            service.startCustomTimer(25);
+            scheduler.onTick.run();
+
+            long bytes = allocatedBytes(() -> {
+                for (int i = 0; i < CALLS; i++) {
+                    ui.last = service.getCurrentState();
+                }
+            });
+
+            assertThat(bytes, is(lessThanOrEqualTo(SLACK_BYTES)));
+            assertThat(ui.last.getRemainingSeconds(), is(equalTo(25 * 60 - 1)));
+        }
+
+        @Test
+        @DisplayName("Should answer queries on an idle or paused timer without allocating")
+        void shouldNotAllocateWhileIdleOrPaused() {
+            long idleBytes = allocatedBytes(() -> {
+                for (int i = 0; i < CALLS; i++) {
+                    ui.last = service.getCurrentState();
+                }
+            });
+            service.startCustomTimer(25);
+            service.pause();
+            long pausedBytes = allocatedBytes(() -> {
+                for (int i = 0; i < CALLS; i++) {
+                    ui.last = service.getCurrentState();
+                }
+            });
+
+            assertThat(idleBytes, is(lessThanOrEqualTo(SLACK_BYTES)));
+            assertThat(pausedBytes, is(lessThanOrEqualTo(SLACK_BYTES)));
+            assertThat(ui.last.getState(), is(equalTo(TimerStateDTO.PAUSED)));
+        }
+
+        @Test
+        @DisplayName("Should return a new state once the timer changed")
+        void shouldReturnNewStateAfterChange() {
+            service.startCustomTimer(25);
+            GetTimerStateQuery.TimerCurrentStateDTO before = service.getCurrentState();
+            scheduler.onTick.run();
+
+            assertThat(service.getCurrentState().getRemainingSeconds(),
+                    is(equalTo(before.getRemainingSeconds() - 1)));
+            assertThat(service.getCurrentState().getStateVersion(), is(equalTo(before.getStateVersion() + 1)));
+        }
+    }
+
+    private static class CapturingScheduler implements TimerTicksSchedulerPort {
+        Runnable onTick;
+
+        @Override
+        public void startTicking(Runnable onTick) {
+            this.onTick = onTick;
+        }
+
+        @Override
+        public void stopTicking() {
+        }
+
+        @Override
+        public void resumeTicking() {
+        }
+
+        @Override
+        public void pauseTicking() {
+        }
+
+        @Override
+        public TickStatisticsDTO getTickStatistics() {
+            return TickStatisticsDTO.empty();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.jabaddon.pomodorotimer.application.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.jabaddon.pomodorotimer.application.dto.DailyStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
+import com.jabaddon.pomodorotimer.application.dto.TickStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerStateDTO;
+import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
+import com.jabaddon.pomodorotimer.application.port.out.TimerPersistencePort;
+import com.jabaddon.pomodorotimer.application.port.out.TimerTicksSchedulerPort;
+import com.jabaddon.pomodorotimer.application.port.out.UIPort;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.SilentNotifications;
+
+@DisplayName("TimerApplicationService Tests")
+class TimerApplicationServiceTest {
+
+    private RecordingScheduler scheduler;
+    private StubPersistence persistence;
+    private RecordingUI ui;
+    private ManualExecutor restoreExecutor;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new RecordingScheduler();
+        persistence = new StubPersistence(3);
+        ui = new RecordingUI();
+        restoreExecutor = new ManualExecutor();
+    }
+
+    private TimerApplicationService createWarmingUpService() {
+        return new TimerApplicationService(scheduler, new SilentNotifications(), persistence, ui, restoreExecutor);
+    }
+
+    @Nested
+    @DisplayName("Synchronous Restore Tests")
+    class SynchronousRestoreTests {
+
+        @Test
+        @DisplayName("Should be ready with today's statistics right after construction")
+        void shouldBeReadyAfterConstruction() {
+            TimerApplicationService service = new TimerApplicationService(
+                    scheduler, new SilentNotifications(), persistence, ui);
+
+            assertThat(service.isReady(), is(true));
+            assertThat(service.getCurrentState().isReady(), is(true));
+            assertThat(service.getCurrentState().getCompletedPomodoros(), is(equalTo(3)));
+            assertThat(ui.states, hasSize(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Warm-up Tests")
+    class WarmUpTests {
+
+        @Test
+        @DisplayName("Should start in the restoring state without reading history")
+        void shouldStartRestoring() {
+            TimerApplicationService service = createWarmingUpService();
+            service.warmUp();
+
+            assertThat(service.isReady(), is(false));
+            assertThat(service.getCurrentState().isReady(), is(false));
+            assertThat(service.getCurrentState().getCompletedPomodoros(), is(equalTo(0)));
+            assertThat(persistence.loads, is(equalTo(0)));
+        }
+
+        @Test
+        @DisplayName("Should restore statistics and publish a ready state")
+        void shouldRestoreAndPublish() {
+            TimerApplicationService service = createWarmingUpService();
+            service.warmUp();
+            restoreExecutor.runAll();
+
+            assertThat(service.isReady(), is(true));
+            assertThat(service.getCurrentState().getCompletedPomodoros(), is(equalTo(3)));
+            assertThat(ui.states, hasSize(1));
+            assertThat(ui.states.get(0).isReady(), is(true));
+        }
+
+        @Test
+        @DisplayName("Should apply commands issued during warm-up in order")
+        void shouldApplyQueuedCommandsInOrder() {
+            TimerApplicationService service = createWarmingUpService();
+            service.warmUp();
+
+            service.startNormalTimer();
+            service.pause();
+            service.resume();
+            service.pause();
+
+            assertThat(scheduler.calls, hasSize(0));
+            assertThat(service.getCurrentState().getState(), is(equalTo(TimerStateDTO.IDLE)));
+
+            restoreExecutor.runAll();
+
+            assertThat(scheduler.calls, contains("start", "pause", "resume", "pause"));
+            assertThat(service.getCurrentState().getState(), is(equalTo(TimerStateDTO.PAUSED)));
+            assertThat(service.getCurrentState().getCompletedPomodoros(), is(equalTo(3)));
+        }
+
+        @Test
+        @DisplayName("Should run commands immediately once ready")
+        void shouldRunCommandsImmediatelyWhenReady() {
+            TimerApplicationService service = createWarmingUpService();
+            service.warmUp();
+            restoreExecutor.runAll();
+
+            service.startCustomTimer(5);
+
+            assertThat(scheduler.calls, contains("start"));
+            assertThat(service.getCurrentState().getRemainingSeconds(), is(equalTo(300)));
+        }
+
+        @Test
+        @DisplayName("Should restore only once when warmed up repeatedly")
+        void shouldRestoreOnlyOnce() {
+            TimerApplicationService service = createWarmingUpService();
+            service.warmUp();
+            service.warmUp();
+
+            assertThat(restoreExecutor.tasks, hasSize(1));
+        }
+
+        @Test
+        @DisplayName("Should become ready with empty statistics when history cannot be read")
+        void shouldBecomeReadyWhenRestoreFails() {
+            persistence.failure = new IllegalStateException("corrupt history");
+            TimerApplicationService service = createWarmingUpService();
+            service.warmUp();
+            service.startNormalTimer();
+            restoreExecutor.runAll();
+
+            assertThat(service.isReady(), is(true));
+            assertThat(service.getCurrentState().getCompletedPomodoros(), is(equalTo(0)));
+            assertThat(scheduler.calls, contains("start"));
+        }
+    }
+
+    private static class ManualExecutor implements Executor {
+        final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            List<Runnable> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            pending.forEach(Runnable::run);
+        }
+    }
+
+    private static class RecordingScheduler implements TimerTicksSchedulerPort {
+        final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void startTicking(Runnable onTick) {
+            calls.add("start");
+        }
+
+        @Override
+        public void stopTicking() {
+            calls.add("stop");
+        }
+
+        @Override
+        public void resumeTicking() {
+            calls.add("resume");
+        }
+
+        @Override
+        public void pauseTicking() {
+            calls.add("pause");
+        }
+
+        @Override
+        public TickStatisticsDTO getTickStatistics() {
+            return TickStatisticsDTO.empty();
+        }
+    }
+
+    private static class StubPersistence implements TimerPersistencePort {
+        private final int completedPomodoros;
+        int loads;
+        RuntimeException failure;
+
+        StubPersistence(int completedPomodoros) {
+            this.completedPomodoros = completedPomodoros;
+        }
+
+        @Override
+        public DailyStatisticsDTO loadTodayStatistics(LocalDate today) {
+            loads++;
+            if (failure != null) {
+                throw failure;
+            }
+            return new DailyStatisticsDTO(today, completedPomodoros, completedPomodoros % 4);
+        }
+
+        @Override
+        public void saveRecord(TimerRecordDTO recordDto) {
+        }
+    }
+
+    private static class RecordingUI implements UIPort {
+        final List<GetTimerStateQuery.TimerCurrentStateDTO> states = new ArrayList<>();
+
+        @Override
+        public void onTimerCompleted(SessionTypeDTO currentTypeDto, SessionTypeDTO nextTypeDto) {
+        }
+
+        @Override
+        public void onTimerStateChanged(GetTimerStateQuery.TimerCurrentStateDTO state) {
+            states.add(state);
+        }
+    }
+}
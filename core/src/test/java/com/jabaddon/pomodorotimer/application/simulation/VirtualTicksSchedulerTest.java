@@ -0,0 +1,201 @@
+package com.jabaddon.pomodorotimer.application.simulation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.jabaddon.pomodorotimer.application.dto.DailyStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.dto.FinishReasonDTO;
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeEnumDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerStateDTO;
+import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
+import com.jabaddon.pomodorotimer.application.port.out.TimerPersistencePort;
+import com.jabaddon.pomodorotimer.application.service.TimerApplicationService;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.IgnoringUI;
+import com.jabaddon.pomodorotimer.application.testing.StubPorts.SilentNotifications;
+
+@DisplayName("VirtualTicksScheduler Tests")
+class VirtualTicksSchedulerTest {
+    private static final LocalDateTime MORNING = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    private VirtualTimeSource timeSource;
+    private VirtualTicksScheduler scheduler;
+    private HistoryByDay history;
+
+    @BeforeEach
+    void setUp() {
+        history = new HistoryByDay();
+    }
+
+    private TimerApplicationService createService(LocalDateTime start) {
+        timeSource = new VirtualTimeSource(start, ZoneOffset.UTC);
+        scheduler = new VirtualTicksScheduler(timeSource);
+        return new TimerApplicationService(scheduler, new SilentNotifications(), history, new IgnoringUI());
+    }
+
+    @Nested
+    @DisplayName("Tick Scheduling Tests")
+    class TickSchedulingTests {
+
+        @Test
+        @DisplayName("Should run one tick per virtual second only when time is advanced")
+        void shouldTickOnlyWhenAdvanced() {
+            timeSource = new VirtualTimeSource(MORNING, ZoneOffset.UTC);
+            scheduler = new VirtualTicksScheduler(timeSource);
+            List<Long> ticksAt = new ArrayList<>();
+            scheduler.startTicking(() -> ticksAt.add(timeSource.nanoTime()));
+
+            assertThat(ticksAt, hasSize(0));
+            scheduler.advance(Duration.ofMillis(3500));
+
+            assertThat(ticksAt, is(equalTo(List.of(1_000_000_000L, 2_000_000_000L, 3_000_000_000L))));
+            assertThat(timeSource.now(), is(equalTo(MORNING.plusNanos(3_500_000_000L))));
+            assertThat(scheduler.getTickStatistics().maxLatenessMicros(), is(equalTo(0L)));
+        }
+
+        @Test
+        @DisplayName("Should keep the sub-second position across a pause")
+        void shouldKeepSubSecondPositionAcrossPause() {
+            timeSource = new VirtualTimeSource(MORNING, ZoneOffset.UTC);
+            scheduler = new VirtualTicksScheduler(timeSource);
+            List<Long> ticksAt = new ArrayList<>();
+            scheduler.startTicking(() -> ticksAt.add(timeSource.nanoTime()));
+
+            scheduler.advance(Duration.ofMillis(1300));
+            scheduler.pauseTicking();
+            scheduler.advance(Duration.ofMinutes(10));
+            scheduler.resumeTicking();
+            scheduler.advance(Duration.ofMillis(700));
+
+            long resumedAt = Duration.ofMillis(1300).plusMinutes(10).toNanos();
+            assertThat(ticksAt, is(equalTo(List.of(1_000_000_000L, resumedAt + 700_000_000L))));
+        }
+    }
+
+    @Nested
+    @DisplayName("Simulated Session Tests")
+    class SimulatedSessionTests {
+
+        @Test
+        @DisplayName("Should complete a work session with virtual timestamps and pauses")
+        void shouldCompleteWorkSessionOnVirtualTime() {
+            TimerApplicationService service = createService(MORNING);
+
+            service.startNormalTimer();
+            scheduler.advance(Duration.ofMinutes(10));
+            service.pause();
+            timeSource.advance(Duration.ofMinutes(3));
+            service.resume();
+            boolean stopped = scheduler.advanceWhileTicking(Duration.ofHours(1));
+
+            assertThat(stopped, is(true));
+            assertThat(scheduler.getTicksFired(), is(equalTo(25L * 60)));
+            assertThat(history.records, hasSize(1));
+            TimerRecordDTO record = history.records.get(0);
+            assertThat(record.getReason(), is(equalTo(FinishReasonDTO.COMPLETED)));
+            assertThat(record.getStartedAt(), is(equalTo(MORNING)));
+            assertThat(record.getFinishedAt(), is(equalTo(MORNING.plusMinutes(28))));
+            assertThat(record.getPauseRecords(), hasSize(1));
+            assertThat(record.getPauseRecords().get(0).getPausedAt(), is(equalTo(MORNING.plusMinutes(10))));
+            assertThat(service.getCurrentState().getCompletedPomodoros(), is(equalTo(1)));
+        }
+
+        @Test
+        @DisplayName("Should simulate a full day of pomodoros")
+        void shouldSimulateFullDay() {
+            TimerApplicationService service = createService(MORNING);
+
+            for (int i = 0; i < 16; i++) {
+                service.startNormalTimer();
+                scheduler.advanceWhileTicking(Duration.ofHours(1));
+            }
+
+            GetTimerStateQuery.TimerCurrentStateDTO state = service.getCurrentState();
+            assertThat(state.getCompletedPomodoros(), is(equalTo(8)));
+            assertThat(state.getState(), is(equalTo(TimerStateDTO.COMPLETED)));
+            assertThat(history.completedWork(MORNING.toLocalDate()), is(equalTo(8)));
+            // 8 x 25 min work, 6 x 5 min short and 2 x 15 min long breaks back to back
+            assertThat(timeSource.now(), is(equalTo(MORNING.plusMinutes(8 * 25 + 6 * 5 + 2 * 15))));
+        }
+    }
+
+    @Nested
+    @DisplayName("Midnight Rollover Tests")
+    class MidnightRolloverTests {
+
+        @Test
+        @DisplayName("Should count a session finishing after midnight for the new day")
+        void shouldCountSessionFinishingAfterMidnightForNewDay() {
+            history.completedToday = 5;
+            TimerApplicationService service = createService(LocalDateTime.of(2024, 3, 1, 23, 50));
+            assertThat(service.getCurrentState().getCompletedPomodoros(), is(equalTo(5)));
+
+            service.startNormalTimer();
+            scheduler.advanceWhileTicking(Duration.ofHours(1));
+
+            LocalDate nextDay = LocalDate.of(2024, 3, 2);
+            assertThat(history.records.get(0).getFinishedAt().toLocalDate(), is(equalTo(nextDay)));
+            GetTimerStateQuery.TimerCurrentStateDTO state = service.getCurrentState();
+            assertThat(state.getCompletedPomodoros(), is(equalTo(history.completedWork(nextDay))));
+            assertThat(state.getCompletedPomodoros(), is(equalTo(1)));
+            assertThat(state.getCurrentCycle(), is(equalTo(1)));
+        }
+
+        @Test
+        @DisplayName("Should start the count over when the first session of a new day starts")
+        void shouldStartCountOverOnNewDay() {
+            TimerApplicationService service = createService(LocalDateTime.of(2024, 3, 1, 21, 0));
+            service.startNormalTimer();
+            scheduler.advanceWhileTicking(Duration.ofHours(1));
+            assertThat(service.getCurrentState().getCompletedPomodoros(), is(equalTo(1)));
+
+            timeSource.advance(Duration.ofHours(12));
+            service.startNormalTimer();
+
+            GetTimerStateQuery.TimerCurrentStateDTO state = service.getCurrentState();
+            assertThat(state.getCompletedPomodoros(), is(equalTo(0)));
+            assertThat(state.getCurrentCycle(), is(equalTo(0)));
+            assertThat(state.getSessionType().sessionType(), is(equalTo(SessionTypeEnumDTO.SHORT_BREAK)));
+        }
+    }
+
+    /**
+     * Keeps saved records and answers statistics by finish date, like the file adapter.
+     */
+    private static class HistoryByDay implements TimerPersistencePort {
+        final List<TimerRecordDTO> records = new ArrayList<>();
+        int completedToday;
+
+        @Override
+        public DailyStatisticsDTO loadTodayStatistics(LocalDate today) {
+            return new DailyStatisticsDTO(today, completedToday, completedToday % 4);
+        }
+
+        @Override
+        public void saveRecord(TimerRecordDTO recordDto) {
+            records.add(recordDto);
+        }
+
+        int completedWork(LocalDate date) {
+            return (int) records.stream()
+                    .filter(record -> record.getFinishedAt().toLocalDate().equals(date))
+                    .filter(record -> record.getReason() == FinishReasonDTO.COMPLETED)
+                    .filter(record -> record.getSessionType().sessionType() == SessionTypeEnumDTO.WORK)
+                    .count();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.jabaddon.pomodorotimer.application.testing;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes the calling thread allocates while running some code,
+ * with the JVM's per-thread allocation counter. Shared by the allocation
+ * budget tests of the core and the UI adapters.
+ */
+public final class AllocationMeter {
+    /**
+     * Rounds run before measuring, so the measured code has been compiled.
+     */
+    public static final int WARM_UP_ROUNDS = 5;
+    /**
+     * Room for a rare allocation outside the measured code, not for one per call.
+     */
+    public static final long SLACK_BYTES = 1024;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Bytes allocated by one round of calls, measured after the same calls ran
+     * often enough to be compiled.
+     */
+    public static long allocatedBytes(Runnable round) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            round.run();
+        }
+        return measure(round);
+    }
+
+    /**
+     * Bytes allocated by one run, without warming up.
+     */
+    public static long measure(Runnable round) {
+        long threadId = Thread.currentThread().threadId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        round.run();
+        return THREADS.getThreadAllocatedBytes(threadId) - before;
+    }
+}
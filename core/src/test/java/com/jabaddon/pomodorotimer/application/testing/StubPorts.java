@@ -0,0 +1,76 @@
+package com.jabaddon.pomodorotimer.application.testing;
+
+import com.jabaddon.pomodorotimer.application.dto.DailyStatisticsDTO;
+import com.jabaddon.pomodorotimer.application.dto.SessionTypeDTO;
+import com.jabaddon.pomodorotimer.application.dto.TimerRecordDTO;
+import com.jabaddon.pomodorotimer.application.port.in.GetTimerStateQuery;
+import com.jabaddon.pomodorotimer.application.port.out.NotificationPort;
+import com.jabaddon.pomodorotimer.application.port.out.TimerPersistencePort;
+import com.jabaddon.pomodorotimer.application.port.out.UIPort;
+
+import java.time.LocalDate;
+
+/**
+ * Do-nothing implementations of the driven ports, for wiring a
+ * {@code TimerApplicationService} in tests, benchmarks and harnesses
+ * that only care about the other ports.
+ */
+public final class StubPorts {
+
+    private StubPorts() {
+    }
+
+    public static class SilentNotifications implements NotificationPort {
+        @Override
+        public void playTickSound() {
+        }
+
+        @Override
+        public void playAlarmSound() {
+        }
+
+        @Override
+        public void showCompletionNotification(SessionTypeDTO currentTypeDto, SessionTypeDTO nextTypeDto) {
+        }
+    }
+
+    /**
+     * A history with nothing in it; saved records are dropped.
+     */
+    public static class EmptyHistory implements TimerPersistencePort {
+        @Override
+        public DailyStatisticsDTO loadTodayStatistics(LocalDate today) {
+            return new DailyStatisticsDTO(today, 0, 0);
+        }
+
+        @Override
+        public void saveRecord(TimerRecordDTO recordDto) {
+        }
+    }
+
+    public static class IgnoringUI implements UIPort {
+        @Override
+        public void onTimerCompleted(SessionTypeDTO currentTypeDto, SessionTypeDTO nextTypeDto) {
+        }
+
+        @Override
+        public void onTimerStateChanged(GetTimerStateQuery.TimerCurrentStateDTO state) {
+        }
+    }
+
+    /**
+     * Keeps the last state so that it escapes, as it does in a real UI.
+     */
+    public static class LastStateUI implements UIPort {
+        public volatile GetTimerStateQuery.TimerCurrentStateDTO last;
+
+        @Override
+        public void onTimerCompleted(SessionTypeDTO currentTypeDto, SessionTypeDTO nextTypeDto) {
+        }
+
+        @Override
+        public void onTimerStateChanged(GetTimerStateQuery.TimerCurrentStateDTO state) {
+            last = state;
+        }
+    }
+}
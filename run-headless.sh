@@ -0,0 +1,17 @@
+#!/bin/bash
+# Run the Spring-free headless timer from root of the project.
+# Commands are read from stdin, one per line; arguments run first:
+#   ./run-headless.sh start 25 < /dev/null
+# Uses the jars from scripts/build-fast-start.sh when present. The JVM writes a
+# class-data-sharing archive on the first run and maps it on later ones, which
+# takes most of the Jackson class loading off the startup path.
+
+FAST_START="app-bootstrap/target/fast-start/shell"
+if [ -f "$FAST_START/app.jar" ]; then
+    exec java -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile="$FAST_START/headless.jsa" \
+        -cp "$FAST_START/app.jar:$(ls "$FAST_START"/lib/*.jar | tr '\n' ':')" \
+        com.jabaddon.pomodorotimer.headless.HeadlessLauncher "$@"
+fi
+
+mvn -q install -DskipTests
+mvn -q exec:java -pl app-bootstrap -Dexec.mainClass="com.jabaddon.pomodorotimer.headless.HeadlessLauncher" -Dexec.args="$*"
@@ -1,5 +1,13 @@
 #!/bin/bash
 # Run Pomodoro Timer with JavaFX UI from root of the project
+# Uses the AOT + CDS artifacts from scripts/build-fast-start.sh when present.
+
+FAST_START="app-bootstrap/target/fast-start/javafx"
+if [ -f "$FAST_START/app.jsa" ]; then
+    exec java -XX:SharedArchiveFile="$FAST_START/app.jsa" -Dspring.aot.enabled=true \
+        -cp "$FAST_START/app.jar:$(ls "$FAST_START"/lib/*.jar | tr '\n' ':')" \
+        com.jabaddon.pomodorotimer.PomodoroTimerApplication --spring.profiles.active=javafx "$@"
+fi
 
 mvn clean build -DskipTests
 SPRING_PROFILES_ACTIVE=javafx mvn exec:java -pl app-bootstrap -Dexec.mainClass="com.jabaddon.pomodorotimer.PomodoroTimerApplication"
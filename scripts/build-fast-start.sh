@@ -0,0 +1,43 @@
+#!/bin/bash
+# Builds fast-start artifacts for the given UI profiles (default: shell javafx):
+#   app-bootstrap/target/fast-start/<profile>/app.jar   thin jar with Spring AOT bean definitions
+#   app-bootstrap/target/fast-start/<profile>/lib/      runtime dependencies
+#   app-bootstrap/target/fast-start/<profile>/app.jsa   class-data-sharing archive
+# The archive is trained by starting the Spring context once and exiting after refresh.
+# Rebuild after any code or dependency change; a stale archive is ignored by the JVM.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+MAIN_CLASS="com.jabaddon.pomodorotimer.PomodoroTimerApplication"
+VERSION="1.0-SNAPSHOT"
+PROFILES=("$@")
+if [ ${#PROFILES[@]} -eq 0 ]; then
+    PROFILES=(shell javafx)
+fi
+
+cd "$ROOT"
+mvn -B -q install -DskipTests -pl app-bootstrap -am
+
+for PROFILE in "${PROFILES[@]}"; do
+    echo "==> Building AOT artifacts for profile '$PROFILE'"
+    # AOT output depends on the profile, so do not mix generated classes between builds
+    rm -rf app-bootstrap/target/classes app-bootstrap/target/spring-aot app-bootstrap/target/lib
+    mvn -B -q package -DskipTests -Paot -Daot.app.profile="$PROFILE" -pl app-bootstrap
+
+    OUT="app-bootstrap/target/fast-start/$PROFILE"
+    rm -rf "$OUT"
+    mkdir -p "$OUT"
+    cp "app-bootstrap/target/pomodoro-timer-app-bootstrap-$VERSION-aot-$PROFILE.jar" "$OUT/app.jar"
+    cp -r app-bootstrap/target/lib "$OUT/lib"
+
+    echo "==> Training CDS archive for profile '$PROFILE'"
+    # CDS only archives classes from jars, so the classpath lists every jar explicitly
+    CLASSPATH="$OUT/app.jar:$(ls "$OUT"/lib/*.jar | tr '\n' ':')"
+    java -XX:ArchiveClassesAtExit="$OUT/app.jsa" \
+        -Dspring.aot.enabled=true \
+        -Dspring.context.exit=onRefresh \
+        -Dspring.shell.interactive.enabled=false \
+        -cp "$CLASSPATH" "$MAIN_CLASS" --spring.profiles.active="$PROFILE" > "$OUT/training.log" 2>&1 \
+        || { echo "Training run failed, see $OUT/training.log"; exit 1; }
+    echo "    $(du -h "$OUT/app.jsa" | cut -f1) archive written to $OUT/app.jsa"
+done
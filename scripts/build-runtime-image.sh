@@ -0,0 +1,98 @@
+#!/bin/bash
+# Builds a self-contained runtime image per UI profile (default: shell javafx):
+#   app-bootstrap/target/runtime-image/<profile>/runtime/          jlink'd JDK (+ JavaFX for the javafx profile)
+#   app-bootstrap/target/runtime-image/<profile>/app/              thin AOT jar and the profile's dependencies
+#   app-bootstrap/target/runtime-image/<profile>/app.jsa           class-data-sharing archive for the app classes
+#   app-bootstrap/target/runtime-image/<profile>/bin/pomodoro-timer launcher
+#
+# The JDK modules come from jdeps over the profile's jars plus the modules Spring
+# loads reflectively. JavaFX ships as modular jars and is linked into the image.
+# Spring and its dependencies are automatic modules, which jlink cannot link, so
+# the application itself stays on the class path next to the image.
+# Jars only needed by the other UI profile (its adapters, JavaFX for shell) are left out.
+#
+# Reuses the artifacts of scripts/build-fast-start.sh, building them first when missing.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+MAIN_CLASS="com.jabaddon.pomodorotimer.PomodoroTimerApplication"
+PROFILES=("$@")
+if [ ${#PROFILES[@]} -eq 0 ]; then
+    PROFILES=(shell javafx)
+fi
+
+# Used by Spring, logback and Jackson without a static reference jdeps can see
+SPRING_MODULES="java.management,java.naming,java.sql,jdk.unsupported"
+
+cd "$ROOT"
+
+for PROFILE in "${PROFILES[@]}"; do
+    FAST_START="app-bootstrap/target/fast-start/$PROFILE"
+    if [ ! -f "$FAST_START/app.jar" ]; then
+        scripts/build-fast-start.sh "$PROFILE"
+    fi
+
+    OUT="app-bootstrap/target/runtime-image/$PROFILE"
+    rm -rf "$OUT"
+    mkdir -p "$OUT/app/lib" "$OUT/bin" "$OUT/jfx"
+
+    echo "==> Selecting jars for profile '$PROFILE'"
+    cp "$FAST_START/app.jar" "$OUT/app/app.jar"
+    for JAR in "$FAST_START"/lib/*.jar; do
+        NAME="$(basename "$JAR")"
+        case "$PROFILE:$NAME" in
+            shell:javafx-*|shell:pomodoro-timer-adapter-*-javafx-*) ;;
+            javafx:javafx-*) cp "$JAR" "$OUT/jfx/" ;;
+            javafx:pomodoro-timer-adapter-*-shell-*) ;;
+            javafx:pomodoro-timer-adapter-out-timerticksscheduler-java-*) ;;
+            *) cp "$JAR" "$OUT/app/lib/" ;;
+        esac
+    done
+
+    echo "==> Resolving JDK modules"
+    JDK_MODULES="$(jdeps --multi-release 21 --ignore-missing-deps --print-module-deps \
+        --module-path "$OUT/jfx" \
+        "$OUT/app/app.jar" "$OUT"/app/lib/*.jar)"
+    MODULES="$JDK_MODULES,$SPRING_MODULES"
+    if [ "$PROFILE" = "javafx" ]; then
+        MODULES="$MODULES,javafx.controls,javafx.fxml,javafx.media"
+    fi
+    echo "    $MODULES"
+
+    echo "==> Linking runtime image"
+    jlink --module-path "$OUT/jfx" \
+        --add-modules "$MODULES" \
+        --strip-debug \
+        --no-header-files \
+        --no-man-pages \
+        --generate-cds-archive \
+        --output "$OUT/runtime"
+    rm -rf "$OUT/jfx"
+
+    # CDS validates the class path, so the launcher lists the jars in the order used for training
+    CLASSPATH_JARS="app/app.jar $(cd "$OUT" && ls app/lib/*.jar | tr '\n' ' ')"
+    TRAINING_CLASSPATH="$(for JAR in $CLASSPATH_JARS; do printf '%s:' "$OUT/$JAR"; done)"
+
+    echo "==> Training CDS archive for profile '$PROFILE'"
+    "$OUT/runtime/bin/java" -XX:ArchiveClassesAtExit="$OUT/app.jsa" \
+        -Dspring.aot.enabled=true \
+        -Dspring.context.exit=onRefresh \
+        -Dspring.shell.interactive.enabled=false \
+        -cp "$TRAINING_CLASSPATH" "$MAIN_CLASS" --spring.profiles.active="$PROFILE" > "$OUT/training.log" 2>&1 \
+        || { echo "Training run failed, see $OUT/training.log"; exit 1; }
+
+    LAUNCHER_CLASSPATH="$(for JAR in $CLASSPATH_JARS; do printf '$DIR/%s:' "$JAR"; done)"
+    cat > "$OUT/bin/pomodoro-timer" <<EOF
+#!/bin/sh
+# Launches Pomodoro Timer ($PROFILE) on its bundled runtime
+DIR="\$(cd "\$(dirname "\$0")/.." && pwd)"
+exec "\$DIR/runtime/bin/java" -XX:SharedArchiveFile="\$DIR/app.jsa" -Dspring.aot.enabled=true \\
+    -cp "$LAUNCHER_CLASSPATH" \\
+    $MAIN_CLASS --spring.profiles.active=$PROFILE "\$@"
+EOF
+    chmod +x "$OUT/bin/pomodoro-timer"
+
+    echo "    image $(du -sh "$OUT" | cut -f1) (runtime $(du -sh "$OUT/runtime" | cut -f1)," \
+        "full JDK $(du -sh "$(dirname "$(dirname "$(readlink -f "$(command -v java)")")")" | cut -f1))"
+    echo "    run with $OUT/bin/pomodoro-timer"
+done
@@ -0,0 +1,19 @@
+#!/bin/bash
+# Builds the benchmarks jar and generates a synthetic timer history.
+#   scripts/generate-history.sh --records 1000000 --output /tmp/timer-history.json
+#   scripts/generate-history.sh --from 2015-01-01 --format jsonl --output history.jsonl
+#   scripts/generate-history.sh --records 5000 --format port --output ~/.pomodoro-timer-demo
+# Options: --records --from --to --format json|jsonl|port --output --backend --order newest|oldest
+#          --seed --parallelism --days-per-batch
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$ROOT"
+
+if [ ! -f benchmarks/target/benchmarks.jar ]; then
+    mvn -B -q package -DskipTests -pl benchmarks -am
+fi
+
+# shellcheck disable=SC2086
+java ${JAVA_OPTS:-} -cp benchmarks/target/benchmarks.jar \
+    com.jabaddon.pomodorotimer.benchmarks.history.GenerateHistory "$@"
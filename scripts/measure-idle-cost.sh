@@ -0,0 +1,74 @@
+#!/bin/bash
+# Measures CPU, wake-ups and threads of each UI profile while the timer is idle, running and paused.
+#   scripts/measure-idle-cost.sh [profile...]      (default: headless shell shell-watch javafx)
+#   PHASE_SECONDS=60 SETTLE_SECONDS=10 BUDGET=idle.java-wakeups=0,paused.java-wakeups=15 scripts/measure-idle-cost.sh shell
+# Every profile runs in its own JVM with an empty home directory, so the real history is not touched.
+# shell-watch needs a terminal and gets one from script(1) when there is none; javafx needs a
+# display and gets one from xvfb-run when DISPLAY is unset. Profiles that cannot run are skipped.
+# Results go to benchmarks/results/idle-cost-<profile>-<version>-<commit>.json; the script exits
+# non-zero when a profile goes over BUDGET (see IdleCostHarness for the metrics).
+# Requires scripts/build-fast-start.sh to have been run for shell (and javafx).
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+PROFILES=("$@")
+if [ ${#PROFILES[@]} -eq 0 ]; then
+    PROFILES=(headless shell shell-watch javafx)
+fi
+MAIN_CLASS="com.jabaddon.pomodorotimer.diagnostics.IdleCostHarness"
+
+cd "$ROOT"
+mkdir -p benchmarks/results
+VERSION="$(mvn -q help:evaluate -Dexpression=project.version -DforceStdout 2>/dev/null || echo unknown)"
+COMMIT="$(git rev-parse --short HEAD 2>/dev/null || date +%Y%m%d%H%M%S)"
+WORK="$(mktemp -d)"
+trap 'rm -rf "$WORK"' EXIT
+
+FAILED=0
+for PROFILE in "${PROFILES[@]}"; do
+    ARTIFACTS="app-bootstrap/target/fast-start/$([ "$PROFILE" = javafx ] && echo javafx || echo shell)"
+    if [ ! -f "$ARTIFACTS/app.jar" ]; then
+        echo "No fast-start artifacts in $ARTIFACTS; run scripts/build-fast-start.sh first" >&2
+        exit 1
+    fi
+    RESULT="benchmarks/results/idle-cost-$PROFILE-$VERSION-$COMMIT.json"
+    REPORT="$WORK/$PROFILE.txt"
+    mkdir -p "$WORK/home-$PROFILE"
+    COMMAND=(java -Duser.home="$WORK/home-$PROFILE"
+        -cp "$ARTIFACTS/app.jar:$(ls "$ARTIFACTS"/lib/*.jar | tr '\n' ':')" "$MAIN_CLASS"
+        --profile "$PROFILE"
+        --phase-seconds "${PHASE_SECONDS:-60}" --settle-seconds "${SETTLE_SECONDS:-10}"
+        --budget "${BUDGET:-}" --output "$RESULT" --report "$REPORT")
+
+    case "$PROFILE" in
+        shell-watch)
+            if [ ! -t 0 ]; then
+                if ! command -v script > /dev/null; then
+                    echo "Skipping shell-watch: no terminal and no script(1)" >&2
+                    continue
+                fi
+                COMMAND=(script -qec "$(printf '%q ' "${COMMAND[@]}")" /dev/null)
+            fi ;;
+        javafx)
+            if [ -z "${DISPLAY:-}" ]; then
+                if ! command -v xvfb-run > /dev/null; then
+                    echo "Skipping javafx: no DISPLAY and no xvfb-run" >&2
+                    continue
+                fi
+                COMMAND=(xvfb-run -a "${COMMAND[@]}")
+            fi ;;
+    esac
+
+    echo "==> Measuring '$PROFILE'"
+    # The profile's own output (and the watch mode's screen) would bury the report
+    if ! "${COMMAND[@]}" > "$WORK/$PROFILE.log" 2>&1; then
+        FAILED=1
+        grep -E "Over budget|Exception" "$WORK/$PROFILE.log" >&2 || tail -20 "$WORK/$PROFILE.log" >&2
+    fi
+    if [ -f "$REPORT" ]; then
+        cat "$REPORT"
+        echo "Results written to $RESULT"
+    fi
+    echo
+done
+exit $FAILED
@@ -0,0 +1,59 @@
+#!/bin/bash
+# Measures Spring context startup for a UI profile, with and without the fast-start artifacts.
+#   scripts/measure-startup.sh [profile] [runs]      (defaults: shell 10)
+# Each configuration runs the same jars, exits right after the context refresh
+# (-Dspring.context.exit=onRefresh) and is timed from process start to exit.
+# One discarded warm-up run per configuration keeps the file cache comparable.
+# Requires scripts/build-fast-start.sh to have been run for the profile; the runtime
+# image from scripts/build-runtime-image.sh is measured too when present.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+PROFILE="${1:-shell}"
+RUNS="${2:-10}"
+MAIN_CLASS="com.jabaddon.pomodorotimer.PomodoroTimerApplication"
+OUT="$ROOT/app-bootstrap/target/fast-start/$PROFILE"
+
+if [ ! -f "$OUT/app.jsa" ]; then
+    echo "No fast-start artifacts for '$PROFILE'; run scripts/build-fast-start.sh $PROFILE first" >&2
+    exit 1
+fi
+CLASSPATH="$OUT/app.jar:$(ls "$OUT"/lib/*.jar | tr '\n' ':')"
+JAVA=java
+
+run_once() {
+    local start end
+    start=$(date +%s%N)
+    "$JAVA" "$@" -Dspring.context.exit=onRefresh -Dspring.shell.interactive.enabled=false \
+        -cp "$CLASSPATH" "$MAIN_CLASS" --spring.profiles.active="$PROFILE" > /dev/null 2>&1
+    end=$(date +%s%N)
+    echo $(( (end - start) / 1000000 ))
+}
+
+measure() {
+    local name="$1"
+    shift
+    run_once "$@" > /dev/null
+    local times=()
+    for _ in $(seq "$RUNS"); do
+        times+=("$(run_once "$@")")
+    done
+    local sorted
+    sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+    local median="${sorted[$(( RUNS / 2 ))]}"
+    printf '%-16s min %5d ms   median %5d ms   max %5d ms\n' \
+        "$name" "${sorted[0]}" "$median" "${sorted[$(( RUNS - 1 ))]}"
+}
+
+echo "Profile '$PROFILE', $RUNS runs per configuration, $(java -version 2>&1 | head -1)"
+measure "baseline" -Xshare:auto
+measure "aot" -Dspring.aot.enabled=true
+measure "cds" -XX:SharedArchiveFile="$OUT/app.jsa"
+measure "aot+cds" -Dspring.aot.enabled=true -XX:SharedArchiveFile="$OUT/app.jsa"
+
+IMAGE="$ROOT/app-bootstrap/target/runtime-image/$PROFILE"
+if [ -x "$IMAGE/runtime/bin/java" ]; then
+    JAVA="$IMAGE/runtime/bin/java"
+    CLASSPATH="$IMAGE/app/app.jar:$(ls "$IMAGE"/app/lib/*.jar | tr '\n' ':')"
+    measure "jlink+aot+cds" -Dspring.aot.enabled=true -XX:SharedArchiveFile="$IMAGE/app.jsa"
+fi
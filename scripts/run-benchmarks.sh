@@ -0,0 +1,18 @@
+#!/bin/bash
+# Builds and runs the JMH benchmarks with GC/allocation profiling.
+#   scripts/run-benchmarks.sh [jmh options...]    e.g. scripts/run-benchmarks.sh SessionTick
+# Results go to benchmarks/results/<version>-<commit>.json; compare two runs with
+# any JMH result viewer or by diffing the "primaryMetric" and "gc.alloc.rate.norm" entries.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$ROOT"
+
+mvn -B -q package -DskipTests -pl benchmarks -am
+
+mkdir -p benchmarks/results
+VERSION="$(mvn -q help:evaluate -Dexpression=project.version -DforceStdout 2>/dev/null || echo unknown)"
+RESULT="benchmarks/results/$VERSION-$(git rev-parse --short HEAD 2>/dev/null || date +%Y%m%d%H%M%S).json"
+
+java -jar benchmarks/target/benchmarks.jar -prof gc -rf json -rff "$RESULT" "$@"
+echo "Results written to $RESULT"
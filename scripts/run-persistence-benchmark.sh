@@ -0,0 +1,20 @@
+#!/bin/bash
+# Builds the benchmarks jar and runs the persistence benchmark harness.
+#   scripts/run-persistence-benchmark.sh [options...]
+#   scripts/run-persistence-benchmark.sh --sizes 1000,100000 --operations saveRecord,loadTodayStatistics
+# Options: --backends --sizes --operations --iterations --warmup --time-budget --seed --last-day --output
+# Results go to benchmarks/results/persistence-<version>-<commit>.json unless --output is given.
+# A million records need a few GB of heap with the file backend; override with JAVA_OPTS.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$ROOT"
+
+mvn -B -q package -DskipTests -pl benchmarks -am
+
+VERSION="$(mvn -q help:evaluate -Dexpression=project.version -DforceStdout 2>/dev/null || echo unknown)"
+RESULT="benchmarks/results/persistence-$VERSION-$(git rev-parse --short HEAD 2>/dev/null || date +%Y%m%d%H%M%S).json"
+
+# shellcheck disable=SC2086
+java ${JAVA_OPTS:--Xmx4g} -cp benchmarks/target/benchmarks.jar \
+    com.jabaddon.pomodorotimer.benchmarks.persistence.PersistenceBenchmark --output "$RESULT" "$@"
@@ -0,0 +1,22 @@
+#!/bin/bash
+# Builds the benchmarks jar and runs the soak harness: weeks of simulated use on virtual time.
+#   scripts/run-soak.sh [options...]
+#   scripts/run-soak.sh --days 90 --restart-every-days 3
+# Options: --days --backend --seed --start --initial-records --restart-every-days --warmup-days
+#          --heap-tolerance --thread-slack --fd-slack --load-tolerance --output
+# Exits with 1 when heap, threads, file descriptors or history load latency keep growing.
+# Results go to benchmarks/results/soak-<version>-<commit>.json unless --output is given.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$ROOT"
+
+mvn -B -q package -DskipTests -pl benchmarks -am
+
+VERSION="$(mvn -q help:evaluate -Dexpression=project.version -DforceStdout 2>/dev/null || echo unknown)"
+RESULT="benchmarks/results/soak-$VERSION-$(git rev-parse --short HEAD 2>/dev/null || date +%Y%m%d%H%M%S).json"
+
+# A small heap makes a leak show sooner; override with JAVA_OPTS
+# shellcheck disable=SC2086
+java ${JAVA_OPTS:--Xmx256m} -cp benchmarks/target/benchmarks.jar \
+    com.jabaddon.pomodorotimer.benchmarks.soak.SoakHarness --output "$RESULT" "$@"